@@ -6,13 +6,17 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DurabilityMode;
+import seedu.address.commons.core.Config.ExpenseStore;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BackgroundSaver;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.FinanceTracker;
@@ -21,10 +25,13 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.expense.ExpenseList;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.FileStateChangeStore;
 import seedu.address.storage.FinanceTrackerStorage;
-import seedu.address.storage.JsonFinanceTrackerStorage;
+import seedu.address.storage.JournalFinanceTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedExpenseStore;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -39,6 +46,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long SAVE_TIMEOUT_MILLIS = 30000;
 
     protected Ui ui;
     protected Logic logic;
@@ -46,6 +54,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private FileStateChangeStore undoSpillStore;
+    private MappedExpenseStore expenseStore; // null if the expenses are kept on the heap
+    private BackgroundSaver saver; // null if changes are saved before each command returns
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FinanceTracker ]===========================");
@@ -56,15 +68,24 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FinanceTrackerStorage financeTrackerStorage =
-                new JsonFinanceTrackerStorage(userPrefs.getFinanceTrackerFilePath());
+        FinanceTrackerStorage financeTrackerStorage = new JournalFinanceTrackerStorage(
+                userPrefs.getFinanceTrackerFilePath(), JournalFinanceTrackerStorage.DEFAULT_COMPACTION_THRESHOLD,
+                config.getSnapshotFormat(), config.getRecentExpenseMonths());
         storage = new StorageManager(financeTrackerStorage, userPrefsStorage);
 
         initLogging(config);
 
+        undoSpillStore = new FileStateChangeStore();
+        if (config.getExpenseStore() == ExpenseStore.MAPPED) {
+            expenseStore = new MappedExpenseStore();
+        }
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        if (config.getDurabilityMode() != DurabilityMode.SYNC) {
+            saver = new BackgroundSaver(Platform::runLater, config.getDurabilityMode(),
+                    config.getGroupCommitIntervalMillis());
+        }
+        logic = new LogicManager(model, storage, saver, Platform::runLater);
 
         ui = new UiManager(logic);
     }
@@ -91,7 +112,9 @@ public class MainApp extends Application {
             initialData = new FinanceTracker();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ExpenseList expenses = expenseStore == null ? new ExpenseList() : new ExpenseList(expenseStore);
+        return new ModelManager(initialData, userPrefs, expenses, undoSpillStore, config.getMaxUndoStatesInMemory(),
+                config.getMaxUndoElementsInMemory());
     }
 
     private void initLogging(Config config) {
@@ -175,11 +198,31 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Finance Tracker ] =============================");
+        try {
+            if (saver != null && !saver.shutdown(SAVE_TIMEOUT_MILLIS)) {
+                logger.severe("Timed out waiting for data to be saved");
+            }
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while waiting for data to be saved " + StringUtil.getDetails(e));
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            undoSpillStore.close();
+        } catch (IOException e) {
+            logger.warning("Failed to delete undo history file " + StringUtil.getDetails(e));
+        }
+        try {
+            if (expenseStore != null) {
+                expenseStore.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete expense store files " + StringUtil.getDetails(e));
+        }
     }
 
     public static void main(String[] args) {
@@ -10,11 +10,51 @@ import java.util.logging.Level;
  */
 public class Config {
 
+    /**
+     * How long changes to the finance tracker may wait before they are saved to the disk.
+     */
+    public enum DurabilityMode {
+        /** Changes are saved before each command returns. */
+        SYNC,
+        /** Changes are saved in the background, with the changes made within each interval saved together. */
+        GROUP_COMMIT,
+        /** Changes are only saved when the app is closed. */
+        ON_EXIT
+    }
+
+    /**
+     * The format that snapshots of the finance tracker are written in.
+     */
+    public enum SnapshotFormat {
+        /** Human-readable json, with the expenses split into a file per month. */
+        JSON,
+        /** A compact binary file, which is smaller and much faster to load. */
+        BINARY
+    }
+
+    /**
+     * Where the expenses of the finance tracker are kept while the app is running.
+     */
+    public enum ExpenseStore {
+        /** As objects on the heap. */
+        HEAP,
+        /** As records in a memory-mapped file, so that more expenses can be held than fit in the heap. */
+        MAPPED
+    }
+
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int maxUndoStatesInMemory = 100;
+    private long maxUndoElementsInMemory = 100000;
+    private DurabilityMode durabilityMode = DurabilityMode.GROUP_COMMIT;
+    private long groupCommitIntervalMillis = 500;
+    private SnapshotFormat snapshotFormat = SnapshotFormat.JSON;
+    private ExpenseStore expenseStore = ExpenseStore.HEAP;
+    // the number of recent months whose expenses are loaded at startup, or 0 to load every month
+    private int recentExpenseMonths = 3;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +72,62 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getMaxUndoStatesInMemory() {
+        return maxUndoStatesInMemory;
+    }
+
+    public void setMaxUndoStatesInMemory(int maxUndoStatesInMemory) {
+        this.maxUndoStatesInMemory = maxUndoStatesInMemory;
+    }
+
+    public long getMaxUndoElementsInMemory() {
+        return maxUndoElementsInMemory;
+    }
+
+    public void setMaxUndoElementsInMemory(long maxUndoElementsInMemory) {
+        this.maxUndoElementsInMemory = maxUndoElementsInMemory;
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    public long getGroupCommitIntervalMillis() {
+        return groupCommitIntervalMillis;
+    }
+
+    public void setGroupCommitIntervalMillis(long groupCommitIntervalMillis) {
+        this.groupCommitIntervalMillis = groupCommitIntervalMillis;
+    }
+
+    public SnapshotFormat getSnapshotFormat() {
+        return snapshotFormat;
+    }
+
+    public void setSnapshotFormat(SnapshotFormat snapshotFormat) {
+        this.snapshotFormat = snapshotFormat;
+    }
+
+    public ExpenseStore getExpenseStore() {
+        return expenseStore;
+    }
+
+    public void setExpenseStore(ExpenseStore expenseStore) {
+        this.expenseStore = expenseStore;
+    }
+
+    public int getRecentExpenseMonths() {
+        return recentExpenseMonths;
+    }
+
+    public void setRecentExpenseMonths(int recentExpenseMonths) {
+        this.recentExpenseMonths = recentExpenseMonths;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +140,20 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && maxUndoStatesInMemory == o.maxUndoStatesInMemory
+                && maxUndoElementsInMemory == o.maxUndoElementsInMemory
+                && durabilityMode == o.durabilityMode
+                && groupCommitIntervalMillis == o.groupCommitIntervalMillis
+                && snapshotFormat == o.snapshotFormat
+                && expenseStore == o.expenseStore
+                && recentExpenseMonths == o.recentExpenseMonths;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxUndoStatesInMemory, maxUndoElementsInMemory,
+                durabilityMode, groupCommitIntervalMillis, snapshotFormat, expenseStore, recentExpenseMonths);
     }
 
     @Override
@@ -57,6 +161,13 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo states kept in memory : " + maxUndoStatesInMemory);
+        sb.append("\nUndo elements kept in memory : " + maxUndoElementsInMemory);
+        sb.append("\nDurability mode : " + durabilityMode);
+        sb.append("\nGroup commit interval (ms) : " + groupCommitIntervalMillis);
+        sb.append("\nSnapshot format : " + snapshotFormat);
+        sb.append("\nExpense store : " + expenseStore);
+        sb.append("\nRecent months of expenses loaded : " + recentExpenseMonths);
         return sb.toString();
     }
 
@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+/**
+ * A Fenwick tree (binary indexed tree) of sums over integer keys, so that a value can be added at a key and the
+ * values within a range of keys can be summed in logarithmic time.
+ * The range of keys covered grows in either direction as values are added at keys outside of it.
+ */
+public class FenwickTree {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int lowestKey;
+    private long[] values = new long[0];
+    private long[] tree = new long[1]; // 1-based, tree[i] sums values (i - lowbit(i), i]
+
+    /**
+     * Adds {@code delta} to the value at {@code key}.
+     */
+    public void add(int key, long delta) {
+        if (values.length == 0 || key < lowestKey || key >= lowestKey + values.length) {
+            growToInclude(key);
+        }
+        values[key - lowestKey] += delta;
+        for (int i = key - lowestKey + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the values at keys from {@code fromKey} to {@code toKey}, both inclusive.
+     * Returns 0 if {@code fromKey} is greater than {@code toKey}.
+     */
+    public long sum(int fromKey, int toKey) {
+        if (fromKey > toKey) {
+            return 0;
+        }
+        return sumUpTo(toKey) - sumUpTo((long) fromKey - 1);
+    }
+
+    /**
+     * Returns the sum of the values at keys up to {@code key}, inclusive.
+     */
+    private long sumUpTo(long key) {
+        long position = Math.min(key - lowestKey + 1, values.length);
+        long sum = 0;
+        for (int i = (int) Math.max(position, 0); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Enlarges the range of keys covered to include {@code key}, at least doubling its size so that the cost of
+     * rebuilding the tree is amortised over the additions that follow.
+     */
+    private void growToInclude(int key) {
+        int capacity = Math.max(MIN_CAPACITY, 2 * values.length);
+        int newLowestKey;
+        if (values.length == 0) {
+            newLowestKey = key - capacity / 2;
+        } else if (key < lowestKey) {
+            int highestKey = lowestKey + values.length - 1;
+            capacity = Math.max(capacity, highestKey - key + 1);
+            newLowestKey = highestKey - capacity + 1;
+        } else {
+            capacity = Math.max(capacity, key - lowestKey + 1);
+            newLowestKey = lowestKey;
+        }
+
+        long[] newValues = new long[capacity];
+        if (values.length > 0) {
+            System.arraycopy(values, 0, newValues, lowestKey - newLowestKey, values.length);
+        }
+        values = newValues;
+        lowestKey = newLowestKey;
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the tree from the values in linear time.
+     */
+    private void rebuild() {
+        tree = new long[values.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += values[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
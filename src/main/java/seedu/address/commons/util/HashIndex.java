@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Counts the elements of an {@code ObservableList} by a key extracted from each element, so that whether the list
+ * contains an element with a given key can be answered in constant expected time.
+ * The counts are kept up to date by listening to the list, so every kind of change to the list is reflected.
+ *
+ * The extracted keys must have consistent {@code equals} and {@code hashCode} methods, and must not change while
+ * their element is in the list.
+ */
+public class HashIndex<T> {
+
+    private final Map<Object, Integer> counts = new HashMap<>();
+    private final Function<? super T, ?> keyExtractor;
+
+    /**
+     * Creates an index of {@code list} by the keys extracted with {@code keyExtractor}.
+     */
+    public HashIndex(ObservableList<T> list, Function<? super T, ?> keyExtractor) {
+        requireAllNonNull(list, keyExtractor);
+        this.keyExtractor = keyExtractor;
+        list.forEach(this::increment);
+        list.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns true if the list contains an element with the same key as {@code element}.
+     */
+    public boolean containsKeyOf(T element) {
+        return counts.containsKey(keyExtractor.apply(element));
+    }
+
+    /**
+     * Returns the number of elements in the list with the same key as {@code element}.
+     */
+    public int countKeyOf(T element) {
+        return counts.getOrDefault(keyExtractor.apply(element), 0);
+    }
+
+    /**
+     * Updates the counts with the elements removed from and added to the list by {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::decrement);
+            change.getAddedSubList().forEach(this::increment);
+        }
+    }
+
+    /**
+     * Counts one more element with the key of {@code element}.
+     */
+    private void increment(T element) {
+        counts.merge(keyExtractor.apply(element), 1, Integer::sum);
+    }
+
+    /**
+     * Counts one less element with the key of {@code element}.
+     */
+    private void decrement(T element) {
+        counts.computeIfPresent(keyExtractor.apply(element), (key, count) -> count == 1 ? null : count - 1);
+    }
+}
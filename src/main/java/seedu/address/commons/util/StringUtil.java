@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,47 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains any of the {@code words}.
+     *   Ignores case, but a full word match is required, as in {@link #containsWordIgnoreCase(String, String)}.
+     *   The sentence is scanned in place rather than split, so that it can be tested against many sentences, such as
+     *   when filtering a long list, without allocating.
+     * @param sentence cannot be null
+     * @param words cannot be null, each word must be a single non-empty word, and surrounding whitespace is ignored
+     */
+    public static boolean containsAnyWordIgnoreCase(String sentence, List<String> words) {
+        requireNonNull(sentence);
+        requireNonNull(words);
+
+        int wordStart = 0;
+        while (wordStart < sentence.length()) {
+            if (isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+                continue;
+            }
+            int wordEnd = wordStart + 1;
+            while (wordEnd < sentence.length() && !isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            for (String word : words) {
+                String preppedWord = word.trim();
+                if (preppedWord.length() == wordEnd - wordStart
+                        && sentence.regionMatches(true, wordStart, preppedWord, 0, preppedWord.length())) {
+                    return true;
+                }
+            }
+            wordStart = wordEnd;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A text template with named slots, written as {@code $name} where the name is made up of letters and digits.
+ * The template is parsed once into the literal text between its slots, so that rendering it only appends the
+ * literals and the values of the slots to a single {@code StringBuilder}.
+ */
+public class Template {
+
+    private static final char SLOT_MARKER = '$';
+
+    private final String[] literals; // literals[i] comes before slotNames[i], and the last literal after all slots
+    private final String[] slotNames;
+    private final int literalsLength;
+
+    /**
+     * Creates a template from the literals and slot names in the order they appear in the text.
+     */
+    private Template(List<String> literals, List<String> slotNames) {
+        this.literals = literals.toArray(new String[0]);
+        this.slotNames = slotNames.toArray(new String[0]);
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Parses {@code text} into a template.
+     * A {@code $} that is not followed by a letter or digit is kept as it is.
+     */
+    public static Template parse(String text) {
+        requireNonNull(text);
+        List<String> literals = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+        int literalStart = 0;
+        int marker = text.indexOf(SLOT_MARKER);
+        while (marker != -1) {
+            int nameEnd = marker + 1;
+            while (nameEnd < text.length() && Character.isLetterOrDigit(text.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            if (nameEnd > marker + 1) {
+                literals.add(text.substring(literalStart, marker));
+                slotNames.add(text.substring(marker + 1, nameEnd));
+                literalStart = nameEnd;
+            }
+            marker = text.indexOf(SLOT_MARKER, nameEnd);
+        }
+        literals.add(text.substring(literalStart));
+        return new Template(literals, slotNames);
+    }
+
+    /**
+     * Reads the UTF-8 text at {@code url} and parses it into a template.
+     * @throws IOException if the text cannot be read.
+     */
+    public static Template load(URL url) throws IOException {
+        requireNonNull(url);
+        try (InputStream inputStream = url.openStream()) {
+            return parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Returns the template with each slot replaced by its value in {@code values}.
+     * Slots without a value are kept as they are.
+     */
+    public String render(Map<String, String> values) {
+        requireNonNull(values);
+        int valuesLength = 0;
+        for (String value : values.values()) {
+            valuesLength += value.length();
+        }
+        StringBuilder builder = new StringBuilder(literalsLength + valuesLength);
+        renderTo(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the template to {@code builder}, with each slot replaced by its value in {@code values}.
+     * Slots without a value are kept as they are.
+     */
+    public void renderTo(StringBuilder builder, Map<String, String> values) {
+        requireNonNull(builder);
+        requireNonNull(values);
+        for (int i = 0; i < slotNames.length; i++) {
+            builder.append(literals[i]);
+            String value = values.get(slotNames[i]);
+            if (value == null) {
+                builder.append(SLOT_MARKER).append(slotNames[i]);
+            } else {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[slotNames.length]);
+    }
+}
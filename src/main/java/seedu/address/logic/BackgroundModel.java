@@ -0,0 +1,503 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.FinanceTrackerBatch;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Frequency;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+import seedu.address.model.statistics.Statistics;
+
+/**
+ * The model as seen by a command that runs on a background thread, while the model itself belongs to another thread,
+ * which is normally the JavaFX application thread.
+ *
+ * The command reads the model directly, as nothing else changes the model while it runs. The changes that it makes are
+ * collected, and are made together on the model's thread when the command next reads the model or finishes, so that
+ * the UI is updated once for all of them. The command waits for its changes to be made, so it always reads the model as
+ * it left it. Undoing and redoing are made at once, as the command handles their failures.
+ *
+ * Once the command is cancelled, it is stopped the next time it uses the model, and the changes that it has not had
+ * made yet are dropped.
+ */
+class BackgroundModel implements Model {
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private volatile boolean isCancelled;
+    private Thread commandThread; // the thread running the command, or null if it is not running
+
+    /**
+     * Creates a view of {@code model} whose changes are made by tasks run on {@code modelExecutor}, which must run
+     * them on the thread that {@code model} belongs to.
+     */
+    BackgroundModel(Model model, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Executes {@code command} against this model on the current thread, and then has the changes that it has not had
+     * made yet made. The thread is interrupted if the command is cancelled while it runs.
+     */
+    CommandResult run(Command command, CommandHistory history) throws CommandException {
+        synchronized (this) {
+            commandThread = Thread.currentThread();
+            if (isCancelled) {
+                commandThread.interrupt();
+            }
+        }
+        try {
+            CommandResult commandResult = command.execute(this, history);
+            flush();
+            return commandResult;
+        } finally {
+            synchronized (this) {
+                commandThread = null;
+                // clears an interrupt from a cancellation that came too late to stop the command
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Cancels the command, which stops the next time it uses the model.
+     * May be called from any thread.
+     */
+    synchronized void cancel() {
+        isCancelled = true;
+        if (commandThread != null) {
+            commandThread.interrupt();
+        }
+    }
+
+    /**
+     * Drops the changes that the command has not had made yet, and discards the ones that it has had made since the
+     * model was last committed, even if the command has been cancelled.
+     */
+    void discardChanges() {
+        pendingChanges.clear();
+        apply(Collections.singletonList(model::discardFinanceTrackerChanges));
+    }
+
+    /**
+     * Has the changes collected so far made on the model's thread, and waits for them to be made.
+     *
+     * @throws CommandCancelledException if the command has been cancelled, in which case the changes are dropped.
+     */
+    void flush() {
+        if (isCancelled) {
+            pendingChanges.clear();
+            throw new CommandCancelledException();
+        }
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        List<Runnable> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        apply(changes);
+    }
+
+    /**
+     * Makes {@code changes} to the model, in order, on the model's thread, and waits for them to be made.
+     * If one of them fails, the later ones are not made, and its exception is rethrown.
+     */
+    private void apply(List<Runnable> changes) {
+        try {
+            CompletableFuture.runAsync(() -> changes.forEach(Runnable::run), modelExecutor).join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            }
+            if (ce.getCause() instanceof Error) {
+                throw (Error) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * Collects {@code change} to be made with the other changes of the command.
+     */
+    private void change(Runnable change) {
+        if (isCancelled) {
+            throw new CommandCancelledException();
+        }
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Returns what {@code reader} reads from the model, after the changes collected so far have been made.
+     */
+    private <T> T read(Supplier<T> reader) {
+        flush();
+        return reader.get();
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        change(() -> model.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return read(model::getUserPrefs);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return read(model::getGuiSettings);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        change(() -> model.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public Path getFinanceTrackerFilePath() {
+        return read(model::getFinanceTrackerFilePath);
+    }
+
+    @Override
+    public void setFinanceTrackerFilePath(Path financeTrackerFilePath) {
+        change(() -> model.setFinanceTrackerFilePath(financeTrackerFilePath));
+    }
+
+    //=========== FinanceTracker ================================================================================
+
+    @Override
+    public void setFinanceTracker(ReadOnlyFinanceTracker financeTracker) {
+        change(() -> model.setFinanceTracker(financeTracker));
+    }
+
+    @Override
+    public ReadOnlyFinanceTracker getFinanceTracker() {
+        return read(model::getFinanceTracker);
+    }
+
+    @Override
+    public void batch(Consumer<FinanceTrackerBatch> changes) {
+        change(() -> model.batch(changes));
+    }
+
+    //=========== Statistics ====================================================================================
+
+    @Override
+    public void calculateStatistics(String command, Date date1, Date date2, Frequency frequency) {
+        // only loading the expenses and showing the statistics are made on the model's thread
+        loadExpensesFrom(date1.compareTo(date2) <= 0 ? date1 : date2);
+        setStatistics(computeStatistics(command, date1, date2, frequency));
+    }
+
+    @Override
+    public Statistics computeStatistics(String command, Date date1, Date date2, Frequency frequency) {
+        return read(() -> model.computeStatistics(command, date1, date2, frequency));
+    }
+
+    @Override
+    public ReadOnlyProperty<Statistics> statisticsProperty() {
+        return read(model::statisticsProperty);
+    }
+
+    @Override
+    public void setStatistics(Statistics statistics) {
+        change(() -> model.setStatistics(statistics));
+    }
+
+    //=========== Expenses ======================================================================================
+
+    @Override
+    public boolean hasExpense(Expense expense) {
+        return read(() -> model.hasExpense(expense));
+    }
+
+    @Override
+    public void deleteExpense(Expense target) {
+        change(() -> model.deleteExpense(target));
+    }
+
+    @Override
+    public void addExpense(Expense expense) {
+        change(() -> model.addExpense(expense));
+    }
+
+    @Override
+    public void setExpense(Expense target, Expense editedExpense) {
+        change(() -> model.setExpense(target, editedExpense));
+    }
+
+    @Override
+    public void loadExpensesFrom(Date date) {
+        change(() -> model.loadExpensesFrom(date));
+    }
+
+    @Override
+    public void loadAllExpenses() {
+        change(model::loadAllExpenses);
+    }
+
+    @Override
+    public ObservableList<Expense> getFilteredExpenseList() {
+        return read(() -> new FlushingList<>(model.getFilteredExpenseList()));
+    }
+
+    @Override
+    public void updateFilteredExpenseList(Predicate<Expense> predicate) {
+        change(() -> model.updateFilteredExpenseList(predicate));
+    }
+
+    //=========== Debts ========================================================================================
+
+    @Override
+    public boolean hasDebt(Debt debt) {
+        return read(() -> model.hasDebt(debt));
+    }
+
+    @Override
+    public void deleteDebt(Debt target) {
+        change(() -> model.deleteDebt(target));
+    }
+
+    @Override
+    public void addDebt(Debt debt) {
+        change(() -> model.addDebt(debt));
+    }
+
+    @Override
+    public void setDebt(Debt target, Debt editedDebt) {
+        change(() -> model.setDebt(target, editedDebt));
+    }
+
+    @Override
+    public ObservableList<Debt> getFilteredDebtList() {
+        return read(() -> new FlushingList<>(model.getFilteredDebtList()));
+    }
+
+    @Override
+    public void updateFilteredDebtList(Predicate<Debt> predicate) {
+        change(() -> model.updateFilteredDebtList(predicate));
+    }
+
+    //=========== Budgets ========================================================================================
+
+    @Override
+    public boolean hasBudget(Budget budget) {
+        return read(() -> model.hasBudget(budget));
+    }
+
+    @Override
+    public void deleteBudget(Budget target) {
+        change(() -> model.deleteBudget(target));
+    }
+
+    @Override
+    public void addBudget(Budget budget) {
+        change(() -> model.addBudget(budget));
+    }
+
+    @Override
+    public void setBudget(Budget target, Budget editedBudget) {
+        change(() -> model.setBudget(target, editedBudget));
+    }
+
+    @Override
+    public ObservableList<Budget> getFilteredBudgetList() {
+        return read(() -> new FlushingList<>(model.getFilteredBudgetList()));
+    }
+
+    @Override
+    public void updateFilteredBudgetList(Predicate<Budget> predicate) {
+        change(() -> model.updateFilteredBudgetList(predicate));
+    }
+
+    //=========== Recurrings ========================================================================================
+
+    @Override
+    public boolean hasRecurring(Recurring recurring) {
+        return read(() -> model.hasRecurring(recurring));
+    }
+
+    @Override
+    public void deleteRecurring(Recurring target) {
+        change(() -> model.deleteRecurring(target));
+    }
+
+    @Override
+    public void addRecurring(Recurring recurring) {
+        change(() -> model.addRecurring(recurring));
+    }
+
+    @Override
+    public void setRecurring(Recurring target, Recurring editedRecurring) {
+        change(() -> model.setRecurring(target, editedRecurring));
+    }
+
+    @Override
+    public ObservableList<Recurring> getFilteredRecurringList() {
+        return read(() -> new FlushingList<>(model.getFilteredRecurringList()));
+    }
+
+    @Override
+    public void updateFilteredRecurringList(Predicate<Recurring> predicate) {
+        change(() -> model.updateFilteredRecurringList(predicate));
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoFinanceTracker() {
+        return read(model::canUndoFinanceTracker);
+    }
+
+    @Override
+    public boolean canRedoFinanceTracker() {
+        return read(model::canRedoFinanceTracker);
+    }
+
+    @Override
+    public void undoFinanceTracker() {
+        change(model::undoFinanceTracker);
+        flush();
+    }
+
+    @Override
+    public void redoFinanceTracker() {
+        change(model::redoFinanceTracker);
+        flush();
+    }
+
+    @Override
+    public void commitFinanceTracker() {
+        change(model::commitFinanceTracker);
+    }
+
+    @Override
+    public void discardFinanceTrackerChanges() {
+        change(model::discardFinanceTrackerChanges);
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty() {
+        return read(model::undoHistorySizeInMemoryProperty);
+    }
+
+    //=========== Selected items ===========================================================================
+
+    @Override
+    public ReadOnlyProperty<Expense> selectedExpenseProperty() {
+        return read(model::selectedExpenseProperty);
+    }
+
+    @Override
+    public Expense getSelectedExpense() {
+        return read(model::getSelectedExpense);
+    }
+
+    @Override
+    public void setSelectedExpense(Expense expense) {
+        change(() -> model.setSelectedExpense(expense));
+    }
+
+    @Override
+    public ReadOnlyProperty<Debt> selectedDebtProperty() {
+        return read(model::selectedDebtProperty);
+    }
+
+    @Override
+    public Debt getSelectedDebt() {
+        return read(model::getSelectedDebt);
+    }
+
+    @Override
+    public void setSelectedDebt(Debt debt) {
+        change(() -> model.setSelectedDebt(debt));
+    }
+
+    @Override
+    public ReadOnlyProperty<Budget> selectedBudgetProperty() {
+        return read(model::selectedBudgetProperty);
+    }
+
+    @Override
+    public Budget getSelectedBudget() {
+        return read(model::getSelectedBudget);
+    }
+
+    @Override
+    public void setSelectedBudget(Budget budget) {
+        change(() -> model.setSelectedBudget(budget));
+    }
+
+    @Override
+    public ReadOnlyProperty<Recurring> selectedRecurringProperty() {
+        return read(model::selectedRecurringProperty);
+    }
+
+    @Override
+    public Recurring getSelectedRecurring() {
+        return read(model::getSelectedRecurring);
+    }
+
+    @Override
+    public void setSelectedRecurring(Recurring recurring) {
+        change(() -> model.setSelectedRecurring(recurring));
+    }
+
+    /**
+     * An unmodifiable view of a list of the model that has the changes collected so far made before it is read, so
+     * that a command that holds on to the list still reads it as the command left it.
+     * Listeners are never notified, as the list is only read by the command.
+     */
+    private class FlushingList<E> extends ObservableListBase<E> {
+        private final ObservableList<E> source;
+
+        FlushingList(ObservableList<E> source) {
+            this.source = source;
+        }
+
+        @Override
+        public E get(int index) {
+            flush();
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            flush();
+            return source.size();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.core.Config.DurabilityMode;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.storage.PendingSave;
+
+/**
+ * Writes saves to the storage one at a time, in the order they are submitted, on a background thread, so that
+ * commands do not wait for the disk.
+ * Requests to save are coalesced according to the {@code DurabilityMode}: in group commit mode, all the requests
+ * made within an interval of the first one are written as a single save, and in on exit mode, nothing is written
+ * until the saver is shut down.
+ * Whether there are saves that have not been written yet, and the latest save that failed, are published as
+ * properties on the thread that results are reported on, which is normally the JavaFX application thread.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final ExecutorService writer;
+    private final Executor resultExecutor;
+    private final Executor groupCommitExecutor;
+    private final DurabilityMode durabilityMode;
+    private final SimpleBooleanProperty saving = new SimpleBooleanProperty(false);
+    private final SimpleObjectProperty<IOException> saveFailure = new SimpleObjectProperty<>();
+    private int pendingSaveCount;
+    private Supplier<PendingSave> pendingRequest;
+    private boolean isCommitScheduled;
+
+    /**
+     * Creates a saver that writes on its own daemon thread and reports results through {@code resultExecutor},
+     * coalescing requests to save according to {@code durabilityMode}, over {@code groupCommitIntervalMillis}
+     * milliseconds in group commit mode.
+     */
+    public BackgroundSaver(Executor resultExecutor, DurabilityMode durabilityMode, long groupCommitIntervalMillis) {
+        this(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Finance Tracker saver");
+            thread.setDaemon(true);
+            return thread;
+        }), resultExecutor, CompletableFuture.delayedExecutor(groupCommitIntervalMillis, TimeUnit.MILLISECONDS,
+                resultExecutor), durabilityMode);
+    }
+
+    /**
+     * Creates a saver that writes on {@code writer}, which must run its tasks one at a time in the order they are
+     * submitted, and reports results through {@code resultExecutor}.
+     * In group commit mode, the requests to save are committed by a task run on {@code groupCommitExecutor}, which
+     * must run it on the thread that results are reported on.
+     */
+    BackgroundSaver(ExecutorService writer, Executor resultExecutor, Executor groupCommitExecutor,
+                    DurabilityMode durabilityMode) {
+        requireNonNull(writer);
+        requireNonNull(resultExecutor);
+        requireNonNull(groupCommitExecutor);
+        requireNonNull(durabilityMode);
+        this.writer = writer;
+        this.resultExecutor = resultExecutor;
+        this.groupCommitExecutor = groupCommitExecutor;
+        this.durabilityMode = durabilityMode;
+    }
+
+    /**
+     * Requests that the latest changes are saved, with the save to be written prepared by {@code preparer} when the
+     * request is committed.
+     * Only the latest request that has not been committed yet is kept, as it saves the changes of all the earlier
+     * ones too.
+     * Must be called on the thread that results are reported on.
+     */
+    public void requestSave(Supplier<PendingSave> preparer) {
+        requireNonNull(preparer);
+        pendingRequest = preparer;
+        switch (durabilityMode) {
+        case ON_EXIT:
+            break;
+        case GROUP_COMMIT:
+            if (!isCommitScheduled) {
+                isCommitScheduled = true;
+                saving.set(true);
+                groupCommitExecutor.execute(this::commit);
+            }
+            break;
+        case SYNC:
+        default:
+            commit();
+            break;
+        }
+    }
+
+    /**
+     * Submits the save prepared by the request that has not been committed yet, if there is one.
+     */
+    private void commit() {
+        isCommitScheduled = false;
+        if (pendingRequest != null) {
+            PendingSave save = pendingRequest.get();
+            pendingRequest = null;
+            submit(save);
+        }
+        saving.set(pendingSaveCount > 0);
+    }
+
+    /**
+     * Writes {@code save} after the saves submitted before it.
+     * Must be called on the thread that results are reported on.
+     */
+    public void submit(PendingSave save) {
+        requireNonNull(save);
+        pendingSaveCount++;
+        saving.set(true);
+        writer.execute(() -> {
+            IOException failure = null;
+            try {
+                save.write();
+            } catch (IOException ioe) {
+                logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+                failure = ioe;
+            }
+            IOException result = failure;
+            resultExecutor.execute(() -> onWritten(result));
+        });
+    }
+
+    /**
+     * Records that a save has been written, failing with {@code failure} if it is not null.
+     */
+    private void onWritten(IOException failure) {
+        pendingSaveCount--;
+        saving.set(pendingSaveCount > 0 || isCommitScheduled);
+        if (failure != null) {
+            saveFailure.set(failure);
+        }
+    }
+
+    /**
+     * True while there are saves that have not been written yet, including requests waiting to be committed in
+     * group commit mode.
+     */
+    public ReadOnlyBooleanProperty savingProperty() {
+        return saving;
+    }
+
+    /**
+     * The latest save that failed, or null if no save has failed.
+     */
+    public ReadOnlyObjectProperty<IOException> saveFailureProperty() {
+        return saveFailure;
+    }
+
+    /**
+     * Commits the request that has not been committed yet, if there is one, stops accepting saves, and waits up to
+     * {@code timeoutMillis} milliseconds for the saves already submitted to be written.
+     * Returns true if all of them were written in time.
+     * Must be called on the thread that results are reported on.
+     */
+    public boolean shutdown(long timeoutMillis) throws InterruptedException {
+        commit();
+        writer.shutdown();
+        return writer.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
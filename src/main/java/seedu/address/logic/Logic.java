@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -28,6 +33,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in the background, without blocking the calling thread, which must be the thread that
+     * the model belongs to. Only one command can run in the background at a time.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which is completed on the model's thread, or completed
+     *     exceptionally with a {@code CommandException} or {@code ParseException} if the command fails, is cancelled,
+     *     or another command is still running.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Cancels the command running in the background, if any. The changes it has made so far are discarded.
+     */
+    void cancelCommand();
+
+    /** Returns a property that is true while a command is running in the background */
+    ReadOnlyBooleanProperty commandRunningProperty();
+
     /**
      * Returns the FinanceTracker.
      *
@@ -128,6 +151,24 @@ public interface Logic {
      */
     void setSelectedRecurring(Recurring recurring);
 
+    /**
+     * Number of finance tracker states for undo/redo that are currently held in memory.
+     *
+     * @see seedu.address.model.Model#undoHistorySizeInMemoryProperty()
+     */
+    ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty();
+
+    /**
+     * True while changes to the finance tracker are still being saved in the background.
+     */
+    ReadOnlyBooleanProperty savingProperty();
+
+    /**
+     * The latest failure to save changes to the finance tracker in the background.
+     * null if no such save has failed.
+     */
+    ReadOnlyObjectProperty<IOException> saveFailureProperty();
+
     /**
      * Selected Statistics
      * null if no Statistics has been generated.
@@ -1,15 +1,26 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.FinanceTrackerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -18,6 +29,8 @@ import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException;
+import seedu.address.model.expense.exceptions.ExpenseStoreFullException;
 import seedu.address.model.recurring.Recurring;
 import seedu.address.model.statistics.Statistics;
 import seedu.address.storage.Storage;
@@ -27,17 +40,67 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String EXPENSE_STORE_FULL_ERROR_MESSAGE =
+            "There is no room left to store more expenses, so the command was not carried out.";
+    public static final String EXPENSE_ARCHIVE_UNREADABLE_ERROR_MESSAGE =
+            "Could not load the expenses of earlier months, so the command was not carried out.";
+    public static final String COMMAND_CANCELLED_MESSAGE = "The command was cancelled, so it was not carried out.";
+    public static final String COMMAND_RUNNING_ERROR_MESSAGE =
+            "Another command is still running. Press Esc to cancel it.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
     private final FinanceTrackerParser financeTrackerParser;
+    private final BackgroundSaver saver;
+    private final Executor commandExecutor;
+    private final Executor resultExecutor;
+    private final SimpleBooleanProperty commandRunning = new SimpleBooleanProperty(false);
+    private BackgroundModel runningCommandModel; // the model of the command running in the background, if any
     private boolean financeTrackerModified;
 
+    /**
+     * Creates a LogicManager that saves changes to the finance tracker before each command returns.
+     */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Creates a LogicManager that hands the changes made by each command to {@code saver} to be saved in the
+     * background, or saves them before each command returns if {@code saver} is null.
+     * Commands executed in the background are run on the calling thread.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver) {
+        this(model, storage, saver, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Creates a LogicManager as above, that runs commands executed in the background on its own daemon thread, and
+     * makes their changes to the model and reports their results through {@code resultExecutor}, which must run tasks
+     * on the thread that the model belongs to.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver, Executor resultExecutor) {
+        this(model, storage, saver, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Finance Tracker command runner");
+            thread.setDaemon(true);
+            return thread;
+        }), resultExecutor);
+    }
+
+    /**
+     * Creates a LogicManager as above, that runs commands executed in the background on {@code commandExecutor}.
+     */
+    LogicManager(Model model, Storage storage, BackgroundSaver saver, Executor commandExecutor,
+                 Executor resultExecutor) {
+        requireNonNull(commandExecutor);
+        requireNonNull(resultExecutor);
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.commandExecutor = commandExecutor;
+        this.resultExecutor = resultExecutor;
         history = new CommandHistory();
         financeTrackerParser = new FinanceTrackerParser();
 
@@ -60,10 +123,127 @@ public class LogicManager implements Logic {
         } catch (ParseException pe) {
             //commandResult = new CommandResult(pe.getMessage(), false, false);
             throw new ParseException(pe.getMessage());
+        } catch (ExpenseStoreFullException | ExpenseArchiveUnreadableException e) {
+            throw discardChanges(e, model::discardFinanceTrackerChanges);
         }
         history.add(commandText);
 
+        if (saver != null) {
+            requestSaveIfModified();
+        } else {
+            saveIfModified();
+        }
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (commandRunning.get()) {
+            result.completeExceptionally(new CommandException(COMMAND_RUNNING_ERROR_MESSAGE));
+            return result;
+        }
+
+        logger.info("----------------[USER COMMAND IN BACKGROUND][" + commandText + "]");
+        financeTrackerModified = false;
+        BackgroundModel backgroundModel = new BackgroundModel(model, resultExecutor);
+        runningCommandModel = backgroundModel;
+        commandRunning.set(true);
 
+        commandExecutor.execute(() -> {
+            CommandResult commandResult = null;
+            Throwable failure = null;
+            try {
+                commandResult = runInBackground(commandText, backgroundModel);
+                if (saver == null) {
+                    saveIfModified();
+                }
+            } catch (CommandException | ParseException | RuntimeException | Error e) {
+                failure = e;
+            }
+
+            CommandResult finishedResult = commandResult;
+            Throwable finishedFailure = failure;
+            resultExecutor.execute(() -> finishInBackground(commandText, finishedResult, finishedFailure, result));
+        });
+        return result;
+    }
+
+    /**
+     * Parses and executes {@code commandText} against {@code backgroundModel}, on the current background thread.
+     * If the command is cancelled or fails in a way that leaves the model changed, its changes are discarded.
+     */
+    private CommandResult runInBackground(String commandText, BackgroundModel backgroundModel)
+            throws CommandException, ParseException {
+        try {
+            Command command = financeTrackerParser.parseCommand(commandText);
+            return backgroundModel.run(command, history);
+        } catch (CommandCancelledException | ExpenseStoreFullException | ExpenseArchiveUnreadableException e) {
+            throw discardChanges(e, backgroundModel::discardChanges);
+        }
+    }
+
+    /**
+     * Finishes the command {@code commandText} that ran in the background by completing {@code result} with its
+     * {@code commandResult}, or with its {@code failure} if it failed. The command is added to the history if it was
+     * carried out, even if saving its changes failed.
+     */
+    private void finishInBackground(String commandText, CommandResult commandResult, Throwable failure,
+                                    CompletableFuture<CommandResult> result) {
+        runningCommandModel = null;
+        if (commandResult != null) {
+            history.add(commandText);
+            if (saver != null) {
+                requestSaveIfModified();
+            }
+        }
+
+        if (failure == null) {
+            result.complete(commandResult);
+        } else {
+            result.completeExceptionally(failure);
+        }
+        commandRunning.set(false);
+    }
+
+    @Override
+    public void cancelCommand() {
+        if (runningCommandModel != null) {
+            logger.info("Cancelling the command running in the background");
+            runningCommandModel.cancel();
+        }
+    }
+
+    /**
+     * Discards the changes made by a command that failed with {@code failure}, using {@code discardChanges}, and
+     * returns the exception to report the failure with.
+     */
+    private CommandException discardChanges(RuntimeException failure, Runnable discardChanges) {
+        logger.warning("Discarding the changes made by the command, which did not finish: " + failure);
+        discardChanges.run();
+        if (failure instanceof CommandCancelledException) {
+            return new CommandException(COMMAND_CANCELLED_MESSAGE, failure);
+        }
+        if (failure instanceof ExpenseStoreFullException) {
+            return new CommandException(EXPENSE_STORE_FULL_ERROR_MESSAGE, failure);
+        }
+        return new CommandException(EXPENSE_ARCHIVE_UNREADABLE_ERROR_MESSAGE, failure);
+    }
+
+    /**
+     * Hands the changes made by the last command to the saver to be saved in the background, if there are any.
+     */
+    private void requestSaveIfModified() {
+        if (financeTrackerModified) {
+            logger.info("Finance Tracker modified, saving to file in the background.");
+            saver.requestSave(() -> storage.prepareSave(model.getFinanceTracker()));
+        }
+    }
+
+    /**
+     * Saves the changes made by the last command, if there are any, before returning.
+     */
+    private void saveIfModified() throws CommandException {
         if (financeTrackerModified) {
             logger.info("Finance Tracker modified, saving to file.");
             try {
@@ -72,8 +252,6 @@ public class LogicManager implements Logic {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
         }
-
-        return commandResult;
     }
 
     @Override
@@ -163,6 +341,26 @@ public class LogicManager implements Logic {
         model.setSelectedRecurring(recurring);
     }
 
+    @Override
+    public ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty() {
+        return model.undoHistorySizeInMemoryProperty();
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty commandRunningProperty() {
+        return commandRunning;
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty savingProperty() {
+        return saver == null ? new SimpleBooleanProperty(false) : saver.savingProperty();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<IOException> saveFailureProperty() {
+        return saver == null ? new SimpleObjectProperty<>() : saver.saveFailureProperty();
+    }
+
     @Override
     public ReadOnlyProperty<Statistics> statisticsProperty() {
         return model.statisticsProperty();
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -19,4 +20,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Stops the command if it has been cancelled while running in the background.
+     * A cancelled command is stopped when it next uses the model, so long steps that do not use the model should
+     * call this as they go.
+     *
+     * @throws CommandCancelledException If the command has been cancelled.
+     */
+    protected static void checkNotCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CommandCancelledException();
+        }
+    }
+
 }
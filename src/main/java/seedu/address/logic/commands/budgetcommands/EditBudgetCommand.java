@@ -112,9 +112,8 @@ public class EditBudgetCommand extends Command {
         Date updatedStartDate = editBudgetDescriptor.getStartDate().orElse(budgetToEdit.getStartDate());
         Date updatedEndDate = editBudgetDescriptor.getEndDate().orElse(budgetToEdit.getEndDate());
         String updatedRemarks = editBudgetDescriptor.getRemarks().orElse(budgetToEdit.getRemarks());
-        double updatedPercentage = 100 * budgetToEdit.getTotalSpent() / updatedAmount.value * 100;
         return new Budget(budgetToEdit.getCategory(), updatedAmount, updatedStartDate, updatedEndDate, updatedRemarks,
-                budgetToEdit.getTotalSpent(), updatedPercentage);
+                budgetToEdit.getTotalSpent());
     }
 
     @Override
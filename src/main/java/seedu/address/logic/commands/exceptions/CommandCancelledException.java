@@ -0,0 +1,13 @@
+package seedu.address.logic.commands.exceptions;
+
+/**
+ * Signals that a {@link seedu.address.logic.commands.Command} running in the background was cancelled before it
+ * finished.
+ */
+public class CommandCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public CommandCancelledException() {
+        super("The command was cancelled");
+    }
+}
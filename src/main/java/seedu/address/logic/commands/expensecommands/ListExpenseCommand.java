@@ -6,26 +6,25 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_AMOUNT_OVER_1000_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_AMOUNT_OVER_100_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_AMOUNT_OVER_10_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_DAY_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ENT_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_FOOD_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_HEALTHCARE_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_MONTH_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_OTHERS_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_SHOPPING_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_TRANSPORT_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_TRAVEL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_UTIL_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_WEEK_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_WORK_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_YEAR_EXPENSES;
 
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.attributes.View;
 import seedu.address.model.expense.Expense;
 
@@ -57,6 +56,12 @@ public class ListExpenseCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        Optional<LocalDate> startDate = getStartDate(this.view);
+        if (startDate.isPresent()) {
+            model.loadExpensesFrom(new Date(startDate.get()));
+        } else {
+            model.loadAllExpenses();
+        }
         model.updateFilteredExpenseList(this.getPredicate(this.view));
         return new CommandResult(String.format(MESSAGE_SUCCESS, this.view.getMessage()));
     }
@@ -84,13 +89,10 @@ public class ListExpenseCommand extends Command {
         case ALL:
             return PREDICATE_SHOW_ALL_EXPENSES;
         case DAY:
-            return PREDICATE_SHOW_DAY_EXPENSES;
         case WEEK:
-            return PREDICATE_SHOW_WEEK_EXPENSES;
         case MONTH:
-            return PREDICATE_SHOW_MONTH_EXPENSES;
         case YEAR:
-            return PREDICATE_SHOW_YEAR_EXPENSES;
+            return getDateRangePredicate(getStartDate(view).get());
         case $10:
             return PREDICATE_SHOW_AMOUNT_OVER_10_EXPENSES;
         case $100:
@@ -119,4 +121,35 @@ public class ListExpenseCommand extends Command {
             throw new IllegalArgumentException("Invalid View");
         }
     }
+
+    /**
+     * Returns the earliest date of the expenses shown by {@code view}, or an empty {@code Optional} if {@code view}
+     * is not limited to recent expenses.
+     */
+    private static Optional<LocalDate> getStartDate(View view) {
+        switch (view) {
+        case DAY:
+            return Optional.of(LocalDate.now());
+        case WEEK:
+            return Optional.of(LocalDate.now().minusWeeks(1).plusDays(1));
+        case MONTH:
+            return Optional.of(LocalDate.now().minusMonths(1).plusDays(1));
+        case YEAR:
+            return Optional.of(LocalDate.now().minusYears(1).plusDays(1));
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a {@code Predicate<Expense>} that matches expenses dated from {@code startDate} to today inclusive.
+     * Today's date is read once here rather than once for every expense that is filtered.
+     */
+    private static Predicate<Expense> getDateRangePredicate(LocalDate startDate) {
+        LocalDate today = LocalDate.now();
+        return expense -> {
+            LocalDate date = expense.getDate().getLocalDate();
+            return !date.isBefore(startDate) && !date.isAfter(today);
+        };
+    }
 }
@@ -31,6 +31,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        model.loadAllExpenses();
         model.updateFilteredExpenseList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_EXPENSES_FOUND_OVERVIEW, model.getFilteredExpenseList().size()));
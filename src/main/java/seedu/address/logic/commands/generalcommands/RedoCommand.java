@@ -11,6 +11,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedFinanceTracker;
 
 /**
  * Reverts the {@code model}'s Finance Tracker to its previously undone state.
@@ -29,7 +30,12 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoFinanceTracker();
+        try {
+            model.redoFinanceTracker();
+        } catch (VersionedFinanceTracker.NoRedoableStateException e) {
+            // the state could not be read back from the spilled undo history
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         model.updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
         model.updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
         model.updateFilteredDebtList(PREDICATE_SHOW_ALL_DEBTS);
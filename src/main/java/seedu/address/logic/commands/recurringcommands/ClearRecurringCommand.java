@@ -5,9 +5,8 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.model.FinanceTracker;
+import seedu.address.model.FinanceTrackerBatch;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyFinanceTracker;
 
 /**
  * Clears all recurring expenses in Finance Tracker.
@@ -23,12 +22,7 @@ public class ClearRecurringCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        ReadOnlyFinanceTracker oldFt = model.getFinanceTracker();
-        FinanceTracker newFt = new FinanceTracker();
-        newFt.setExpenses(model.getFinanceTracker().getExpenseList());
-        newFt.setBudgets(model.getFinanceTracker().getBudgetList());
-        newFt.setDebts(model.getFinanceTracker().getDebtList());
-        model.setFinanceTracker(newFt);
+        model.batch(FinanceTrackerBatch::clearRecurrings);
         model.commitFinanceTracker();
 
         return new CommandResult(MESSAGE_SUCCESS);
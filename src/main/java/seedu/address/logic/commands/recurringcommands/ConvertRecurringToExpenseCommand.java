@@ -35,36 +35,23 @@ public class ConvertRecurringToExpenseCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        List<Recurring> lastShownRecurringList = model.getFilteredRecurringList();
-        List<Recurring> deleteThese = new ArrayList<>();
-        List<Recurring> addThese = new ArrayList<>();
-        int numAdded = 0;
+        List<Recurring> lastShownRecurringList = new ArrayList<>(model.getFilteredRecurringList());
+        List<Expense> outstandingExpenses = new ArrayList<>();
+        LocalDate today = LocalDate.now();
 
-        for (int i = 0; i < lastShownRecurringList.size(); i++) {
-            Recurring recurring = lastShownRecurringList.get(i);
-            LocalDate lastConvertedDate = recurring.getLastConvertedDate();
-            if (lastConvertedDate.isBefore(LocalDate.now())) {
-                ArrayList<Expense> recurringListOfExpenses = recurring.getRecurringListOfExpenses();
-                for (int j = 0; j < recurringListOfExpenses.size(); j++) {
-                    LocalDate date = recurringListOfExpenses.get(j).getDate().getLocalDate();
-                    if ((date.isBefore(LocalDate.now()) || date.isEqual(LocalDate.now()))
-                            && date.isAfter(lastConvertedDate)) {
-                        model.addExpense(recurringListOfExpenses.get(j));
-                        numAdded++;
-                    }
-                }
-            }
-            Recurring recurringWithUpdatedLastConvertedDate = new Recurring(recurring);
-            deleteThese.add(recurring);
-            addThese.add(recurringWithUpdatedLastConvertedDate);
-        }
-        for (int i = 0; i < deleteThese.size(); i++) {
-            model.deleteRecurring(deleteThese.get(i));
-        }
-        for (int i = 0; i < addThese.size(); i++) {
-            model.addRecurring(addThese.get(i));
+        for (Recurring recurring : lastShownRecurringList) {
+            checkNotCancelled();
+            outstandingExpenses.addAll(recurring.getOccurrencesBetween(recurring.getLastConvertedDate(), today));
         }
+
+        // all the expenses are added, and the recurrings updated, as one change to the finance tracker
+        model.batch(batch -> {
+            outstandingExpenses.forEach(batch::addExpense);
+            for (Recurring recurring : lastShownRecurringList) {
+                batch.setRecurring(recurring, new Recurring(recurring));
+            }
+        });
         model.commitFinanceTracker();
-        return new CommandResult(String.format(MESSAGE_CONVERT_RECURRING_SUCCESS + numAdded + "."));
+        return new CommandResult(String.format(MESSAGE_CONVERT_RECURRING_SUCCESS + outstandingExpenses.size() + "."));
     }
 }
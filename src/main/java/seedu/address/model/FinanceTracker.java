@@ -2,31 +2,49 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.budget.BudgetList;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.debt.DebtList;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
 import seedu.address.model.expense.ExpenseList;
 import seedu.address.model.recurring.Recurring;
 import seedu.address.model.recurring.RecurringList;
+import seedu.address.model.statistics.SpendingRollup;
 
 
 /**
  * Wraps all data at the finance-tracker level
+ *
+ * The expenses of the earliest months may be left in an {@link ExpenseArchive} instead of the expense list. They are
+ * loaded into the expense list as soon as an operation involves their months, so operations behave as if every
+ * expense were loaded. Archived months are always before the months of the loaded expenses.
  */
 public class FinanceTracker implements ReadOnlyFinanceTracker {
 
+    private static final YearMonth EARLIEST_MONTH = YearMonth.of(Year.MIN_VALUE, 1);
+
     private final ExpenseList expenses;
     private final DebtList debts;
     private final BudgetList budgets;
     private final RecurringList recurrings;
+    private final SpendingRollup spendingRollup;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private ExpenseArchive expenseArchive;
+    private boolean isLoadingArchivedExpenses;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -36,39 +54,73 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      *   among constructors.
      */
     public FinanceTracker() {
-        expenses = new ExpenseList();
+        this(new ExpenseList());
+    }
+
+    /**
+     * Creates an empty FinanceTracker that keeps its expenses in {@code expenses}, which must be empty.
+     */
+    public FinanceTracker(ExpenseList expenses) {
+        requireNonNull(expenses);
+        this.expenses = expenses;
         debts = new DebtList();
-        budgets = new BudgetList();
+        budgets = new BudgetList(expenses::totalSpentBetween);
         recurrings = new RecurringList();
+        spendingRollup = new SpendingRollup(expenses);
     }
 
     /**
      * Creates a FinanceTracker using the Expenses in the {@code toBeCopied}
+     * The months that {@code toBeCopied} has archived stay archived in the copy.
      */
     public FinanceTracker(ReadOnlyFinanceTracker toBeCopied) {
         this();
-        resetData(toBeCopied);
+        initData(toBeCopied);
     }
 
     //// list overwrite operations =================================================================
 
+    /**
+     * Fills this {@code FinanceTracker}, which must be empty, with the data of {@code initialData}.
+     * Unlike {@link #resetData}, the archived expenses of {@code initialData} are not loaded, as this
+     * {@code FinanceTracker} shares its archive.
+     */
+    protected void initData(ReadOnlyFinanceTracker initialData) {
+        requireNonNull(initialData);
+
+        expenses.setExpenses(initialData.getExpenseList());
+        budgets.setBudgets(initialData.getBudgetList());
+        debts.setDebts(initialData.getDebtList());
+        recurrings.setRecurring(initialData.getRecurringList());
+        expenseArchive = initialData.getExpenseArchive().orElse(null);
+        indicateModified();
+    }
+
     /**
      * Resets the existing data of this {@code FinanceTracker} with {@code newData}.
+     * Each list is replaced in a single change, and listeners are notified once.
+     * The archived expenses of both are loaded first, so that the whole expense list is replaced.
      */
     public void resetData(ReadOnlyFinanceTracker newData) {
         requireNonNull(newData);
 
-        setExpenses(newData.getExpenseList());
-        setBudgets(newData.getBudgetList());
-        setDebts(newData.getDebtList());
-        setRecurrings(newData.getRecurringList());
+        List<Expense> newExpenses = new ArrayList<>(newData.getExpenseList());
+        newData.getExpenseArchive().ifPresent(archive -> newExpenses.addAll(archive.readFrom(EARLIEST_MONTH)));
+        loadAllExpenses();
+        expenses.setExpenses(newExpenses);
+        budgets.setBudgets(newData.getBudgetList());
+        debts.setDebts(newData.getDebtList());
+        recurrings.setRecurring(newData.getRecurringList());
+        indicateModified();
     }
 
     /**
      * Replaces the contents of the expense list with {@code expenses}.
      */
     public void setExpenses(List<Expense> expenses) {
+        loadAllExpenses();
         this.expenses.setExpenses(expenses);
+        updateBudgetTotals();
         indicateModified();
     }
 
@@ -84,6 +136,7 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      * Replaces the contents of the budget list with {@code budgets}.
      */
     public void setBudgets(List<Budget> budgets) {
+        loadExpensesCoveredBy(budgets);
         this.budgets.setBudgets(budgets);
         indicateModified();
     }
@@ -96,6 +149,89 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         indicateModified();
     }
 
+    //// bulk add operations =======================================================================
+
+    /**
+     * Adds all of {@code expenses} to the expense list in the finance tracker.
+     * The expense list is sorted once for the whole batch.
+     */
+    public void addExpenses(List<Expense> expenses) {
+        loadExpensesOfMonthsOf(expenses);
+        this.expenses.addAll(expenses);
+        updateBudgetTotals();
+        indicateModified();
+    }
+
+    /**
+     * Adds all of {@code debts} to the debt list in the finance tracker.
+     */
+    public void addDebts(List<Debt> debts) {
+        this.debts.addAll(debts);
+        indicateModified();
+    }
+
+    /**
+     * Adds all of {@code budgets} to the budget list in the finance tracker.
+     * None of them may overlap with each other or with an existing budget.
+     */
+    public void addBudgets(List<Budget> budgets) {
+        loadExpensesCoveredBy(budgets);
+        this.budgets.addAll(budgets);
+        indicateModified();
+    }
+
+    /**
+     * Adds all of {@code recurrings} to the recurring list in the finance tracker.
+     * None of them may be the same recurring as each other or as an existing recurring.
+     */
+    public void addRecurrings(List<Recurring> recurrings) {
+        this.recurrings.addAll(recurrings);
+        indicateModified();
+    }
+
+    /**
+     * Makes all the changes in {@code batch}, in the order described by {@link FinanceTrackerBatch}.
+     * The expense list is sorted once for all the added expenses, budget totals are updated once, and listeners are
+     * notified once.
+     */
+    public void apply(FinanceTrackerBatch batch) {
+        requireNonNull(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // loaded before any change is made, so that failing to load them leaves the finance tracker unchanged
+        if (batch.isExpensesCleared()) {
+            loadAllExpenses();
+        } else {
+            loadExpensesOfMonthsOf(batch.getAddedExpenses());
+        }
+
+        if (batch.isExpensesCleared()) {
+            expenses.setExpenses(Collections.emptyList());
+        }
+        if (batch.isDebtsCleared()) {
+            debts.setDebts(Collections.emptyList());
+        }
+        if (batch.isBudgetsCleared()) {
+            budgets.setBudgets(Collections.emptyList());
+        }
+        if (batch.isRecurringsCleared()) {
+            recurrings.setRecurring(Collections.emptyList());
+        }
+        List<Recurring> targetRecurrings = batch.getTargetRecurrings();
+        List<Recurring> editedRecurrings = batch.getEditedRecurrings();
+        for (int i = 0; i < targetRecurrings.size(); i++) {
+            recurrings.setRecurring(targetRecurrings.get(i), editedRecurrings.get(i));
+        }
+        expenses.addAll(batch.getAddedExpenses());
+
+        if (batch.isExpensesChanged()) {
+            updateBudgetTotals();
+        }
+        indicateModified();
+    }
+
     //// expense-level operations ==================================================================
 
     /**
@@ -104,6 +240,7 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      */
     public boolean hasExpense(Expense expense) {
         requireNonNull(expense);
+        loadExpensesFrom(expense.getDate());
         return expenses.contains(expense);
     }
 
@@ -111,7 +248,9 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      * Adds a expense to the expense list in the finance tracker.
      */
     public void addExpense(Expense p) {
+        loadExpensesFrom(p.getDate());
         expenses.add(p);
+        updateBudgetCovering(p);
         indicateModified();
     }
 
@@ -121,7 +260,11 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      */
     public void setExpense(Expense target, Expense editedExpense) {
         requireNonNull(editedExpense);
+        loadExpensesFrom(target.getDate());
+        loadExpensesFrom(editedExpense.getDate());
         expenses.setExpense(target, editedExpense);
+        updateBudgetCovering(target);
+        updateBudgetCovering(editedExpense);
         indicateModified();
     }
 
@@ -130,7 +273,9 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      * {@code key} must exist in the expense list in the finance tracker.
      */
     public void removeExpense(Expense key) {
+        loadExpensesFrom(key.getDate());
         expenses.remove(key);
+        updateBudgetCovering(key);
         indicateModified();
     }
 
@@ -185,10 +330,19 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         return budgets.contains(budget);
     }
 
+    /**
+     * Returns the budget of {@code category} in the finance tracker whose time frame includes {@code date},
+     * if there is one.
+     */
+    public Optional<Budget> getCoveringBudget(Category category, Date date) {
+        return budgets.getCoveringBudget(category, date);
+    }
+
     /**
      * Adds a budget to the budget list in the finance tracker.
      */
     public void addBudget(Budget budget) {
+        loadExpensesFrom(budget.getStartDate());
         budgets.addBudget(budget);
         indicateModified();
     }
@@ -199,6 +353,7 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      */
     public void setBudget(Budget target, Budget editedBudget) {
         requireNonNull(editedBudget);
+        loadExpensesFrom(editedBudget.getStartDate());
         budgets.setBudget(target, editedBudget);
         indicateModified();
     }
@@ -212,6 +367,90 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         indicateModified();
     }
 
+    //// archived expenses =========================================================================
+
+    /**
+     * Leaves the expenses of the months in {@code expenseArchive} out of the expense list until they are needed.
+     * Nothing may be archived yet, and the expense list may not hold any expense of the archived months or of the
+     * months before them, nor may a budget cover them.
+     */
+    public void setExpenseArchive(ExpenseArchive expenseArchive) {
+        requireNonNull(expenseArchive);
+        this.expenseArchive = expenseArchive;
+    }
+
+    /**
+     * Loads the archived expenses of the months from the month of {@code date} onwards, so that the expense list
+     * holds every expense dated from {@code date}.
+     * Loading expenses is not a modification: listeners are not notified. As archived months are before the months
+     * of the loaded expenses, loaded expenses are added to the end of the expense list.
+     *
+     * @throws seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException if the archived expenses
+     *     cannot be read, in which case none of them are loaded.
+     */
+    public void loadExpensesFrom(Date date) {
+        requireNonNull(date);
+        loadArchivedExpensesFrom(YearMonth.from(date.getLocalDate()));
+    }
+
+    /**
+     * Loads every archived expense, as described in {@link #loadExpensesFrom(Date)}.
+     */
+    public void loadAllExpenses() {
+        loadArchivedExpensesFrom(EARLIEST_MONTH);
+    }
+
+    /**
+     * Loads the archived expenses of the months of {@code expenses}, and of the months after them.
+     */
+    private void loadExpensesOfMonthsOf(List<Expense> expenses) {
+        expenses.stream().map(Expense::getDate).min(Date::compareTo).ifPresent(this::loadExpensesFrom);
+    }
+
+    /**
+     * Loads the archived expenses that {@code budgets} cover, so that their totals spent are derived from every
+     * expense.
+     */
+    private void loadExpensesCoveredBy(List<Budget> budgets) {
+        budgets.stream().map(Budget::getStartDate).min(Date::compareTo).ifPresent(this::loadExpensesFrom);
+    }
+
+    /**
+     * Loads the archived expenses of the months from {@code month} onwards, and archives only the months before it.
+     */
+    private void loadArchivedExpensesFrom(YearMonth month) {
+        if (expenseArchive == null || !month.isBefore(expenseArchive.getEnd())) {
+            return;
+        }
+
+        List<Expense> archivedExpenses = expenseArchive.readFrom(month);
+        isLoadingArchivedExpenses = true;
+        try {
+            expenses.addAll(archivedExpenses);
+        } finally {
+            isLoadingArchivedExpenses = false;
+        }
+        expenseArchive = expenseArchive.before(month).orElse(null);
+    }
+
+    //// derived budget totals =====================================================================
+
+    /**
+     * Updates the total spent of the budget covering the category and date of {@code expense}, if there is one.
+     */
+    private void updateBudgetCovering(Expense expense) {
+        budgets.updateTotalSpentCovering(expense.getCategory(), expense.getDate());
+    }
+
+    /**
+     * Updates the total spent of every budget. Only the budgets that were out of date are replaced.
+     * Also used by {@code VersionedFinanceTracker} after an undo or redo, as the list changes it records do not
+     * capture changes to the total spent of a budget.
+     */
+    void updateBudgetTotals() {
+        budgets.updateTotalsSpent();
+    }
+
     //// recurring-level operations =====================================================================
 
     /**
@@ -251,6 +490,34 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         indicateModified();
     }
 
+    //// history operations ========================================================================
+
+    /**
+     * Replaces the elements in positions [{@code from}, {@code to}) of {@code list} with {@code replacement}.
+     * Only used by {@code VersionedFinanceTracker} to revert and reapply the list changes it has recorded.
+     * Listeners are not notified, so that a whole undo or redo is reported as a single modification.
+     *
+     * @param replacement elements of the type held by {@code list}.
+     */
+    @SuppressWarnings("unchecked")
+    void replaceRange(ListEdit.EditedList list, int from, int to, List<?> replacement) {
+        switch (list) {
+        case EXPENSES:
+            expenses.replaceRange(from, to, (List<Expense>) replacement);
+            break;
+        case DEBTS:
+            debts.replaceRange(from, to, (List<Debt>) replacement);
+            break;
+        case BUDGETS:
+            budgets.replaceRange(from, to, (List<Budget>) replacement);
+            break;
+        case RECURRINGS:
+            recurrings.replaceRange(from, to, (List<Recurring>) replacement);
+            break;
+        default:
+        }
+    }
+
     //// listener methods ==========================================================================
 
     @Override
@@ -283,6 +550,26 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         return expenses.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Expense> getExpensesBetween(Date startDate, Date endDate) {
+        return expenses.expensesBetween(startDate, endDate);
+    }
+
+    @Override
+    public Optional<ExpenseArchive> getExpenseArchive() {
+        return Optional.ofNullable(expenseArchive);
+    }
+
+    @Override
+    public boolean isLoadingArchivedExpenses() {
+        return isLoadingArchivedExpenses;
+    }
+
+    @Override
+    public SpendingRollup getSpendingRollup() {
+        return spendingRollup;
+    }
+
     @Override
     public ObservableList<Debt> getDebtList() {
         return debts.asUnmodifiableObservableList();
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+
+/**
+ * Changes to a finance tracker that are collected by {@link Model#batch}, and then made together, so that the
+ * expense list is sorted once, budget totals are updated once, and listeners are notified once for all of them.
+ *
+ * The changes are made in a fixed order: lists are cleared first, then recurrings are replaced, and then expenses
+ * are added. Clearing a list discards the changes to it collected earlier in the batch.
+ */
+public class FinanceTrackerBatch {
+
+    private final List<Expense> addedExpenses = new ArrayList<>();
+    private final List<Recurring> targetRecurrings = new ArrayList<>();
+    private final List<Recurring> editedRecurrings = new ArrayList<>();
+    private boolean isExpensesCleared;
+    private boolean isDebtsCleared;
+    private boolean isBudgetsCleared;
+    private boolean isRecurringsCleared;
+
+    /**
+     * Adds {@code expense} to the expense list.
+     */
+    public void addExpense(Expense expense) {
+        requireNonNull(expense);
+        addedExpenses.add(expense);
+    }
+
+    /**
+     * Replaces the recurring {@code target} with {@code editedRecurring}.
+     * {@code target} must exist in the finance tracker when the batch is made.
+     */
+    public void setRecurring(Recurring target, Recurring editedRecurring) {
+        requireAllNonNull(target, editedRecurring);
+        targetRecurrings.add(target);
+        editedRecurrings.add(editedRecurring);
+    }
+
+    /**
+     * Removes all expenses.
+     */
+    public void clearExpenses() {
+        addedExpenses.clear();
+        isExpensesCleared = true;
+    }
+
+    /**
+     * Removes all debts.
+     */
+    public void clearDebts() {
+        isDebtsCleared = true;
+    }
+
+    /**
+     * Removes all budgets.
+     */
+    public void clearBudgets() {
+        isBudgetsCleared = true;
+    }
+
+    /**
+     * Removes all recurrings.
+     */
+    public void clearRecurrings() {
+        targetRecurrings.clear();
+        editedRecurrings.clear();
+        isRecurringsCleared = true;
+    }
+
+    /**
+     * Returns true if no changes have been collected.
+     */
+    public boolean isEmpty() {
+        return addedExpenses.isEmpty() && targetRecurrings.isEmpty() && !isExpensesCleared && !isDebtsCleared
+                && !isBudgetsCleared && !isRecurringsCleared;
+    }
+
+    /**
+     * Returns true if the expense list is changed by this batch.
+     */
+    boolean isExpensesChanged() {
+        return isExpensesCleared || !addedExpenses.isEmpty();
+    }
+
+    List<Expense> getAddedExpenses() {
+        return Collections.unmodifiableList(addedExpenses);
+    }
+
+    List<Recurring> getTargetRecurrings() {
+        return Collections.unmodifiableList(targetRecurrings);
+    }
+
+    List<Recurring> getEditedRecurrings() {
+        return Collections.unmodifiableList(editedRecurrings);
+    }
+
+    boolean isExpensesCleared() {
+        return isExpensesCleared;
+    }
+
+    boolean isDebtsCleared() {
+        return isDebtsCleared;
+    }
+
+    boolean isBudgetsCleared() {
+        return isBudgetsCleared;
+    }
+
+    boolean isRecurringsCleared() {
+        return isRecurringsCleared;
+    }
+}
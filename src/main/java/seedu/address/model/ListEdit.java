@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A change to one of the lists of a {@code FinanceTracker}: the elements {@code removed}, starting at position
+ * {@code from}, were replaced by the elements {@code added}.
+ * Guarantees: immutable; the elements are of the type held by {@code list}.
+ */
+public class ListEdit {
+
+    /**
+     * Lists of a {@code FinanceTracker} that an edit can apply to.
+     */
+    public enum EditedList {
+        EXPENSES, DEBTS, BUDGETS, RECURRINGS
+    }
+
+    private final EditedList list;
+    private final int from;
+    private final List<?> removed;
+    private final List<?> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ListEdit(EditedList list, int from, List<?> removed, List<?> added) {
+        requireNonNull(list);
+        requireAllNonNull(removed, added);
+        this.list = list;
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    public EditedList getList() {
+        return list;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<?> getRemoved() {
+        return removed;
+    }
+
+    public List<?> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the number of elements held by this edit.
+     */
+    public int getElementCount() {
+        return removed.size() + added.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && list == ((ListEdit) other).list
+                && from == ((ListEdit) other).from
+                && removed.equals(((ListEdit) other).removed)
+                && added.equals(((ListEdit) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(list, from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return list + " at " + from + ": " + removed + " -> " + added;
+    }
+}
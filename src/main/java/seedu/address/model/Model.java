@@ -1,8 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -149,6 +151,13 @@ public interface Model {
     /** Returns the FinanceTracker */
     ReadOnlyFinanceTracker getFinanceTracker();
 
+    /**
+     * Collects the changes made by {@code changes} to a {@link FinanceTrackerBatch}, and then makes them to the
+     * finance tracker together, notifying listeners once.
+     * If any expenses are added, all expenses and budgets are shown, as after {@link #addExpense(Expense)}.
+     */
+    void batch(Consumer<FinanceTrackerBatch> changes);
+
     /**
      * Returns true if a expense with the same identity as {@code expense} exists in the finance tracker.
      */
@@ -174,6 +183,17 @@ public interface Model {
      */
     void setExpense(Expense target, Expense editedExpense);
 
+    /**
+     * Loads the archived expenses dated from {@code date} onwards into the finance tracker, so that the filtered
+     * expense list can show them.
+     */
+    void loadExpensesFrom(Date date);
+
+    /**
+     * Loads every archived expense into the finance tracker, so that the filtered expense list can show them.
+     */
+    void loadAllExpenses();
+
     /** Returns an unmodifiable view of the filtered expense list */
     ObservableList<Expense> getFilteredExpenseList();
 
@@ -307,6 +327,16 @@ public interface Model {
      */
     void commitFinanceTracker();
 
+    /**
+     * Discards the changes made to the model's finance tracker since its state was last saved for undo/redo.
+     */
+    void discardFinanceTrackerChanges();
+
+    /**
+     * Number of finance tracker states for undo/redo that are currently held in memory.
+     */
+    ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty();
+
     /**
      * Selected expense in the filtered expense list.
      * null if no expense is selected.
@@ -380,6 +410,12 @@ public interface Model {
      */
     void calculateStatistics(String command, Date date1, Date date2, Frequency frequency);
 
+    /**
+     * Returns the statistics for the range {@code date1} to {@code date2}, without setting them as the selected
+     * statistics. The archived expenses from the earlier of the dates must have been loaded.
+     */
+    Statistics computeStatistics(String command, Date date1, Date date2, Frequency frequency);
+
     /**
      * Selected Statistics
      * null if no Statistics has been generated.
@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -23,10 +25,12 @@ import seedu.address.model.budget.BudgetNotFoundException;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.debt.exceptions.DebtNotFoundException;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
 import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
 import seedu.address.model.recurring.Recurring;
 import seedu.address.model.recurring.exceptions.RecurringNotFoundException;
 import seedu.address.model.statistics.Statistics;
+import seedu.address.model.statistics.StatisticsCache;
 import seedu.address.model.statistics.exceptions.StatisticsNotFoundException;
 
 
@@ -42,23 +46,53 @@ public class ModelManager implements Model {
     private final FilteredList<Debt> filteredDebts;
     private final FilteredList<Recurring> filteredRecurring;
     private final FilteredList<Budget> filteredBudgets;
-    private List<Expense> unfilteredExpenses;
     private final SimpleObjectProperty<Expense> selectedExpense = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Budget> selectedBudget = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Debt> selectedDebt = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Recurring> selectedRecurring = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Statistics> statistics = new SimpleObjectProperty<>();
+    private final StatisticsCache statisticsCache;
+    private final SimpleIntegerProperty undoHistorySizeInMemory = new SimpleIntegerProperty();
 
     /**
      * Initializes a ModelManager with the given financeTracker and userPrefs.
+     * The whole undo history is kept in memory.
      */
     public ModelManager(ReadOnlyFinanceTracker financeTracker, ReadOnlyUserPrefs userPrefs) {
+        this(new VersionedFinanceTracker(financeTracker), userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given financeTracker and userPrefs.
+     * At most {@code maxUndoStatesInMemory} undo states, holding at most {@code maxUndoElementsInMemory} elements,
+     * are kept in memory; older ones are moved to {@code undoSpillStore}.
+     */
+    public ModelManager(ReadOnlyFinanceTracker financeTracker, ReadOnlyUserPrefs userPrefs,
+                        StateChangeStore undoSpillStore, int maxUndoStatesInMemory, long maxUndoElementsInMemory) {
+        this(financeTracker, userPrefs, new ExpenseList(), undoSpillStore, maxUndoStatesInMemory,
+                maxUndoElementsInMemory);
+    }
+
+    /**
+     * Initializes a ModelManager as above, that keeps the expenses of the finance tracker in {@code expenses}, which
+     * must be empty.
+     */
+    public ModelManager(ReadOnlyFinanceTracker financeTracker, ReadOnlyUserPrefs userPrefs, ExpenseList expenses,
+                        StateChangeStore undoSpillStore, int maxUndoStatesInMemory, long maxUndoElementsInMemory) {
+        this(new VersionedFinanceTracker(financeTracker, requireNonNull(expenses), requireNonNull(undoSpillStore),
+                maxUndoStatesInMemory, maxUndoElementsInMemory), userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given versionedFinanceTracker and userPrefs.
+     */
+    private ModelManager(VersionedFinanceTracker versionedFinanceTracker, ReadOnlyUserPrefs userPrefs) {
         super();
-        requireAllNonNull(financeTracker, userPrefs);
+        requireAllNonNull(versionedFinanceTracker, userPrefs);
 
-        logger.fine("Initializing with finance tracker: " + financeTracker + " and user prefs " + userPrefs);
+        logger.fine("Initializing with finance tracker: " + versionedFinanceTracker + " and user prefs " + userPrefs);
 
-        versionedFinanceTracker = new VersionedFinanceTracker(financeTracker);
+        this.versionedFinanceTracker = versionedFinanceTracker;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredExpenses = new FilteredList<>(versionedFinanceTracker.getExpenseList());
         filteredExpenses.addListener(this::ensureSelectedExpenseIsValid);
@@ -68,7 +102,9 @@ public class ModelManager implements Model {
         filteredBudgets.addListener(this::ensureSelectedBudgetIsValid);
         filteredRecurring = new FilteredList<>(versionedFinanceTracker.getRecurringList());
         filteredRecurring.addListener(this::ensureSelectedRecurringIsValid);
-        unfilteredExpenses = financeTracker.getExpenseList();
+        statisticsCache = new StatisticsCache(versionedFinanceTracker, StatisticsCache.DEFAULT_CAPACITY);
+        versionedFinanceTracker.addListener(observable ->
+                undoHistorySizeInMemory.set(versionedFinanceTracker.getStatesInMemoryCount()));
     }
 
     public ModelManager() {
@@ -122,16 +158,34 @@ public class ModelManager implements Model {
         return versionedFinanceTracker;
     }
 
+    @Override
+    public void batch(Consumer<FinanceTrackerBatch> changes) {
+        requireNonNull(changes);
+        FinanceTrackerBatch batch = new FinanceTrackerBatch();
+        changes.accept(batch);
+        versionedFinanceTracker.apply(batch);
+
+        if (!batch.getAddedExpenses().isEmpty()) {
+            updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
+            updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
+        }
+    }
+
     //=========== Statistics ====================================================================================
 
     @Override
     public void calculateStatistics(String command, Date date1, Date date2, Frequency frequency) {
+        // every period calculated starts on or after the earlier date
+        versionedFinanceTracker.loadExpensesFrom(date1.compareTo(date2) <= 0 ? date1 : date2);
+        this.setStatistics(computeStatistics(command, date1, date2, frequency));
+    }
 
-        FilteredList<Expense> statsExpenses = new FilteredList<>(versionedFinanceTracker.getExpenseList());
-        Statistics statistics = new Statistics(statsExpenses);
-        statistics.calculateStats(command, date1, date2, frequency);
-
-        this.setStatistics(statistics);
+    @Override
+    public Statistics computeStatistics(String command, Date date1, Date date2, Frequency frequency) {
+        Statistics statistics = statisticsCache.calculateStats(command, date1, date2, frequency);
+        logger.fine("Statistics cache hits: " + statisticsCache.getHitCount()
+                + ", misses: " + statisticsCache.getMissCount());
+        return statistics;
     }
 
     @Override
@@ -158,150 +212,35 @@ public class ModelManager implements Model {
     @Override
     public void deleteExpense(Expense target) {
         versionedFinanceTracker.removeExpense(target);
-        // update totalSpent of budget of respective category
-        int index = -1;
-        for (Budget budget : filteredBudgets) {
-            if (budget.getCategory() == target.getCategory()) {
-                index = filteredBudgets.indexOf(budget);
-            }
-        }
-        if (index != -1) {
-            Budget targetBudget = filteredBudgets.get(index);
-            if (target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate())) {
-                return;
-            }
-            Budget updatedBudget = new Budget(filteredBudgets.get(index));
-            double diff = 0 - target.getAmount().value;
-            updatedBudget.updateTotalSpent(diff);
-            updatedBudget.updatePercentage();
-            versionedFinanceTracker.setBudget(targetBudget, updatedBudget);
-        }
     }
 
     @Override
     public void addExpense(Expense expense) {
         versionedFinanceTracker.addExpense(expense);
         updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
-        // update totalSpent of budget of respective category
-        unfilteredExpenses = versionedFinanceTracker.getExpenseList();
-        int index = -1;
-        for (Budget budget : filteredBudgets) {
-            if (budget.getCategory() == expense.getCategory()) {
-                index = filteredBudgets.indexOf(budget);
-            }
-        }
-        if (index != -1) {
-            Budget targetBudget = filteredBudgets.get(index);
-            if (expense.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || expense.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate())) {
-                return;
-            }
-            Budget updatedBudget = new Budget(filteredBudgets.get(index));
-            updatedBudget.updateTotalSpent(expense.getAmount().value);
-            updatedBudget.updatePercentage();
-            versionedFinanceTracker.setBudget(targetBudget, updatedBudget);
-        }
         updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
     }
 
     @Override
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
+        boolean isTargetSelected = target.equals(selectedExpense.getValue());
         versionedFinanceTracker.setExpense(target, editedExpense);
-        // update totalSpent of budget of respective category
-        unfilteredExpenses = versionedFinanceTracker.getExpenseList();
-        // identify budget of category of target
-        int index = -1;
-        for (Budget budget : filteredBudgets) {
-            if (budget.getCategory() == target.getCategory()) {
-                index = filteredBudgets.indexOf(budget);
-                break;
-            }
-        }
-        // identify budget of category of editedExpense
-        int index2 = -1;
-        for (Budget budget : filteredBudgets) {
-            if (budget.getCategory() == editedExpense.getCategory()) {
-                index2 = filteredBudgets.indexOf(budget);
-                break;
-            }
-        }
-
-        if ((index == -1 && index2 == -1) || (target.getAmount() == editedExpense.getAmount())
-                && target.getCategory() == editedExpense.getCategory()
-                && target.getDate() == editedExpense.getDate()) {
-            return;
-        }
-
-        Budget targetBudget = filteredBudgets.get(index);
-        Budget updatedBudget = new Budget(filteredBudgets.get(index));
-        Budget targetBudget2 = filteredBudgets.get(index2);
-        Budget updatedBudget2 = new Budget(filteredBudgets.get(index2));
-
-        // case where only amount is edited.
-        if (target.getAmount() != editedExpense.getAmount()
-                && target.getCategory() == editedExpense.getCategory()
-                && target.getDate() == editedExpense.getDate()) {
-            double diff = editedExpense.getAmount().value - target.getAmount().value;
-            updatedBudget.updateTotalSpent(diff);
-            updatedBudget.updatePercentage();
+        if (isTargetSelected) {
+            // editing the date moves the expense, which is seen as a removal rather than a replacement
+            selectedExpense.setValue(editedExpense);
         }
+    }
 
-        // date changed, category unchanged.
-        if (target.getDate() != editedExpense.getDate() && target.getCategory() == editedExpense.getCategory()) {
-            // target date and editedExpense date both not within budget's time frame
-            if ((target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))
-                    && (editedExpense.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || editedExpense.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))) {
-                return;
-            }
-            // target date not within budget time frame but editedExpense date is, add to totalSpent of updatedBudget2
-            if ((target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))
-                    && !(editedExpense.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || editedExpense.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))) {
-                updatedBudget.updateTotalSpent(editedExpense.getAmount().value);
-                updatedBudget.updatePercentage();
-            } else if (!(target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))
-                    && (editedExpense.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || editedExpense.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))) {
-                // target date is within budget time frame but editedExpense date is no longer within budget's duration
-                updatedBudget.updateTotalSpent(0 - target.getAmount().value);
-                updatedBudget.updatePercentage();
-            } else if (!(target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))
-                    && !(editedExpense.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                    || editedExpense.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))) {
-                // target date and editedExpense date are both within budget time frame
-                double diff = editedExpense.getAmount().value - target.getAmount().value;
-                updatedBudget.updateTotalSpent(diff);
-                updatedBudget.updatePercentage();
-            }
-        }
+    @Override
+    public void loadExpensesFrom(Date date) {
+        requireNonNull(date);
+        versionedFinanceTracker.loadExpensesFrom(date);
+    }
 
-        // category of expense changed
-        if (target.getCategory() != editedExpense.getCategory()) {
-            if (index != -1) {
-                // check if target date is within budget1 time frame
-                if (!(target.getDate().getLocalDate().isBefore(targetBudget.getStartDate().getLocalDate())
-                        || target.getDate().getLocalDate().isAfter(targetBudget.getEndDate().getLocalDate()))) {
-                    updatedBudget.updateTotalSpent(0 - target.getAmount().value);
-                    updatedBudget.updatePercentage();
-                }
-            }
-            if (index2 != -1) {
-                if (!(editedExpense.getDate().getLocalDate().isBefore(targetBudget2.getStartDate().getLocalDate())
-                        || editedExpense.getDate().getLocalDate().isAfter(targetBudget2.getEndDate().getLocalDate()))) {
-                    updatedBudget2.updateTotalSpent(editedExpense.getAmount().value);
-                    updatedBudget2.updatePercentage();
-                }
-            }
-        }
-        versionedFinanceTracker.setBudget(targetBudget2, updatedBudget2);
-        versionedFinanceTracker.setBudget(targetBudget, updatedBudget);
+    @Override
+    public void loadAllExpenses() {
+        versionedFinanceTracker.loadAllExpenses();
     }
 
     //=========== Debts ========================================================================================
@@ -345,17 +284,6 @@ public class ModelManager implements Model {
 
     @Override
     public void addBudget(Budget budget) {
-        unfilteredExpenses = versionedFinanceTracker.getExpenseList();
-        int sum = 0;
-        for (Expense expense : unfilteredExpenses) {
-            if (expense.getCategory() == budget.getCategory()
-                    && !(expense.getDate().getLocalDate().isBefore(budget.getStartDate().getLocalDate()))
-                    && !(expense.getDate().getLocalDate().isAfter(budget.getEndDate().getLocalDate()))) {
-                sum += expense.getAmount().value;
-            }
-        }
-        budget.setTotalSpent(sum);
-        budget.updatePercentage();
         versionedFinanceTracker.addBudget(budget);
         updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
     }
@@ -363,18 +291,6 @@ public class ModelManager implements Model {
     @Override
     public void setBudget(Budget target, Budget editedBudget) {
         requireAllNonNull(target, editedBudget);
-        editedBudget.setTotalSpent(0);
-        unfilteredExpenses = versionedFinanceTracker.getExpenseList();
-        int sum = 0;
-        for (Expense expense : unfilteredExpenses) {
-            if (expense.getCategory() == editedBudget.getCategory()
-                    && !(expense.getDate().getLocalDate().isBefore(editedBudget.getStartDate().getLocalDate()))
-                    && !(expense.getDate().getLocalDate().isAfter(editedBudget.getEndDate().getLocalDate()))) {
-                sum += expense.getAmount().value;
-            }
-        }
-        editedBudget.setTotalSpent(sum);
-        editedBudget.updatePercentage();
         versionedFinanceTracker.setBudget(target, editedBudget);
     }
 
@@ -499,6 +415,16 @@ public class ModelManager implements Model {
         versionedFinanceTracker.commit();
     }
 
+    @Override
+    public void discardFinanceTrackerChanges() {
+        versionedFinanceTracker.discardUncommittedChanges();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty() {
+        return undoHistorySizeInMemory;
+    }
+
     //=========== Selected expense ===========================================================================
 
     @Override
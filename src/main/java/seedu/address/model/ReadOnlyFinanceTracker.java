@@ -1,11 +1,17 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
 import seedu.address.model.recurring.Recurring;
+import seedu.address.model.statistics.SpendingRollup;
 
 /**
  * Unmodifiable view of an address book
@@ -17,6 +23,29 @@ public interface ReadOnlyFinanceTracker extends Observable {
      */
     ObservableList<Expense> getExpenseList();
 
+    /**
+     * Returns the archive of the expenses of the earliest months, which are not in the expense list until they are
+     * loaded, if any months are archived.
+     */
+    Optional<ExpenseArchive> getExpenseArchive();
+
+    /**
+     * Returns true while archived expenses are being loaded into the expense list. The change to the expense list
+     * that loading them makes is not a change to the finance tracker.
+     */
+    boolean isLoadingArchivedExpenses();
+
+    /**
+     * Returns an unmodifiable view of the expenses dated from {@code startDate} to {@code endDate} inclusive,
+     * in the same order as the expense list.
+     */
+    List<Expense> getExpensesBetween(Date startDate, Date endDate);
+
+    /**
+     * Returns the spending of the expense list rolled up by category and calendar period.
+     */
+    SpendingRollup getSpendingRollup();
+
     /**
      * Returns an unmodifiable view of the debt list.
      */
@@ -0,0 +1,22 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Stores the changes between consecutive states of a {@code VersionedFinanceTracker} that have been moved out
+ * of memory.
+ */
+public interface StateChangeStore {
+
+    /**
+     * Writes {@code stateChange} and returns the key with which it can be read back.
+     */
+    long write(List<ListEdit> stateChange) throws IOException;
+
+    /**
+     * Returns the state change that was written with {@code key}.
+     */
+    List<ListEdit> read(long key) throws IOException;
+
+}
@@ -1,37 +1,122 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ListEdit.EditedList;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
+import seedu.address.model.recurring.Recurring;
 
 /**
  * {@code FinanceTracker} that keeps track of its own history.
+ *
+ * Rather than a copy of every state, the history holds the list changes made between consecutive states.
+ * Undo reverts only the elements that a commit changed and redo reapplies them, so committing, undoing and
+ * redoing cost time and memory proportional to the change rather than to the size of the finance tracker.
+ *
+ * The number of state changes, and of elements in them, that are held in memory can be capped. The state
+ * changes furthest from the current state are then moved to a {@link StateChangeStore} and read back only when
+ * the finance tracker is undone or redone that far.
  */
 public class VersionedFinanceTracker extends FinanceTracker {
 
-    private final List<ReadOnlyFinanceTracker> financeTrackerStateList;
+    private static final Logger logger = LogsCenter.getLogger(VersionedFinanceTracker.class);
+
+    private final StateChangeStore spillStore;
+    private final int maxStatesInMemory;
+    private final long maxElementsInMemory;
+
+    /** The change that takes the finance tracker from state {@code i} to state {@code i + 1}, at index {@code i}. */
+    private final List<StateChange> stateChanges;
+    private List<ListEdit> uncommittedEdits;
     private int currentStatePointer;
+    /** States before this one could not be read back from the spill store, so they can no longer be restored. */
+    private int firstRestorableState;
+    /** The state changes in positions [{@code inMemoryFrom}, {@code inMemoryTo}) are the ones held in memory. */
+    private int inMemoryFrom;
+    private int inMemoryTo;
+    private long elementsInMemory;
+    private boolean isReplaying;
 
     public VersionedFinanceTracker(ReadOnlyFinanceTracker initialState) {
-        super(initialState);
+        // nothing is ever spilled, so there is no need for a spill store
+        this(initialState, null, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedFinanceTracker} that holds at most {@code maxStatesInMemory} state changes, and at
+     * most {@code maxElementsInMemory} elements across them, in memory. The rest are moved to {@code spillStore}.
+     */
+    public VersionedFinanceTracker(ReadOnlyFinanceTracker initialState, StateChangeStore spillStore,
+                                   int maxStatesInMemory, long maxElementsInMemory) {
+        this(initialState, new ExpenseList(), spillStore, maxStatesInMemory, maxElementsInMemory);
+    }
+
+    /**
+     * Creates a {@code VersionedFinanceTracker} as above, that keeps its expenses in {@code expenses}, which must be
+     * empty.
+     */
+    public VersionedFinanceTracker(ReadOnlyFinanceTracker initialState, ExpenseList expenses,
+                                   StateChangeStore spillStore, int maxStatesInMemory, long maxElementsInMemory) {
+        super(expenses);
+        initData(initialState);
+        this.spillStore = spillStore;
+        this.maxStatesInMemory = maxStatesInMemory;
+        this.maxElementsInMemory = maxElementsInMemory;
 
-        financeTrackerStateList = new ArrayList<>();
-        financeTrackerStateList.add(new FinanceTracker(initialState));
+        stateChanges = new ArrayList<>();
+        uncommittedEdits = new ArrayList<>();
         currentStatePointer = 0;
+
+        getExpenseList().addListener((ListChangeListener<Expense>) change -> record(change, EditedList.EXPENSES));
+        getDebtList().addListener((ListChangeListener<Debt>) change -> record(change, EditedList.DEBTS));
+        getBudgetList().addListener((ListChangeListener<Budget>) change -> record(change, EditedList.BUDGETS));
+        getRecurringList().addListener((ListChangeListener<Recurring>) change ->
+                record(change, EditedList.RECURRINGS));
     }
 
     /**
-     * Saves a copy of the current {@code FinanceTracker} state at the end of the state list.
+     * Saves the changes made since the last commit as the newest state of the finance tracker.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        financeTrackerStateList.add(new FinanceTracker(this));
+        StateChange stateChange = new StateChange(uncommittedEdits);
+        stateChanges.add(stateChange);
+        inMemoryTo = stateChanges.size();
+        elementsInMemory += stateChange.elementCount;
+        uncommittedEdits = new ArrayList<>();
         currentStatePointer++;
+        spillStatesOverLimit();
         indicateModified();
     }
 
+    /**
+     * Reverts the changes made since the last commit, so that the finance tracker is back in its current state.
+     */
+    public void discardUncommittedChanges() {
+        revertUncommittedEdits();
+        indicateModified();
+    }
+
+    /**
+     * Discards the states after the current state pointer, which can no longer be redone.
+     */
     private void removeStatesAfterCurrentPointer() {
-        financeTrackerStateList.subList(currentStatePointer + 1, financeTrackerStateList.size()).clear();
+        for (int i = Math.max(inMemoryFrom, currentStatePointer); i < inMemoryTo; i++) {
+            elementsInMemory -= stateChanges.get(i).elementCount;
+        }
+        stateChanges.subList(currentStatePointer, stateChanges.size()).clear();
+        inMemoryTo = currentStatePointer;
+        inMemoryFrom = Math.min(inMemoryFrom, inMemoryTo);
     }
 
     /**
@@ -41,8 +126,21 @@ public class VersionedFinanceTracker extends FinanceTracker {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+
+        List<ListEdit> edits;
+        try {
+            edits = loadStateChange(currentStatePointer - 1);
+        } catch (IOException ioe) {
+            logger.warning("Unable to read undo history, discarding the states before the current one: " + ioe);
+            firstRestorableState = currentStatePointer;
+            throw new NoUndoableStateException();
+        }
+
+        revertUncommittedEdits();
         currentStatePointer--;
-        resetData(financeTrackerStateList.get(currentStatePointer));
+        revert(edits);
+        spillStatesOverLimit();
+        indicateModified();
     }
 
     /**
@@ -52,22 +150,179 @@ public class VersionedFinanceTracker extends FinanceTracker {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+
+        List<ListEdit> edits;
+        try {
+            edits = loadStateChange(currentStatePointer);
+        } catch (IOException ioe) {
+            logger.warning("Unable to read redo history, discarding the states after the current one: " + ioe);
+            removeStatesAfterCurrentPointer();
+            throw new NoRedoableStateException();
+        }
+
+        revertUncommittedEdits();
+        reapply(edits);
         currentStatePointer++;
-        resetData(financeTrackerStateList.get(currentStatePointer));
+        spillStatesOverLimit();
+        indicateModified();
     }
 
     /**
      * Returns true if {@code undo()} has finance tracker states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return currentStatePointer > firstRestorableState;
     }
 
     /**
      * Returns true if {@code redo()} has finance tracker states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < financeTrackerStateList.size() - 1;
+        return currentStatePointer < stateChanges.size();
+    }
+
+    /**
+     * Returns the number of state changes currently held in memory.
+     */
+    public int getStatesInMemoryCount() {
+        return inMemoryTo - inMemoryFrom;
+    }
+
+    /**
+     * Records {@code change}, made to {@code list}, as an uncommitted edit.
+     * Loading archived expenses is not recorded, as undoing it would not restore an earlier state.
+     */
+    private void record(ListChangeListener.Change<?> change, EditedList list) {
+        if (isReplaying || isLoadingArchivedExpenses()) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                recordPermutation(change, list);
+            } else if (!change.wasUpdated() && !change.getRemoved().equals(change.getAddedSubList())) {
+                uncommittedEdits.add(new ListEdit(list, change.getFrom(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Records the permutation {@code change} as an uncommitted edit of the range of elements that actually moved.
+     * Sorting a list reports a permutation of the whole list even when only one element has moved.
+     */
+    private void recordPermutation(ListChangeListener.Change<?> change, EditedList list) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        while (from < to && change.getPermutation(from) == from) {
+            from++;
+        }
+        while (to > from && change.getPermutation(to - 1) == to - 1) {
+            to--;
+        }
+        if (from == to) {
+            return;
+        }
+
+        List<Object> before = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            before.add(change.getList().get(change.getPermutation(i)));
+        }
+        List<Object> after = new ArrayList<>(change.getList().subList(from, to));
+        uncommittedEdits.add(new ListEdit(list, from, before, after));
+    }
+
+    /**
+     * Discards the changes made since the last commit.
+     */
+    private void revertUncommittedEdits() {
+        revert(uncommittedEdits);
+        uncommittedEdits.clear();
+    }
+
+    /**
+     * Reverts {@code edits}, latest first.
+     */
+    private void revert(List<ListEdit> edits) {
+        isReplaying = true;
+        try {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                ListEdit edit = edits.get(i);
+                replaceRange(edit.getList(), edit.getFrom(), edit.getFrom() + edit.getAdded().size(),
+                        edit.getRemoved());
+            }
+            updateBudgetTotals();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Reapplies {@code edits}, earliest first.
+     */
+    private void reapply(List<ListEdit> edits) {
+        isReplaying = true;
+        try {
+            for (ListEdit edit : edits) {
+                replaceRange(edit.getList(), edit.getFrom(), edit.getFrom() + edit.getRemoved().size(),
+                        edit.getAdded());
+            }
+            updateBudgetTotals();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Returns the edits of the state change at {@code index}, reading them back from the spill store if they are
+     * not in memory. {@code index} must be next to, or within, the state changes held in memory.
+     */
+    private List<ListEdit> loadStateChange(int index) throws IOException {
+        StateChange stateChange = stateChanges.get(index);
+        if (index >= inMemoryFrom && index < inMemoryTo) {
+            return stateChange.edits;
+        }
+
+        assert index == inMemoryFrom - 1 || index == inMemoryTo;
+        logger.fine("Reading state change " + index + " back from the spill store");
+        stateChange.edits = spillStore.read(stateChange.spillKey);
+        elementsInMemory += stateChange.elementCount;
+        if (index < inMemoryFrom) {
+            inMemoryFrom = index;
+        } else {
+            inMemoryTo = index + 1;
+        }
+        return stateChange.edits;
+    }
+
+    /**
+     * Moves state changes to the spill store until the ones in memory are within the limits.
+     * The state changes furthest from the current state are moved first.
+     */
+    private void spillStatesOverLimit() {
+        while (inMemoryFrom < inMemoryTo
+                && (inMemoryTo - inMemoryFrom > maxStatesInMemory || elementsInMemory > maxElementsInMemory)) {
+            boolean isOldestFurther = currentStatePointer - inMemoryFrom >= inMemoryTo - currentStatePointer;
+            int index = isOldestFurther ? inMemoryFrom : inMemoryTo - 1;
+            StateChange stateChange = stateChanges.get(index);
+
+            if (!stateChange.isWritten()) {
+                try {
+                    stateChange.spillKey = spillStore.write(stateChange.edits);
+                } catch (IOException ioe) {
+                    logger.warning("Unable to spill undo history, keeping it in memory: " + ioe);
+                    return;
+                }
+            }
+
+            stateChange.edits = null;
+            elementsInMemory -= stateChange.elementCount;
+            if (isOldestFurther) {
+                inMemoryFrom++;
+            } else {
+                inMemoryTo--;
+            }
+        }
     }
 
     @Override
@@ -86,10 +341,44 @@ public class VersionedFinanceTracker extends FinanceTracker {
 
         // state check
         return super.equals(otherVersionedFinanceTracker)
-                && financeTrackerStateList.equals(otherVersionedFinanceTracker.financeTrackerStateList)
+                && stateChanges.equals(otherVersionedFinanceTracker.stateChanges)
                 && currentStatePointer == otherVersionedFinanceTracker.currentStatePointer;
     }
 
+    /**
+     * The edits between two consecutive states, which are either held in memory or written to the spill store.
+     * The edits stay in the spill store after being read back, so they never need to be written twice.
+     */
+    private static class StateChange {
+        private static final long NOT_WRITTEN = -1;
+
+        private final int elementCount;
+        private List<ListEdit> edits;
+        private long spillKey = NOT_WRITTEN;
+
+        StateChange(List<ListEdit> edits) {
+            this.edits = edits;
+            this.elementCount = edits.stream().mapToInt(ListEdit::getElementCount).sum();
+        }
+
+        boolean isWritten() {
+            return spillKey != NOT_WRITTEN;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof StateChange // instanceof handles nulls
+                    && Objects.equals(edits, ((StateChange) other).edits)
+                    && spillKey == ((StateChange) other).spillKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(edits, spillKey);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -18,6 +18,7 @@ public class Amount {
             + "([0]{0,1}[1-9]\\d{0,5}(\\.\\d{1,2})?)|([0]{0,2}[1-9]\\d{0,4}(\\.\\d{1,2})?)|"
             + "([0]{0,3}[1-9]\\d{0,3}(\\.\\d{1,2})?)|([0]{0,4}[1-9]\\d{0,2}(\\.\\d{1,2})?)|"
             + "([0]{0,5}[1-9]\\d{0,1}(\\.\\d{1,2})?)|([0]{0,6}[1-9](\\.\\d{1,2})?)";
+    public static final int MAX_CENTS = 999999999;
     public final int value;
 
     /**
@@ -32,6 +33,16 @@ public class Amount {
         value = valueInDollars.multiply(new BigDecimal("100")).intValue();
     }
 
+    /**
+     * Constructs a {@code Amount}.
+     *
+     * @param cents A valid amount in cents.
+     */
+    public Amount(int cents) {
+        checkArgument(isValidAmount(cents), MESSAGE_CONSTRAINTS);
+        value = cents;
+    }
+
     /**
      * Returns true if a given string is a valid amount.
      */
@@ -39,6 +50,13 @@ public class Amount {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given number of cents is a valid amount.
+     */
+    public static boolean isValidAmount(int cents) {
+        return cents > 0 && cents <= MAX_CENTS;
+    }
+
     /**
      * @return value of amount in dollars.
      */
@@ -58,7 +76,7 @@ public class Amount {
 
     @Override
     public int hashCode() {
-        return this.hashCode();
+        return Integer.hashCode(value);
     }
 
 }
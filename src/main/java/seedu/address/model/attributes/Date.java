@@ -1,6 +1,7 @@
 package seedu.address.model.attributes;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +20,8 @@ public class Date implements Comparable<Date> {
             "Deadline must not be a date that has already passed.";
     public static final String MESSAGE_DATE_DOES_NOT_EXIST = "Date does not exist.";
     private static final String VALIDATION_REGEX = "\\d{2}-\\d{2}-(20)\\d{2}";
+    private static final int MIN_YEAR = 2000;
+    private static final int MAX_YEAR = 2099;
     private LocalDate localDate;
 
     /**
@@ -31,6 +34,16 @@ public class Date implements Comparable<Date> {
                 .withResolverStyle(ResolverStyle.STRICT));
     }
 
+    /**
+     * Constructs a {@code Date}.
+     * @param localDate A valid localDate, as declared in {@link #isValidLocalDate(LocalDate)}.
+     */
+    public Date(LocalDate localDate) {
+        requireNonNull(localDate);
+        checkArgument(isValidLocalDate(localDate), MESSAGE_CONSTRAINTS);
+        this.localDate = localDate;
+    }
+
     /**
      * Constructs a {@code Date}.
      * @param date An existing Date.
@@ -69,6 +82,13 @@ public class Date implements Comparable<Date> {
         return "valid";
     }
 
+    /**
+     * Returns true if {@code test} is in a year that a date can be in, which is between 2000 and 2099.
+     */
+    public static boolean isValidLocalDate(LocalDate test) {
+        return test.getYear() >= MIN_YEAR && test.getYear() <= MAX_YEAR;
+    }
+
     /**
      * Returns true if localDate exists.
      */
@@ -196,7 +216,7 @@ public class Date implements Comparable<Date> {
 
     @Override
     public int hashCode() {
-        return this.hashCode();
+        return localDate.hashCode();
     }
 
 }
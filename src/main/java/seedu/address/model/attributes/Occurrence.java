@@ -46,7 +46,7 @@ public class Occurrence {
 
     @Override
     public int hashCode() {
-        return this.hashCode();
+        return Integer.hashCode(value);
     }
 
 }
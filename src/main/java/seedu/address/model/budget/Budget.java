@@ -27,12 +27,10 @@ public class Budget {
     private Date startDate;
     private Date endDate;
     private String remarks;
-    private int totalSpent; // in cents
-    private double percentage;
+    private long totalSpent; // in cents, derived from the expenses by BudgetList
     private boolean isAboutToExceed; // when percentage reaches 90
 
-    public Budget(Category category, Amount amount, Date startDate, Date endDate, String remarks, int totalSpent,
-                  double percentage) {
+    public Budget(Category category, Amount amount, Date startDate, Date endDate, String remarks, long totalSpent) {
         requireAllNonNull(category, amount, endDate);
         this.category = category;
         this.amount = amount;
@@ -44,7 +42,6 @@ public class Budget {
             this.remarks = remarks;
         }
         this.totalSpent = totalSpent;
-        this.percentage = (((double) totalSpent) / amount.value) * 100;
         isAboutToExceed = false;
     }
 
@@ -60,7 +57,6 @@ public class Budget {
             this.remarks = toCopy.remarks;
         }
         totalSpent = toCopy.totalSpent;
-        percentage = (((double) totalSpent) / amount.value) * 100;
         isAboutToExceed = toCopy.isAboutToExceed;
     }
 
@@ -84,21 +80,28 @@ public class Budget {
         return remarks;
     }
 
-    public int getTotalSpent() {
+    public long getTotalSpent() {
         return totalSpent;
     }
 
     public String getTotalSpentString() {
-        return Integer.toString(totalSpent);
+        return Long.toString(totalSpent);
     }
 
     public double getPercentage() {
         DecimalFormat percentageFormat = new DecimalFormat("#.##");
-        return Double.parseDouble(percentageFormat.format(percentage));
+        return Double.parseDouble(percentageFormat.format(calculatePercentage()));
     }
 
     public String getPercentageString() {
-        return Double.toString(percentage);
+        return Double.toString(calculatePercentage());
+    }
+
+    /**
+     * Returns the total spent as a percentage of the budget amount.
+     */
+    private double calculatePercentage() {
+        return (((double) totalSpent) / amount.value) * 100;
     }
 
     public boolean getIsAboutToExceed() {
@@ -125,14 +128,13 @@ public class Budget {
         this.remarks = remarks;
     }
 
-    public void setTotalSpent(int totalSpent) {
+    /**
+     * Sets the total spent, which is only ever derived from the expenses by {@code BudgetList}.
+     */
+    void setTotalSpent(long totalSpent) {
         this.totalSpent = totalSpent;
     }
 
-    public void setPercentage(double percentage) {
-        this.percentage = percentage;
-    }
-
     public void setIsAboutToExceed() {
         if (isAboutToExceed == true) {
             isAboutToExceed = false;
@@ -141,14 +143,6 @@ public class Budget {
         }
     }
 
-    public void updateTotalSpent(double difference) {
-        this.totalSpent += difference;
-    }
-
-    public void updatePercentage() {
-        this.percentage = (((double) totalSpent) / amount.value) * 100;
-    }
-
     /**
      * Checks if budget overlaps in terms of date with another budget.
      * @return true if budget overlaps with {@code other}, false if otherwise
@@ -157,12 +151,14 @@ public class Budget {
         if (this.category != other.category) {
             return false;
         }
-        if (((this.startDate.compareTo(other.startDate) < 0) && (this.endDate.compareTo(other.startDate) < 0))
-                || ((other.startDate.compareTo(this.startDate) < 0)
-                && (other.startDate.compareTo(this.startDate) < 0))) {
-            return false;
-        }
-        return true;
+        return this.startDate.compareTo(other.endDate) <= 0 && other.startDate.compareTo(this.endDate) <= 0;
+    }
+
+    /**
+     * Checks if {@code date} is within the time frame of the budget, inclusive of its start and end dates.
+     */
+    public boolean covers(Date date) {
+        return startDate.compareTo(date) <= 0 && endDate.compareTo(date) >= 0;
     }
 
     /**
@@ -0,0 +1,111 @@
+package seedu.address.model.budget;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+
+/**
+ * Indexes the budgets of a list by category and time frame, so that the budget covering a date and the budgets
+ * overlapping a time frame can be found in logarithmic time.
+ *
+ * The budgets of a category in a {@code BudgetList} never overlap, so ordering them by start date also orders them by
+ * end date. A search tree keyed on the start date therefore serves as an interval tree: the only budget that can cover
+ * a date is the one with the latest start date on or before it.
+ */
+class BudgetIndex {
+
+    private final Map<Category, TreeMap<LocalDate, Budget>> budgetsByCategory = new EnumMap<>(Category.class);
+
+    /**
+     * Creates an index of {@code budgets} that is kept up to date as the list changes.
+     */
+    BudgetIndex(ObservableList<Budget> budgets) {
+        budgets.forEach(this::add);
+        budgets.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the budget of {@code category} whose time frame includes {@code date}, if there is one.
+     */
+    Optional<Budget> getCoveringBudget(Category category, Date date) {
+        TreeMap<LocalDate, Budget> budgets = budgetsByCategory.get(category);
+        if (budgets == null) {
+            return Optional.empty();
+        }
+
+        Map.Entry<LocalDate, Budget> latestStarted = budgets.floorEntry(date.getLocalDate());
+        if (latestStarted == null || !latestStarted.getValue().covers(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(latestStarted.getValue());
+    }
+
+    /**
+     * Returns the budgets that overlap with {@code budget}, ordered by start date.
+     */
+    List<Budget> getOverlappingBudgets(Budget budget) {
+        TreeMap<LocalDate, Budget> budgets = budgetsByCategory.get(budget.getCategory());
+        if (budgets == null) {
+            return Collections.emptyList();
+        }
+
+        List<Budget> overlapping = new ArrayList<>();
+        for (Budget candidate : budgets.headMap(budget.getEndDate().getLocalDate(), true).descendingMap().values()) {
+            if (candidate.getEndDate().compareTo(budget.getStartDate()) < 0) {
+                break; // every earlier budget ends even earlier
+            }
+            overlapping.add(candidate);
+        }
+        Collections.reverse(overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Returns the budgets of {@code category}, ordered by start date.
+     */
+    List<Budget> getBudgets(Category category) {
+        TreeMap<LocalDate, Budget> budgets = budgetsByCategory.get(category);
+        return budgets == null ? Collections.emptyList() : new ArrayList<>(budgets.values());
+    }
+
+    /**
+     * Updates the index with the budgets removed from and added to the list by {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Budget> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code budget} to the index.
+     */
+    private void add(Budget budget) {
+        budgetsByCategory.computeIfAbsent(budget.getCategory(), category -> new TreeMap<>())
+                .put(budget.getStartDate().getLocalDate(), budget);
+    }
+
+    /**
+     * Removes {@code budget} from the index, unless another budget has since taken its place.
+     */
+    private void remove(Budget budget) {
+        TreeMap<LocalDate, Budget> budgets = budgetsByCategory.get(budget.getCategory());
+        if (budgets != null) {
+            budgets.remove(budget.getStartDate().getLocalDate(), budget);
+        }
+    }
+}
@@ -3,17 +3,25 @@ package seedu.address.model.budget;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
 
 /**
  * A list of budgets that does not allow nulls. One for each of the eight category and one for total.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * The total spent of each budget is derived from a {@link SpendingTotals}: budgets are given their derived totals
+ * as they are added or set, and the totals of the budgets already in the list are updated when the spending
+ * changes.
  *
  * @see Budget
  */
@@ -22,18 +30,30 @@ public class BudgetList implements Iterable<Budget> {
     private final ObservableList<Budget> internalList = FXCollections.observableArrayList();
     private final ObservableList<Budget> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final BudgetIndex index = new BudgetIndex(internalList);
+    private final SpendingTotals spendingTotals;
+
+    /**
+     * Creates a list of budgets on which nothing has been spent.
+     */
+    public BudgetList() {
+        this((category, startDate, endDate) -> 0);
+    }
+
+    /**
+     * Creates a list of budgets whose totals spent are given by {@code spendingTotals}.
+     */
+    public BudgetList(SpendingTotals spendingTotals) {
+        requireNonNull(spendingTotals);
+        this.spendingTotals = spendingTotals;
+    }
 
     /**
      * Returns true if list contains a budget that overlaps with given argument
      */
     public boolean hasOverlap(Budget toCheck) {
         requireNonNull(toCheck);
-        for (Budget budget : internalList) {
-            if (toCheck.overlaps(budget)) {
-                return true;
-            }
-        }
-        return false;
+        return !index.getOverlappingBudgets(toCheck).isEmpty();
     }
 
     /**
@@ -41,16 +61,23 @@ public class BudgetList implements Iterable<Budget> {
      */
     public boolean contains(Budget toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return index.getOverlappingBudgets(toCheck).contains(toCheck);
     }
 
-    public int getIndex(Category category) {
-        for (Budget budget : internalList) {
-            if (budget.getCategory() == category) {
-                return internalList.indexOf(budget);
-            }
-        }
-        return -1;
+    /**
+     * Returns the budget of {@code category} whose time frame includes {@code date}, if there is one.
+     */
+    public Optional<Budget> getCoveringBudget(Category category, Date date) {
+        requireAllNonNull(category, date);
+        return index.getCoveringBudget(category, date);
+    }
+
+    /**
+     * Returns the budgets of {@code category}, from the earliest to the latest time frame.
+     */
+    public List<Budget> getBudgets(Category category) {
+        requireNonNull(category);
+        return index.getBudgets(category);
     }
 
     /**
@@ -62,23 +89,50 @@ public class BudgetList implements Iterable<Budget> {
         if (hasOverlap(toAdd)) {
             throw new OverlappingBudgetException();
         }
-        if (internalList.contains(toAdd)) {
-            throw new BudgetExistsException();
+        internalList.add(withDerivedTotalSpent(toAdd));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list as a single change.
+     * No budget may overlap with an existing budget or with another budget in {@code toAdd}.
+     * The list is left unchanged if any of them does.
+     */
+    public void addAll(List<Budget> toAdd) {
+        requireAllNonNull(toAdd);
+        for (Budget budget : toAdd) {
+            if (hasOverlap(budget)) {
+                throw new OverlappingBudgetException();
+            }
+        }
+
+        // budgets of a category can only overlap with one another if they overlap with their neighbour by start date
+        List<Budget> sorted = new ArrayList<>(toAdd);
+        sorted.sort(Comparator.comparing(Budget::getCategory).thenComparing(Budget::getStartDate));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).overlaps(sorted.get(i - 1))) {
+                throw new OverlappingBudgetException();
+            }
         }
-        internalList.add(toAdd);
+        internalList.addAll(withDerivedTotalSpent(toAdd));
     }
 
     /**
      * Replaces the budget {@code target} in the list with {@code editedBudget}.
      * {@code target} must exist in the list.
+     * {@code editedBudget} cannot be overlapping with another existing budget.
      */
     public void setBudget(Budget target, Budget editedBudget) {
         requireAllNonNull(target, editedBudget);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = internalList.indexOf(target);
+        if (targetIndex == -1) {
             throw new BudgetNotFoundException();
         }
-        internalList.set(index, editedBudget);
+        for (Budget budget : index.getOverlappingBudgets(editedBudget)) {
+            if (!budget.equals(target)) {
+                throw new OverlappingBudgetException();
+            }
+        }
+        internalList.set(targetIndex, withDerivedTotalSpent(editedBudget));
     }
 
     /**
@@ -86,7 +140,7 @@ public class BudgetList implements Iterable<Budget> {
      */
     public void setBudgets(BudgetList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(withDerivedTotalSpent(replacement.internalList));
     }
 
     /**
@@ -94,7 +148,76 @@ public class BudgetList implements Iterable<Budget> {
      */
     public void setBudgets(List<Budget> budgets) {
         requireAllNonNull(budgets);
-        internalList.setAll(budgets);
+        internalList.setAll(withDerivedTotalSpent(budgets));
+    }
+
+    /**
+     * Replaces the budgets in positions [{@code from}, {@code to}) with {@code replacement}.
+     * Used to revert and reapply recorded changes, so the budgets are put back as they were recorded, and
+     * {@link #updateTotalsSpent()} is to be called once the changes are made.
+     */
+    public void replaceRange(int from, int to, List<Budget> replacement) {
+        requireAllNonNull(replacement);
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(replacement);
+        } else if (to - from == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
+    }
+
+    /**
+     * Updates the total spent of every budget. Only the budgets whose total has changed are replaced.
+     */
+    public void updateTotalsSpent() {
+        for (int i = 0; i < internalList.size(); i++) {
+            Budget budget = internalList.get(i);
+            Budget updatedBudget = withDerivedTotalSpent(budget);
+            if (updatedBudget != budget) {
+                internalList.set(i, updatedBudget);
+            }
+        }
+    }
+
+    /**
+     * Updates the total spent of the budget of {@code category} whose time frame includes {@code date}, if there
+     * is one.
+     */
+    public void updateTotalSpentCovering(Category category, Date date) {
+        getCoveringBudget(category, date).ifPresent(budget -> {
+            Budget updatedBudget = withDerivedTotalSpent(budget);
+            if (updatedBudget != budget) {
+                internalList.set(internalList.indexOf(budget), updatedBudget);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code budget} with its total spent derived from the spending in its category and time frame.
+     * {@code budget} itself is returned if its total spent is already up to date.
+     */
+    private Budget withDerivedTotalSpent(Budget budget) {
+        long totalSpent = spendingTotals.getTotalSpent(budget.getCategory(), budget.getStartDate(),
+                budget.getEndDate());
+        if (budget.getTotalSpent() == totalSpent) {
+            return budget;
+        }
+        Budget updatedBudget = new Budget(budget);
+        updatedBudget.setTotalSpent(totalSpent);
+        return updatedBudget;
+    }
+
+    /**
+     * Returns {@code budgets}, each with its total spent derived from the spending.
+     */
+    private List<Budget> withDerivedTotalSpent(List<Budget> budgets) {
+        List<Budget> updatedBudgets = new ArrayList<>(budgets.size());
+        for (Budget budget : budgets) {
+            updatedBudgets.add(withDerivedTotalSpent(budget));
+        }
+        return updatedBudgets;
     }
 
     /**
@@ -109,11 +232,11 @@ public class BudgetList implements Iterable<Budget> {
     }
 
     /**
-     * Returns budget at specified category.
+     * Returns the earliest budget of the specified category.
      * Does not take care of the case where budget does no exist
      */
     public Budget get(Category category) {
-        return internalList.get(getIndex(category));
+        return index.getBudgets(category).get(0);
     }
 
     /**
@@ -127,4 +250,12 @@ public class BudgetList implements Iterable<Budget> {
     public Iterator<Budget> iterator() {
         return internalList.iterator();
     }
+
+    /**
+     * Gives the total spent, in cents, on a category within a time frame.
+     */
+    @FunctionalInterface
+    public interface SpendingTotals {
+        long getTotalSpent(Category category, Date startDate, Date endDate);
+    }
 }
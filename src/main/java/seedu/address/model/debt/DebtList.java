@@ -3,11 +3,13 @@ package seedu.address.model.debt;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.HashIndex;
 import seedu.address.model.debt.exceptions.DebtNotFoundException;
 
 /**
@@ -22,13 +24,15 @@ public class DebtList implements Iterable<Debt> {
     private final ObservableList<Debt> internalList = FXCollections.observableArrayList();
     private final ObservableList<Debt> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashIndex<Debt> identityIndex = new HashIndex<>(internalList,
+        debt -> Arrays.asList(debt.getPersonOwed(), debt.getAmount()));
 
     /**
      * Returns true if the list contains an equivalent debt as the given argument.
      */
     public boolean contains(Debt toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDebt);
+        return identityIndex.containsKeyOf(toCheck);
     }
 
     /**
@@ -39,6 +43,14 @@ public class DebtList implements Iterable<Debt> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list as a single change.
+     */
+    public void addAll(List<Debt> toAdd) {
+        requireAllNonNull(toAdd);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the debt {@code target} in the list with {@code editedDebt}.
      * {@code target} must exist in the list.
@@ -46,7 +58,8 @@ public class DebtList implements Iterable<Debt> {
     public void setDebt(Debt target, Debt editedDebt) {
         requireAllNonNull(target, editedDebt);
 
-        int index = internalList.indexOf(target);
+        // equal debts have the same identity fields, so a debt that is not indexed cannot be in the list
+        int index = identityIndex.containsKeyOf(target) ? internalList.indexOf(target) : -1;
         if (index == -1) {
             throw new DebtNotFoundException();
         }
@@ -70,13 +83,29 @@ public class DebtList implements Iterable<Debt> {
         internalList.setAll(debts);
     }
 
+    /**
+     * Replaces the debts in positions [{@code from}, {@code to}) with {@code replacement}.
+     * Used to revert and reapply recorded changes.
+     */
+    public void replaceRange(int from, int to, List<Debt> replacement) {
+        requireAllNonNull(replacement);
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(replacement);
+        } else if (to - from == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
+    }
+
     /**
      * Removes the equivalent debt from the list.
      * The debt must exist in the list.
      */
     public void remove(Debt toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!identityIndex.containsKeyOf(toRemove) || !internalList.remove(toRemove)) {
             throw new DebtNotFoundException();
         }
     }
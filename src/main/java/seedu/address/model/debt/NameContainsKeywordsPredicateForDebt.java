@@ -17,8 +17,7 @@ public class NameContainsKeywordsPredicateForDebt implements Predicate<Debt> {
 
     @Override
     public boolean test(Debt debt) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(debt.getPersonOwed().name, keyword));
+        return StringUtil.containsAnyWordIgnoreCase(debt.getPersonOwed().name, keywords);
     }
 
     @Override
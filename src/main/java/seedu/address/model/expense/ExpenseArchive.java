@@ -0,0 +1,32 @@
+package seedu.address.model.expense;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The expenses of the earliest months of a finance tracker, which are left in storage instead of being loaded into
+ * its expense list until they are needed.
+ * An archive never changes: loading some of its months leaves the finance tracker with a smaller archive, so an
+ * archive can be shared by copies of a finance tracker.
+ */
+public interface ExpenseArchive {
+
+    /**
+     * Returns the month after the latest archived month. Every archived month is before it.
+     */
+    YearMonth getEnd();
+
+    /**
+     * Reads the expenses of the archived months from {@code month} onwards.
+     *
+     * @throws seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException if they cannot be read.
+     */
+    List<Expense> readFrom(YearMonth month);
+
+    /**
+     * Returns the archive of only the archived months before {@code month}, if there are any.
+     */
+    Optional<ExpenseArchive> before(YearMonth month);
+
+}
@@ -1,14 +1,20 @@
 package seedu.address.model.expense;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.HashIndex;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
 
 /**
@@ -16,12 +22,19 @@ import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The expenses are kept on the heap, unless the list is backed by an {@code ExpenseRecordList}, which materializes
+ * them only when they are read. The dates, amounts and categories that the list is searched and summed by are then
+ * read straight from the records, and the expenses are not indexed by their identity fields, as that index would hold
+ * an object per expense.
+ *
  * @see Expense
  */
 public class ExpenseList implements Iterable<Expense> {
-    private final ObservableList<Expense> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Expense> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<Expense> internalList;
+    private final ObservableList<Expense> internalUnmodifiableList;
+    private final ExpenseRecordList records; // null if the expenses are kept on the heap
+    private final HashIndex<Expense> identityIndex; // null if the expenses are kept as records
+    private final SpendIndex spendIndex;
 
     private final Comparator<Expense> comparator = new Comparator<Expense>() {
         @Override
@@ -30,22 +43,97 @@ public class ExpenseList implements Iterable<Expense> {
         }
     };
 
+    /**
+     * Creates an empty list that keeps its expenses on the heap.
+     */
+    public ExpenseList() {
+        internalList = FXCollections.observableArrayList();
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        records = null;
+        identityIndex = new HashIndex<>(internalList,
+            expense -> Arrays.asList(expense.getName(), expense.getAmount(), expense.getDate()));
+        spendIndex = new SpendIndex(this);
+    }
+
+    /**
+     * Creates a list that keeps its expenses in {@code records}, which must be empty.
+     */
+    public ExpenseList(ExpenseRecordList records) {
+        requireNonNull(records);
+        checkArgument(records.isEmpty(), "The expense records must be empty");
+        internalList = FXCollections.observableList(records);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        this.records = records;
+        identityIndex = null;
+        spendIndex = new SpendIndex(this);
+    }
+
     /**
      * Returns true if the list contains an equivalent expense as the given argument.
      */
     public boolean contains(Expense toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameExpense);
+        if (identityIndex != null) {
+            return identityIndex.containsKeyOf(toCheck);
+        }
+
+        int to = countExpensesAfter(toCheck.getDate(), true);
+        for (int i = countExpensesAfter(toCheck.getDate(), false); i < to; i++) {
+            if (records.getCents(i) == toCheck.getAmount().value
+                    && internalList.get(i).getName().equals(toCheck.getName())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Adds a expense to the list.
-     * The expense must not already exist in the list.
+     * The expense is inserted after any expenses on the same date, so the list stays sorted without re-sorting it.
      */
     public void add(Expense toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
-        FXCollections.sort(internalList, comparator); // sort internal list every time expense added
+        internalList.add(findInsertionIndex(toAdd), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, sorting them only once.
+     * If the new expenses fall within a range of the list that is no longer than them, as when loading many expenses
+     * at once, they are merged into that range and it is replaced as a whole, which is a single change if they are
+     * all inserted at one point or cover the whole list. Otherwise each of them is inserted on its own, so that the
+     * change is proportional to the number of new expenses rather than to the size of the range.
+     */
+    public void addAll(List<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        List<Expense> sortedToAdd = new ArrayList<>(toAdd);
+        sortedToAdd.sort(comparator); // stable, so expenses on the same date keep their insertion order
+        int from = findInsertionIndex(sortedToAdd.get(0));
+        int to = findInsertionIndex(sortedToAdd.get(sortedToAdd.size() - 1));
+
+        if (to - from > sortedToAdd.size()) {
+            int index = from;
+            for (Expense expense : sortedToAdd) {
+                while (index < internalList.size() && comparator.compare(internalList.get(index), expense) <= 0) {
+                    index++;
+                }
+                internalList.add(index++, expense);
+            }
+            return;
+        }
+
+        List<Expense> merged = new ArrayList<>(to - from + sortedToAdd.size());
+        int next = from;
+        for (Expense expense : sortedToAdd) {
+            while (next < to && comparator.compare(internalList.get(next), expense) <= 0) {
+                merged.add(internalList.get(next++));
+            }
+            merged.add(expense);
+        }
+        replaceRange(from, to, merged);
     }
 
     /**
@@ -55,17 +143,19 @@ public class ExpenseList implements Iterable<Expense> {
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ExpenseNotFoundException();
         }
 
-        internalList.set(index, editedExpense);
-
-        if (!editedExpense.getDate().equals(target.getDate())) {
-            FXCollections.sort(internalList, comparator); // sort internal list every date is edited
+        if (!target.getDate().equals(editedExpense.getDate())) {
+            // only the edited expense is out of place, so it is moved on its own, to where add would put it
+            internalList.remove(index);
+            add(editedExpense);
+            return;
         }
 
+        internalList.set(index, editedExpense);
     }
 
     public void setExpenses(ExpenseList replacement) {
@@ -74,12 +164,32 @@ public class ExpenseList implements Iterable<Expense> {
     }
 
     /**
-     * Replaces the contents of this list with {@code expenses}.
+     * Replaces the contents of this list with {@code expenses}, sorted by date.
      * {@code expenses} may contain duplicate expenses.
      */
     public void setExpenses(List<Expense> expenses) {
         requireAllNonNull(expenses);
-        internalList.setAll(expenses);
+        List<Expense> sorted = new ArrayList<>(expenses);
+        sorted.sort(comparator);
+        internalList.setAll(sorted);
+    }
+
+    /**
+     * Replaces the expenses in positions [{@code from}, {@code to}) with {@code replacement}.
+     * Used to revert and reapply recorded changes, so {@code replacement} must keep the list sorted.
+     */
+    public void replaceRange(int from, int to, List<Expense> replacement) {
+        requireAllNonNull(replacement);
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(replacement);
+        } else if (to - from == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else if (from == to) {
+            internalList.addAll(from, replacement);
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
     }
 
     /**
@@ -88,9 +198,101 @@ public class ExpenseList implements Iterable<Expense> {
      */
     public void remove(Expense toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ExpenseNotFoundException();
         }
+        internalList.remove(index);
+    }
+
+    /**
+     * Returns a read-only view of the expenses dated from {@code startDate} to {@code endDate} inclusive, latest first.
+     * The ends of the view are found by binary search, so only the expenses in the range are ever visited.
+     * The view must not be used after the list is modified.
+     */
+    public List<Expense> expensesBetween(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        int from = countExpensesAfter(endDate, false);
+        int to = countExpensesAfter(startDate, true);
+        if (from >= to) {
+            return internalUnmodifiableList.subList(0, 0);
+        }
+        return internalUnmodifiableList.subList(from, to);
+    }
+
+    /**
+     * Returns the total amount, in cents, of the expenses of {@code category} dated from {@code startDate} to
+     * {@code endDate} inclusive.
+     */
+    public long totalSpentBetween(Category category, Date startDate, Date endDate) {
+        requireAllNonNull(category, startDate, endDate);
+        return spendIndex.getTotalSpent(category, startDate, endDate);
+    }
+
+    /**
+     * Visits the amount, date and category of each of the expenses in positions [{@code from}, {@code to}), in order,
+     * without materializing the expenses that are kept as records.
+     */
+    public void scan(int from, int to, ExpenseRecordList.RecordVisitor visitor) {
+        requireNonNull(visitor);
+        if (records != null) {
+            records.scan(from, to, visitor);
+            return;
+        }
+        for (Expense expense : internalList.subList(from, to)) {
+            visitor.visit(expense.getAmount().value, expense.getDate().getLocalDate().toEpochDay(),
+                    expense.getCategory());
+        }
+    }
+
+    /**
+     * Returns the index of the first expense in the list equal to {@code expense}, or -1 if there is none.
+     * Only the expenses on the same date as {@code expense} are compared, and none at all if no expense has the same
+     * identity fields.
+     */
+    private int indexOf(Expense expense) {
+        if (identityIndex != null && !identityIndex.containsKeyOf(expense)) {
+            return -1;
+        }
+
+        int to = countExpensesAfter(expense.getDate(), true);
+        for (int i = countExpensesAfter(expense.getDate(), false); i < to; i++) {
+            if ((records == null || records.getCents(i) == expense.getAmount().value)
+                    && internalList.get(i).equals(expense)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which {@code expense} would be inserted to keep the list sorted, which is after all the
+     * expenses on the same date.
+     */
+    private int findInsertionIndex(Expense expense) {
+        return countExpensesAfter(expense.getDate(), true);
+    }
+
+    /**
+     * Returns the number of expenses dated after {@code date}, or on or after {@code date} if {@code isInclusive}.
+     * As the list is sorted latest first, these are exactly the expenses at the front of the list.
+     */
+    private int countExpensesAfter(Date date, boolean isInclusive) {
+        long epochDay = date.getLocalDate().toEpochDay();
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long middleEpochDay = records != null
+                    ? records.getEpochDay(middle)
+                    : internalList.get(middle).getDate().getLocalDate().toEpochDay();
+            if (middleEpochDay > epochDay || (isInclusive && middleEpochDay == epochDay)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
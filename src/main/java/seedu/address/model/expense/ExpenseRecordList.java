@@ -0,0 +1,39 @@
+package seedu.address.model.expense;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+import seedu.address.model.attributes.Category;
+
+/**
+ * A list of expenses that keeps them as records of their fields rather than as objects, and materializes an
+ * {@code Expense} only when one is read from the list.
+ * The amount, date and category of the records can be read without materializing the expenses.
+ * A list may run out of room for its records, in which case adding or replacing an expense throws an
+ * {@code ExpenseStoreFullException} and leaves the list unchanged.
+ */
+public interface ExpenseRecordList extends List<Expense>, RandomAccess {
+
+    /**
+     * Returns the amount, in cents, of the expense at {@code index}.
+     */
+    int getCents(int index);
+
+    /**
+     * Returns the date of the expense at {@code index}, as a number of days since the epoch.
+     */
+    long getEpochDay(int index);
+
+    /**
+     * Visits the amount, date and category of each of the expenses in positions [{@code from}, {@code to}), in order.
+     */
+    void scan(int from, int to, RecordVisitor visitor);
+
+    /**
+     * Visits the fields of an expense record.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int cents, long epochDay, Category category);
+    }
+}
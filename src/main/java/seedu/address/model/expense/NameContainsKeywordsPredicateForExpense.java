@@ -17,8 +17,7 @@ public class NameContainsKeywordsPredicateForExpense implements Predicate<Expens
 
     @Override
     public boolean test(Expense expense) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(expense.getName().name, keyword));
+        return StringUtil.containsAnyWordIgnoreCase(expense.getName().name, keywords);
     }
 
     @Override
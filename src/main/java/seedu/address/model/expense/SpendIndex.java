@@ -0,0 +1,73 @@
+package seedu.address.model.expense;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.FenwickTree;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+
+/**
+ * Sums the amounts of the expenses in a list by category and date, so that the total spent on a category within a
+ * time frame can be found in logarithmic time.
+ * The sums are kept up to date by listening to the list, so every kind of change to the list is reflected.
+ */
+class SpendIndex {
+
+    private final ExpenseList expenses;
+    private final Map<Category, FenwickTree> spendByCategory = new EnumMap<>(Category.class);
+
+    /**
+     * Creates an index of {@code expenses} that is kept up to date as the list changes.
+     * The expenses added to the list are summed by scanning it, so they are not materialized.
+     */
+    SpendIndex(ExpenseList expenses) {
+        this.expenses = expenses;
+        ObservableList<Expense> list = expenses.asUnmodifiableObservableList();
+        expenses.scan(0, list.size(), (cents, epochDay, category) -> add(category, epochDay, cents));
+        list.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the total amount, in cents, of the expenses of {@code category} dated from {@code startDate} to
+     * {@code endDate}, both inclusive.
+     */
+    long getTotalSpent(Category category, Date startDate, Date endDate) {
+        FenwickTree spendByDay = spendByCategory.get(category);
+        if (spendByDay == null) {
+            return 0;
+        }
+        return spendByDay.sum(toKey(startDate), toKey(endDate));
+    }
+
+    /**
+     * Updates the sums with the expenses removed from and added to the list by {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(expense -> add(expense.getCategory(),
+                    expense.getDate().getLocalDate().toEpochDay(), -(long) expense.getAmount().value));
+            expenses.scan(change.getFrom(), change.getTo(), (cents, epochDay, category) ->
+                    add(category, epochDay, cents));
+        }
+    }
+
+    /**
+     * Adds {@code amount} cents to the sum of {@code category} on the day {@code epochDay} days after the epoch.
+     */
+    private void add(Category category, long epochDay, long amount) {
+        spendByCategory.computeIfAbsent(category, unused -> new FenwickTree()).add((int) epochDay, amount);
+    }
+
+    /**
+     * Returns the key of {@code date} in the trees, which is its epoch day.
+     */
+    private static int toKey(Date date) {
+        return (int) date.getLocalDate().toEpochDay();
+    }
+}
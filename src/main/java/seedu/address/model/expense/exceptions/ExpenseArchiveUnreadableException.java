@@ -0,0 +1,12 @@
+package seedu.address.model.expense.exceptions;
+
+/**
+ * Signals that the archived expenses of earlier months could not be read from storage.
+ */
+public class ExpenseArchiveUnreadableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ExpenseArchiveUnreadableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.address.model.expense.exceptions;
+
+/**
+ * Signals that there is no room left in the store that the expenses are kept in for the operation.
+ */
+public class ExpenseStoreFullException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ExpenseStoreFullException() {
+        super("There is no room left to store more expenses");
+    }
+}
@@ -3,7 +3,9 @@ package seedu.address.model.recurring;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.attributes.Amount;
@@ -19,39 +21,19 @@ import seedu.address.model.expense.Expense;
  * Guarantees: field values are validated, immutable.
  */
 public class Recurring extends Expense {
+    private static final String OCCURRENCE_NAME_SUFFIX = " (Recurring)";
+
     // Additional fields
     private Frequency frequency;
     private Occurrence occurrence;
     private LocalDate lastConvertedDate;
-    private ArrayList<Expense> recurringListOfExpenses;
 
     /**
      * Initializes a newly created Recurring object that contains only the compulsory fields.
      */
     public Recurring(Name name, Amount amount, Date date, Category category, String remarks, Frequency frequency,
                      Occurrence occurrence) {
-        super(name, amount, date, category, remarks);
-        requireAllNonNull(frequency, occurrence);
-        this.frequency = frequency;
-        this.occurrence = occurrence;
-        this.lastConvertedDate = date.getLocalDate().minusDays(1);
-        this.recurringListOfExpenses = new ArrayList<>(occurrence.value);
-        for (int i = 0; i < occurrence.value; i++) {
-            Name newName = new Name(name.name + " (Recurring)");
-
-            Date newDate = new Date(date);
-            if (frequency.value.equals("D")) {
-                newDate.setLocalDate(date.getLocalDate().plusDays(i));
-            } else if (frequency.value.equals("M")) {
-                newDate.setLocalDate(date.getLocalDate().plusMonths(i));
-            } else if (frequency.value.equals("Y")) {
-                newDate.setLocalDate(date.getLocalDate().plusYears(i));
-            }
-
-            Expense toAdd = new Expense(newName, amount, newDate, category, remarks);
-            //System.out.println(toAdd);
-            this.recurringListOfExpenses.add(toAdd);
-        }
+        this(name, amount, date, category, remarks, frequency, occurrence, date.getLocalDate().minusDays(1));
     }
 
     /**
@@ -64,23 +46,6 @@ public class Recurring extends Expense {
         this.frequency = frequency;
         this.occurrence = occurrence;
         this.lastConvertedDate = lastConvertedDate;
-        this.recurringListOfExpenses = new ArrayList<>(occurrence.value);
-        for (int i = 0; i < occurrence.value; i++) {
-            Name newName = new Name(name.name + " (Recurring)");
-
-            Date newDate = new Date(date);
-            if (frequency.value.equals("D")) {
-                newDate.setLocalDate(date.getLocalDate().plusDays(i));
-            } else if (frequency.value.equals("M")) {
-                newDate.setLocalDate(date.getLocalDate().plusMonths(i));
-            } else if (frequency.value.equals("Y")) {
-                newDate.setLocalDate(date.getLocalDate().plusYears(i));
-            }
-
-            Expense toAdd = new Expense(newName, amount, newDate, category, remarks);
-            //System.out.println(toAdd);
-            this.recurringListOfExpenses.add(toAdd);
-        }
     }
 
     /**
@@ -88,56 +53,15 @@ public class Recurring extends Expense {
      */
     public Recurring(Name name, Amount amount, Date date, Category category, String remarks, Frequency frequency,
                      Occurrence occurrence, String localDate) {
-        super(name, amount, date, category, remarks);
-        requireAllNonNull(frequency, occurrence);
-        this.frequency = frequency;
-        this.occurrence = occurrence;
-        this.lastConvertedDate = LocalDate.parse(localDate);
-        this.recurringListOfExpenses = new ArrayList<>(occurrence.value);
-        for (int i = 0; i < occurrence.value; i++) {
-            Name newName = new Name(name.name + " (Recurring)");
-
-            Date newDate = new Date(date);
-            if (frequency.value.equals("D")) {
-                newDate.setLocalDate(date.getLocalDate().plusDays(i));
-            } else if (frequency.value.equals("M")) {
-                newDate.setLocalDate(date.getLocalDate().plusMonths(i));
-            } else if (frequency.value.equals("Y")) {
-                newDate.setLocalDate(date.getLocalDate().plusYears(i));
-            }
-
-            Expense toAdd = new Expense(newName, amount, newDate, category, remarks);
-            //System.out.println(toAdd);
-            this.recurringListOfExpenses.add(toAdd);
-        }
+        this(name, amount, date, category, remarks, frequency, occurrence, LocalDate.parse(localDate));
     }
 
     /**
-     * Initializes a newly created Recurring object from another Recurring object.
+     * Initializes a newly created Recurring object from another Recurring object, converted up to today.
      */
     public Recurring(Recurring recurring) {
-        super(recurring.getName(), recurring.getAmount(), recurring.getDate(), recurring.getCategory(),
-                recurring.getRemarks());
-        this.frequency = recurring.getFrequency();
-        this.occurrence = recurring.getOccurrence();
-        this.lastConvertedDate = LocalDate.now();
-        this.recurringListOfExpenses = new ArrayList<>(occurrence.value);
-        for (int i = 0; i < occurrence.value; i++) {
-            Name newName = new Name(name.name + " (Recurring)");
-
-            Date newDate = new Date(date);
-            if (frequency.value.equals("D")) {
-                newDate.setLocalDate(date.getLocalDate().plusDays(i));
-            } else if (frequency.value.equals("M")) {
-                newDate.setLocalDate(date.getLocalDate().plusMonths(i));
-            } else if (frequency.value.equals("Y")) {
-                newDate.setLocalDate(date.getLocalDate().plusYears(i));
-            }
-
-            Expense toAdd = new Expense(newName, amount, newDate, category, remarks);
-            //System.out.println(toAdd);
-            this.recurringListOfExpenses.add(toAdd);
-        }
+        this(recurring.getName(), recurring.getAmount(), recurring.getDate(), recurring.getCategory(),
+                recurring.getRemarks(), recurring.getFrequency(), recurring.getOccurrence(), LocalDate.now());
     }
 
     public Frequency getFrequency() {
@@ -152,8 +76,89 @@ public class Recurring extends Expense {
         return lastConvertedDate;
     }
 
-    public ArrayList<Expense> getRecurringListOfExpenses() {
-        return recurringListOfExpenses;
+    /**
+     * Returns a view of the expenses of all the occurrences of this recurring, in order.
+     * Each expense is only created when it is retrieved.
+     */
+    public List<Expense> getRecurringListOfExpenses() {
+        return new AbstractList<Expense>() {
+            @Override
+            public Expense get(int index) {
+                return occurrenceAt(index);
+            }
+
+            @Override
+            public int size() {
+                return occurrence.value;
+            }
+        };
+    }
+
+    /**
+     * Returns the date of the occurrence at {@code index}, counting from 0 for the date of this recurring.
+     * The date is calculated from the frequency, so it takes the same time for any index.
+     */
+    public LocalDate getOccurrenceDate(int index) {
+        if (index < 0 || index >= occurrence.value) {
+            throw new IndexOutOfBoundsException("Occurrence " + index + " of " + occurrence.value);
+        }
+
+        LocalDate startDate = date.getLocalDate();
+        switch (frequency.value) {
+        case "D":
+            return startDate.plusDays(index);
+        case "W":
+            return startDate.plusWeeks(index);
+        case "M":
+            return startDate.plusMonths(index);
+        case "Y":
+            return startDate.plusYears(index);
+        default:
+            throw new IllegalStateException("Unknown frequency: " + frequency);
+        }
+    }
+
+    /**
+     * Returns the expense of the occurrence at {@code index}, counting from 0.
+     */
+    public Expense occurrenceAt(int index) {
+        Date occurrenceDate = new Date(date);
+        occurrenceDate.setLocalDate(getOccurrenceDate(index));
+        return new Expense(new Name(name.name + OCCURRENCE_NAME_SUFFIX), amount, occurrenceDate, category, remarks);
+    }
+
+    /**
+     * Returns the expenses of the occurrences dated after {@code startDate} and up to {@code endDate} inclusive,
+     * in order.
+     * As occurrence dates only increase, the first and last of these occurrences are found by binary search, so only
+     * the occurrences returned are created.
+     */
+    public List<Expense> getOccurrencesBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        int from = countOccurrencesUntil(startDate);
+        int to = countOccurrencesUntil(endDate);
+        List<Expense> occurrences = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            occurrences.add(occurrenceAt(i));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the number of occurrences dated on or before {@code date}.
+     */
+    private int countOccurrencesUntil(LocalDate date) {
+        int low = 0;
+        int high = occurrence.value;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getOccurrenceDate(middle).isAfter(date)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
     }
 
     /**
@@ -170,7 +175,7 @@ public class Recurring extends Expense {
                 && otherRecurring.getAmount().equals(getAmount())
                 && otherRecurring.getDate().equals(getDate())
                 && otherRecurring.getFrequency().equals(getFrequency())
-                && otherRecurring.getOccurrence() == (getOccurrence());
+                && otherRecurring.getOccurrence().equals(getOccurrence());
     }
 
     /**
@@ -194,13 +199,14 @@ public class Recurring extends Expense {
                 && otherRecurring.getCategory().equals(getCategory())
                 && otherRecurring.getRemarks().equals(getRemarks())
                 && otherRecurring.getFrequency().equals(getFrequency())
-                && otherRecurring.getOccurrence().equals(getOccurrence());
+                && otherRecurring.getOccurrence().equals(getOccurrence())
+                && Objects.equals(otherRecurring.getLastConvertedDate(), getLastConvertedDate());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, amount, date, category, remarks, frequency, occurrence);
+        return Objects.hash(name, amount, date, category, remarks, frequency, occurrence, lastConvertedDate);
     }
 
     @Override
@@ -3,11 +3,15 @@ package seedu.address.model.recurring;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.HashIndex;
 import seedu.address.model.recurring.exceptions.DuplicateRecurringException;
 import seedu.address.model.recurring.exceptions.RecurringNotFoundException;
 
@@ -22,13 +26,14 @@ public class RecurringList {
     private final ObservableList<Recurring> internalList = FXCollections.observableArrayList();
     private final ObservableList<Recurring> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashIndex<Recurring> identityIndex = new HashIndex<>(internalList, RecurringList::getIdentityKey);
 
     /**
      * Returns true if the list contains an equivalent recurring as the given argument.
      */
     public boolean contains(Recurring toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecurring);
+        return identityIndex.containsKeyOf(toCheck);
     }
 
     /**
@@ -43,6 +48,22 @@ public class RecurringList {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list as a single change.
+     * None of them may already exist in the list or appear twice in {@code toAdd}.
+     * The list is left unchanged if any of them does.
+     */
+    public void addAll(List<Recurring> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Object> addedKeys = new HashSet<>();
+        for (Recurring recurring : toAdd) {
+            if (contains(recurring) || !addedKeys.add(getIdentityKey(recurring))) {
+                throw new DuplicateRecurringException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the recurring {@code target} in the list with {@code editedRecurring}.
      * {@code target} must exist in the list.
@@ -51,7 +72,8 @@ public class RecurringList {
     public void setRecurring(Recurring target, Recurring editedRecurring) {
         requireAllNonNull(target, editedRecurring);
 
-        int index = internalList.indexOf(target);
+        // equal recurrings have the same identity fields, so a recurring that is not indexed cannot be in the list
+        int index = identityIndex.containsKeyOf(target) ? internalList.indexOf(target) : -1;
         if (index == -1) {
             throw new RecurringNotFoundException();
         }
@@ -73,17 +95,41 @@ public class RecurringList {
         internalList.setAll(recurrings);
     }
 
+    /**
+     * Replaces the recurrings in positions [{@code from}, {@code to}) with {@code replacement}.
+     * Used to revert and reapply recorded changes.
+     */
+    public void replaceRange(int from, int to, List<Recurring> replacement) {
+        requireAllNonNull(replacement);
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(replacement);
+        } else if (to - from == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, replacement);
+        }
+    }
+
     /**
      * Removes the equivalent recurring from the list.
      * The recurring must exist in the list.
      */
     public void remove(Recurring toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!identityIndex.containsKeyOf(toRemove) || !internalList.remove(toRemove)) {
             throw new RecurringNotFoundException();
         }
     }
 
+    /**
+     * Returns a key that is equal for two recurrings if and only if {@link Recurring#isSameRecurring} holds for them.
+     */
+    private static Object getIdentityKey(Recurring recurring) {
+        return Arrays.asList(recurring.getName(), recurring.getAmount(), recurring.getDate(),
+                recurring.getFrequency(), recurring.getOccurrence());
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
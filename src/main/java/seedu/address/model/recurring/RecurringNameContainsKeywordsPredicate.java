@@ -17,8 +17,7 @@ public class RecurringNameContainsKeywordsPredicate implements Predicate<Recurri
 
     @Override
     public boolean test(Recurring recurring) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(recurring.getName().name, keyword));
+        return StringUtil.containsAnyWordIgnoreCase(recurring.getName().name, keywords);
     }
 
     @Override
@@ -0,0 +1,74 @@
+package seedu.address.model.statistics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.model.attributes.Category;
+
+/**
+ * The amount spent, in cents, and the number of expenses in each category over consecutive periods, accumulated from
+ * a {@link SpendingRollup}.
+ * Categories are indexed by {@link Category#ordinal()}, and the totals over all categories are at index {@link #ALL}.
+ */
+class SpendingAggregate {
+
+    public static final int ALL = Category.values().length;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final long[][] amounts;
+    private final int[][] counts;
+
+    /**
+     * Creates an aggregate of {@code periodCount} periods with nothing spent.
+     */
+    private SpendingAggregate(int periodCount) {
+        amounts = new long[periodCount][ALL + 1];
+        counts = new int[periodCount][ALL + 1];
+    }
+
+    /**
+     * Accumulates the spending in {@code rollup} into the periods starting on {@code periodStarts}, in ascending
+     * order. Each period ends the day before the next one starts, and the last one ends on {@code lastPeriodEnd}.
+     */
+    public static SpendingAggregate of(SpendingRollup rollup, List<LocalDate> periodStarts, LocalDate lastPeriodEnd) {
+        requireAllNonNull(rollup, periodStarts, lastPeriodEnd);
+
+        SpendingAggregate aggregate = new SpendingAggregate(periodStarts.size());
+        for (int period = 0; period < periodStarts.size(); period++) {
+            LocalDate periodEnd = period + 1 < periodStarts.size()
+                    ? periodStarts.get(period + 1).minusDays(1)
+                    : lastPeriodEnd;
+            rollup.accumulate(periodStarts.get(period), periodEnd, aggregate.amounts[period],
+                    aggregate.counts[period]);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Returns the name of the category at index {@code category}.
+     */
+    public static String getCategoryName(int category) {
+        return category == ALL ? "ALL" : CATEGORIES[category].toString();
+    }
+
+    public int getPeriodCount() {
+        return amounts.length;
+    }
+
+    /**
+     * Returns the amount spent, in cents, on the category at index {@code category} in {@code period}.
+     */
+    public long getAmount(int period, int category) {
+        return amounts[period][category];
+    }
+
+    /**
+     * Returns the number of expenses in the category at index {@code category} in {@code period}.
+     */
+    public int getCount(int period, int category) {
+        return counts[period][category];
+    }
+}
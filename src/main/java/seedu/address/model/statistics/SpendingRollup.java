@@ -0,0 +1,248 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
+import seedu.address.model.expense.ExpenseRecordList;
+
+/**
+ * Keeps the amount spent, in cents, and the number of expenses in each category of a list of expenses, for every day,
+ * ISO week, month and year in which there are expenses.
+ * The totals are kept up to date by listening to the list, so every kind of change to the list is reflected.
+ *
+ * The spending within any date range is the sum of the few calendar buckets that tile it, so it can be found in time
+ * that depends only on the length of the range, and not on the number of expenses.
+ *
+ * The expenses added to an {@code ExpenseList} are read by scanning the list, so the expenses that it keeps as records
+ * are not materialized.
+ */
+public class SpendingRollup {
+
+    /**
+     * Calendar periods that spending is rolled up by.
+     */
+    private enum Granularity {
+        DAY, WEEK, MONTH, YEAR
+    }
+
+    private final Map<Granularity, Map<LocalDate, Bucket>> buckets = createBuckets();
+    private final Scanner scanner;
+
+    /**
+     * Creates a rollup of {@code expenses} that is kept up to date as the list changes.
+     */
+    public SpendingRollup(ObservableList<Expense> expenses) {
+        this(expenses, scannerOf(expenses));
+    }
+
+    /**
+     * Creates a rollup of {@code expenses} that is kept up to date as the list changes.
+     */
+    public SpendingRollup(ExpenseList expenses) {
+        this(requireNonNull(expenses).asUnmodifiableObservableList(), expenses::scan);
+    }
+
+    /**
+     * Creates a rollup of {@code expenses}, which are read with {@code scanner}, that is kept up to date as the list
+     * changes.
+     */
+    private SpendingRollup(ObservableList<Expense> expenses, Scanner scanner) {
+        requireAllNonNull(expenses, scanner);
+        this.scanner = scanner;
+        addAll(scanner, 0, expenses.size(), 1);
+        expenses.addListener(this::onChanged);
+    }
+
+    /**
+     * Adds the amount spent and the number of expenses in each category from {@code startDate} to {@code endDate}
+     * inclusive to {@code amounts} and {@code counts}, which are indexed as in {@link SpendingAggregate}.
+     * Nothing is added if {@code startDate} is after {@code endDate}.
+     */
+    public void accumulate(LocalDate startDate, LocalDate endDate, long[] amounts, int[] counts) {
+        requireAllNonNull(startDate, endDate, amounts, counts);
+        LocalDate cursor = startDate;
+        while (!cursor.isAfter(endDate)) {
+            Granularity granularity = getLargestBucketFrom(cursor, endDate);
+            Bucket bucket = buckets.get(granularity).get(cursor);
+            if (bucket != null) {
+                bucket.addTo(amounts, counts);
+            }
+            cursor = getNextBucketStart(cursor, granularity);
+        }
+    }
+
+    /**
+     * Returns the granularity of the largest bucket that starts on {@code date} and ends by {@code endDate}.
+     * Weeks are only used within a month, so that a long range quickly reaches the start of a month and then of a
+     * year.
+     */
+    private static Granularity getLargestBucketFrom(LocalDate date, LocalDate endDate) {
+        if (date.getDayOfYear() == 1 && !date.plusYears(1).minusDays(1).isAfter(endDate)) {
+            return Granularity.YEAR;
+        }
+        if (date.getDayOfMonth() == 1 && !date.plusMonths(1).minusDays(1).isAfter(endDate)) {
+            return Granularity.MONTH;
+        }
+        LocalDate weekEnd = date.plusDays(6);
+        if (date.getDayOfWeek() == DayOfWeek.MONDAY && weekEnd.getMonth() == date.getMonth()
+                && !weekEnd.isAfter(endDate)) {
+            return Granularity.WEEK;
+        }
+        return Granularity.DAY;
+    }
+
+    /**
+     * Returns the start of the bucket after the one of {@code granularity} starting on {@code bucketStart}.
+     */
+    private static LocalDate getNextBucketStart(LocalDate bucketStart, Granularity granularity) {
+        switch (granularity) {
+        case YEAR:
+            return bucketStart.plusYears(1);
+        case MONTH:
+            return bucketStart.plusMonths(1);
+        case WEEK:
+            return bucketStart.plusWeeks(1);
+        case DAY:
+        default:
+            return bucketStart.plusDays(1);
+        }
+    }
+
+    /**
+     * Returns the start of the bucket of {@code granularity} that contains {@code date}.
+     */
+    private static LocalDate getBucketStart(LocalDate date, Granularity granularity) {
+        switch (granularity) {
+        case YEAR:
+            return date.withDayOfYear(1);
+        case MONTH:
+            return date.withDayOfMonth(1);
+        case WEEK:
+            return date.with(DayOfWeek.MONDAY);
+        case DAY:
+        default:
+            return date;
+        }
+    }
+
+    /**
+     * Updates the totals with the expenses removed from and added to the list by {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Expense> removed = change.getRemoved();
+            addAll(scannerOf(new ArrayList<>(removed)), 0, removed.size(), -1);
+            addAll(scanner, change.getFrom(), change.getTo(), 1);
+        }
+    }
+
+    /**
+     * Adds {@code sign} times each of the expenses in positions [{@code from}, {@code to}) that {@code scanner} reads
+     * to the rollup.
+     */
+    private void addAll(Scanner scanner, int from, int to, int sign) {
+        scanner.scan(from, to, (cents, epochDay, category) -> add(cents, epochDay, category, sign));
+    }
+
+    /**
+     * Returns a scanner of the expenses in {@code expenses}.
+     */
+    private static Scanner scannerOf(List<? extends Expense> expenses) {
+        return (from, to, visitor) -> {
+            for (int i = from; i < to; i++) {
+                Expense expense = expenses.get(i);
+                visitor.visit(expense.getAmount().value, expense.getDate().getLocalDate().toEpochDay(),
+                        expense.getCategory());
+            }
+        };
+    }
+
+    /**
+     * Returns empty buckets of every granularity.
+     */
+    private static Map<Granularity, Map<LocalDate, Bucket>> createBuckets() {
+        Map<Granularity, Map<LocalDate, Bucket>> buckets = new EnumMap<>(Granularity.class);
+        for (Granularity granularity : Granularity.values()) {
+            buckets.put(granularity, new HashMap<>());
+        }
+        return buckets;
+    }
+
+    /**
+     * Adds {@code sign} times an expense of {@code cents} in {@code category}, dated {@code epochDay} days after the
+     * epoch, to the bucket of each granularity that contains its date. Buckets left without any expenses are dropped.
+     */
+    private void add(int cents, long epochDay, Category expenseCategory, int sign) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        int category = expenseCategory.ordinal();
+        long amount = sign * (long) cents;
+        for (Granularity granularity : Granularity.values()) {
+            Map<LocalDate, Bucket> bucketsOfGranularity = buckets.get(granularity);
+            LocalDate bucketStart = getBucketStart(date, granularity);
+            Bucket bucket = bucketsOfGranularity.computeIfAbsent(bucketStart, unused -> new Bucket());
+            bucket.add(category, amount, sign);
+            if (bucket.isEmpty()) {
+                bucketsOfGranularity.remove(bucketStart);
+            }
+        }
+    }
+
+    /**
+     * Reads the amount, date and category of each expense in a range of positions of a list of expenses.
+     */
+    @FunctionalInterface
+    private interface Scanner {
+        void scan(int from, int to, ExpenseRecordList.RecordVisitor visitor);
+    }
+
+    /**
+     * The amount spent and the number of expenses in each category within one calendar period.
+     */
+    private static class Bucket {
+        private final long[] amounts = new long[SpendingAggregate.ALL + 1];
+        private final int[] counts = new int[SpendingAggregate.ALL + 1];
+
+        /**
+         * Adds {@code amount} cents and {@code count} expenses to the category at index {@code category}.
+         */
+        private void add(int category, long amount, int count) {
+            amounts[category] += amount;
+            counts[category] += count;
+            amounts[SpendingAggregate.ALL] += amount;
+            counts[SpendingAggregate.ALL] += count;
+        }
+
+        /**
+         * Returns true if there are no expenses in this bucket.
+         */
+        private boolean isEmpty() {
+            return counts[SpendingAggregate.ALL] == 0;
+        }
+
+        /**
+         * Adds the totals of this bucket to {@code totalAmounts} and {@code totalCounts}.
+         */
+        private void addTo(long[] totalAmounts, int[] totalCounts) {
+            for (int i = 0; i < amounts.length; i++) {
+                totalAmounts[i] += amounts[i];
+                totalCounts[i] += counts[i];
+            }
+        }
+    }
+}
@@ -2,13 +2,15 @@ package seedu.address.model.statistics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
-import javafx.collections.transformation.FilteredList;
+import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.attributes.Date;
 import seedu.address.model.attributes.Frequency;
-import seedu.address.model.expense.Expense;
 
 /**
  * Statistics
@@ -17,27 +19,33 @@ public class Statistics {
 
     public static final String MESSAGE_CONSTRAINTS_END_DATE =
             "Start date has to be before end date.";
-    public static final int FOOD = 0;
-    public static final int TRANSPORT = 1;
-    public static final int SHOPPING = 2;
-    public static final int WORK = 3;
-    public static final int UTILITIES = 4;
-    public static final int HEALTHCARE = 5;
-    public static final int ENTERTAINMENT = 6;
-    public static final int TRAVEL = 7;
-    public static final int OTHERS = 8;
-    public static final int ALL = 9;
+
+    private static final String TABLE_START = "<table style=\"width:100%\">\n";
+    private static final String TABLE_END = "</table>";
+    private static final String ROW_START = "  <tr>\n";
+    private static final String ROW_END = "  </tr>\n";
+    private static final String CELL_START = "    <th>";
+    private static final String CELL_END = "</th>\n";
 
     protected String html;
-    protected FilteredList<Expense> statsExpenses;
+    protected ReadOnlyFinanceTracker financeTracker;
 
     /**
      * Constructor
-     * statsExpense must be present and not null.
+     * financeTracker must be present and not null.
+     */
+    public Statistics(ReadOnlyFinanceTracker financeTracker) {
+        requireNonNull(financeTracker);
+        this.financeTracker = financeTracker;
+    }
+
+    /**
+     * Returns a copy of these statistics, with the same results.
      */
-    public Statistics(FilteredList<Expense> statsExpenses) {
-        requireNonNull(statsExpenses);
-        this.statsExpenses = statsExpenses;
+    public Statistics copy() {
+        Statistics copy = new Statistics(financeTracker);
+        copy.html = html;
+        return copy;
     }
 
     /**
@@ -75,24 +83,11 @@ public class Statistics {
         requireNonNull(startDate);
         requireNonNull(endDate);
 
-        ArrayList<ArrayList<Expense>> data = extractRelevantExpenses(startDate, endDate);
-        ArrayList<ArrayList<Object>> tableData = generateSummary(data);
-        tableData = trimTable(tableData);
-
-        this.html = "Statistics Summary <br>\n"
-                + "From: " + startDate.toString() + " To: " + endDate.toString() + "\n";
-
-        ArrayList<ArrayList<String>> dataInString = convertDataToString(tableData);
-
-        ArrayList<String> header = new ArrayList<>();
-        header.add("Categories");
-        header.add("Amount Spent ($)");
-        header.add("Entry Counts");
-        header.add("Percentage (%)");
-
-        String table = htmlTableBuilder(header, dataInString);
-        this.html = html + table;
-
+        StringBuilder builder = new StringBuilder();
+        builder.append("Statistics Summary <br>\n")
+                .append("From: ").append(startDate).append(" To: ").append(endDate).append("\n");
+        appendSummaryTable(builder, aggregate(startDate, endDate));
+        this.html = builder.toString();
     }
 
     /**
@@ -129,38 +124,19 @@ public class Statistics {
             endDate2 = new Date(dtf.format(startDate2.getLocalDate().plusMonths(1)));
         }
 
-        this.html = "Statistics Compare <br>\n"
-                + "From: " + startDate1.toString() + " To: " + endDate1.toString() + "\n";
-
-        ArrayList<String> header = new ArrayList<>();
-        header.add("Categories");
-        header.add("Amount Spent ($)");
-        header.add("Entry Counts");
-        header.add("Percentage (%)");
+        StringBuilder builder = new StringBuilder();
+        builder.append("Statistics Compare <br>\n")
+                .append("From: ").append(startDate1).append(" To: ").append(endDate1).append("\n");
 
         // Time Range 1
-        ArrayList<ArrayList<Expense>> data = extractRelevantExpenses(startDate1, endDate1);
-        ArrayList<ArrayList<Object>> tableData = generateSummary(data);
-        tableData = trimTable(tableData);
-
-        ArrayList<ArrayList<String>> dataInString = convertDataToString(tableData);
-
-        String table = htmlTableBuilder(header, dataInString);
-        this.html = html + table;
+        appendSummaryTable(builder, aggregate(startDate1, endDate1));
 
         // Time Range 2
-        this.html = html + "<br>";
-        this.html = html + "From: " + startDate2.toString() + " To: " + endDate2.toString() + "\n";
-
-        ArrayList<ArrayList<Expense>> datac = extractRelevantExpenses(startDate2, endDate2);
-        ArrayList<ArrayList<Object>> tableDatac = generateSummary(datac);
-        tableDatac = trimTable(tableDatac);
-
-        ArrayList<ArrayList<String>> dataInStringc = convertDataToString(tableDatac);
-
-        String tablec = htmlTableBuilder(header, dataInStringc);
-        this.html = html + tablec;
+        builder.append("<br>")
+                .append("From: ").append(startDate2).append(" To: ").append(endDate2).append("\n");
+        appendSummaryTable(builder, aggregate(startDate2, endDate2));
 
+        this.html = builder.toString();
     }
 
     /**
@@ -172,290 +148,138 @@ public class Statistics {
         requireNonNull(endDate);
         requireNonNull(frequency);
 
-        ArrayList<ArrayList<ArrayList<Expense>>> data = new ArrayList<>();
-        Date dateTracker = startDate;
-        Date currentDate;
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
-        ArrayList<String> header = new ArrayList<>();
+        List<String> header = new ArrayList<>();
         header.add("Period Starting (" + frequency.toString() + ") :");
 
-        int intervalCount = 0;
-        while (dateTracker.compareTo(endDate) < 0 && intervalCount < 10) {
-            currentDate = dateTracker;
-            header.add(currentDate.toString());
-            switch (frequency.toString()) {
-            case "D":
-                dateTracker = new Date(dtf.format(dateTracker.getLocalDate().plusDays(1)));
-                break;
-            case "W":
-                dateTracker = new Date(dtf.format(dateTracker.getLocalDate().plusWeeks(1)));
-                break;
-            case "Y":
-                dateTracker = new Date(dtf.format(dateTracker.getLocalDate().plusYears(1)));
-                break;
-            case "M":
-            default:
-                dateTracker = new Date(dtf.format(dateTracker.getLocalDate().plusMonths(1)));
-            }
-
-            ArrayList<ArrayList<Expense>> onePeriodData = extractRelevantExpenses(currentDate, dateTracker);
-            data.add(onePeriodData);
-            intervalCount++;
+        List<LocalDate> periodStarts = new ArrayList<>();
+        LocalDate periodStart = startDate.getLocalDate();
+        while (periodStart.isBefore(endDate.getLocalDate())) {
+            periodStarts.add(periodStart);
+            header.add(new Date(dtf.format(periodStart)).toString());
+            periodStart = getNextPeriodStart(periodStart, frequency);
         }
-        int index = header.size();
-        String temp = header.remove(index - 1);
-        header.add(temp + " till End");
-
-        ArrayList<ArrayList<ArrayList<Object>>> tablesData = generateSummaryTrend(data);
-
-        ArrayList<ArrayList<String>> tableAmountInString = convertDataToString(tablesData.get(0));
-        ArrayList<ArrayList<String>> tableCountInString = convertDataToString(tablesData.get(1));
-
-
-        String tableAmountString = htmlTableBuilder(header, tableAmountInString);
-        String tableCountString = htmlTableBuilder(header, tableCountInString);
-
-        this.html = "Statistics Trend <br>\n"
-                + "From: " + startDate.toString() + " To: " + endDate.toString()
-                + " Period Length: " + frequency.toString() + "<br>\n";
-
-        if (intervalCount == 10) {
-            this.html = html + "<br>\n"
-                + "Maximum periods of 10 reached! Only the first 10 periods will be shown. <br>";
-        }
-
-        this.html = html + "<br>"
-                + "Amount Spent ($): <br>"
-                + tableAmountString
-                + "<br>"
-                + "Counts: <br>"
-                + tableCountString;
+        int last = header.size() - 1;
+        header.set(last, header.get(last) + " till End");
+
+        // the last period ends the day before the period after it would start
+        SpendingAggregate aggregate = SpendingAggregate.of(financeTracker.getSpendingRollup(), periodStarts,
+                periodStart.minusDays(1));
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("Statistics Trend <br>\n")
+                .append("From: ").append(startDate).append(" To: ").append(endDate)
+                .append(" Period Length: ").append(frequency).append("<br>\n");
+
+        builder.append("<br>")
+                .append("Amount Spent ($): <br>");
+        appendTrendTable(builder, header, aggregate, true);
+        builder.append("<br>")
+                .append("Counts: <br>");
+        appendTrendTable(builder, header, aggregate, false);
+
+        this.html = builder.toString();
     }
 
     /**
-     * This method converts the data in a 2D array to string
+     * Returns the start of the period after the one starting on {@code periodStart}.
      */
-    private ArrayList<ArrayList<String>> convertDataToString(ArrayList<ArrayList<Object>> tableData) {
-        ArrayList<ArrayList<String>> dataInString = new ArrayList<>();
-        for (ArrayList<Object> list : tableData) {
-            ArrayList<String> row = new ArrayList<>();
-            for (Object data : list) {
-                if (data instanceof Double) {
-                    row.add(String.format("%.2f", (Double) data));
-                } else if (data instanceof String) {
-                    row.add((String) data);
-                } else if (data instanceof Integer) {
-                    row.add(((Integer) data).toString());
-                }
-            }
-            dataInString.add(row);
+    private LocalDate getNextPeriodStart(LocalDate periodStart, Frequency frequency) {
+        switch (frequency.toString()) {
+        case "D":
+            return periodStart.plusDays(1);
+        case "W":
+            return periodStart.plusWeeks(1);
+        case "Y":
+            return periodStart.plusYears(1);
+        case "M":
+        default:
+            return periodStart.plusMonths(1);
         }
-
-        return dataInString;
     }
 
     /**
-     * This method trims rows in data table by checking count == 0
+     * Accumulates the spending from {@code startDate} to {@code endDate} inclusive, as a single period.
      */
-    private ArrayList<ArrayList<Object>> trimTable(ArrayList<ArrayList<Object>> data) {
-        ArrayList<ArrayList<Object>> tableData = new ArrayList<>();
-        for (ArrayList<Object> row : data) {
-            if (!row.get(2).equals(0)) {
-                tableData.add(row);
-            }
-        }
-        return tableData;
+    private SpendingAggregate aggregate(Date startDate, Date endDate) {
+        return SpendingAggregate.of(financeTracker.getSpendingRollup(),
+                Collections.singletonList(startDate.getLocalDate()), endDate.getLocalDate());
     }
 
     /**
-     * Summarizes data in the Expenses lists provided into a 2D array form
+     * Appends a table summarizing the only period of {@code aggregate} into rows of category, amount, count and
+     * percentage of the total amount. Categories without any expenses are left out.
      */
-    private ArrayList<ArrayList<Object>> generateSummary(ArrayList<ArrayList<Expense>> data) {
-
-        ArrayList<ArrayList<Object>> tableData = new ArrayList<>();
-
-        for (int i = 0; i <= ALL; i++) {
-            ArrayList<Expense> list = data.get(i);
-            double categoryTotal = 0;
-            int categoryCount = 0;
-            String categoryString = convertIntegerCategoryToString(i);
-            if (!list.isEmpty()) {
-                for (Expense e : list) {
-                    categoryTotal += e.getAmount().value / 100;
-                    categoryCount++;
-                }
+    private static void appendSummaryTable(StringBuilder builder, SpendingAggregate aggregate) {
+        builder.append(TABLE_START).append(ROW_START);
+        appendCell(builder, "Categories");
+        appendCell(builder, "Amount Spent ($)");
+        appendCell(builder, "Entry Counts");
+        appendCell(builder, "Percentage (%)");
+        builder.append(ROW_END);
+
+        long total = aggregate.getAmount(0, SpendingAggregate.ALL);
+        for (int i = 0; i <= SpendingAggregate.ALL; i++) {
+            int categoryCount = aggregate.getCount(0, i);
+            if (categoryCount == 0) {
+                continue;
             }
-            ArrayList<Object> rowData = new ArrayList<>();
-            rowData.add(categoryString);
-            rowData.add(categoryTotal);
-            rowData.add(categoryCount);
-            tableData.add(rowData);
-        }
-
-        for (int i = 0; i <= ALL; i++) {
-            double categoryPercentage = (Double) tableData.get(i).get(1)
-                    / (Double) tableData.get(ALL).get(1) * 100;
+            long categoryTotal = aggregate.getAmount(0, i);
+            double categoryPercentage = (double) categoryTotal / total * 100;
             categoryPercentage = Math.floor(categoryPercentage * 100) / 100;
-            tableData.get(i).add(categoryPercentage);
-        }
 
-        return tableData;
+            builder.append(ROW_START);
+            appendCell(builder, SpendingAggregate.getCategoryName(i));
+            appendCentsCell(builder, categoryTotal);
+            appendCell(builder, Integer.toString(categoryCount));
+            appendCell(builder, String.format("%.2f", categoryPercentage));
+            builder.append(ROW_END);
+        }
+        builder.append(TABLE_END);
     }
 
     /**
-     * Summarizes data in the Expenses lists provided into 2 2D arrays
+     * Appends a table of the amount spent on, or if {@code isAmount} is false the number of expenses in, each
+     * category in each period of {@code aggregate}.
      */
-    private ArrayList<ArrayList<ArrayList<Object>>> generateSummaryTrend(
-            ArrayList<ArrayList<ArrayList<Expense>>> data) {
-        ArrayList<ArrayList<ArrayList<Object>>> tablesData = new ArrayList<>();
-        ArrayList<ArrayList<Object>> tableAmount = new ArrayList<>();
-        for (int i = 0; i <= ALL; i++) {
-            tableAmount.add(new ArrayList<>());
-            String categoryString = convertIntegerCategoryToString(i);
-            tableAmount.get(i).add(categoryString);
-        }
-        ArrayList<ArrayList<Object>> tableCount = new ArrayList<>();
-        for (int i = 0; i <= ALL; i++) {
-            tableCount.add(new ArrayList<>());
-            String categoryString = convertIntegerCategoryToString(i);
-            tableCount.get(i).add(categoryString);
+    private static void appendTrendTable(StringBuilder builder, List<String> header, SpendingAggregate aggregate,
+                                         boolean isAmount) {
+        builder.append(TABLE_START).append(ROW_START);
+        for (String column : header) {
+            appendCell(builder, column);
         }
-
-        for (ArrayList<ArrayList<Expense>> period : data) {
-            for (int i = 0; i <= ALL; i++) {
-                ArrayList<Expense> list = period.get(i);
-                double categoryTotal = 0;
-                int categoryCount = 0;
-                if (!list.isEmpty()) {
-                    for (Expense e : list) {
-                        categoryTotal += e.getAmount().value / 100;
-                        categoryCount++;
-                    }
+        builder.append(ROW_END);
+
+        for (int i = 0; i <= SpendingAggregate.ALL; i++) {
+            builder.append(ROW_START);
+            appendCell(builder, SpendingAggregate.getCategoryName(i));
+            for (int period = 0; period < aggregate.getPeriodCount(); period++) {
+                if (isAmount) {
+                    appendCentsCell(builder, aggregate.getAmount(period, i));
+                } else {
+                    builder.append(CELL_START).append(aggregate.getCount(period, i)).append(CELL_END);
                 }
-                tableAmount.get(i).add(categoryTotal);
-                tableCount.get(i).add(categoryCount);
             }
+            builder.append(ROW_END);
         }
-
-        tablesData.add(tableAmount);
-        tablesData.add(tableCount);
-
-        return tablesData;
+        builder.append(TABLE_END);
     }
 
     /**
-     * Given a date range defined by the start and end date, this method scours the expense list the class is
-     * initialised with and extracts only expenses in the range
+     * Appends a table cell containing {@code content}.
      */
-    private ArrayList<ArrayList<Expense>> extractRelevantExpenses(Date startDate, Date endDate) {
-        ArrayList<ArrayList<Expense>> data = new ArrayList<>();
-        for (int i = 0; i <= ALL; i++) {
-            data.add(new ArrayList<>());
-        }
-
-        for (Expense expense : statsExpenses) {
-            Date date = expense.getDate();
-            if (date.compareTo(startDate) != -1 && date.compareTo(endDate) != 1) {
-                data.get(ALL).add(expense);
-                int categoryInInteger = convertCategoryToInteger(expense.getCategory().toString());
-                data.get(categoryInInteger).add(expense);
-            }
-        }
-        return data;
+    private static void appendCell(StringBuilder builder, String content) {
+        builder.append(CELL_START).append(content).append(CELL_END);
     }
 
     /**
-     * Converts String Category into Int Category
+     * Appends a table cell containing an amount in cents, which must not be negative, as dollars with exactly two
+     * decimal places.
      */
-    protected int convertCategoryToInteger(String categoryInString) {
-        requireNonNull(categoryInString);
-
-        switch (categoryInString) {
-        case "FOOD":
-            return FOOD;
-        case "TRANSPORT":
-            return TRANSPORT;
-        case "SHOPPING":
-            return SHOPPING;
-        case "WORK":
-            return WORK;
-        case "UTILITIES":
-            return UTILITIES;
-        case "HEALTHCARE":
-            return HEALTHCARE;
-        case "ENTERTAINMENT":
-            return ENTERTAINMENT;
-        case "TRAVEL":
-            return TRAVEL;
-        case "OTHERS":
-            return OTHERS;
-        case "ALL":
-            return ALL;
-        default:
-        }
-        return -1;
+    private static void appendCentsCell(StringBuilder builder, long cents) {
+        long remainder = cents % 100;
+        builder.append(CELL_START).append(cents / 100).append(remainder < 10 ? ".0" : ".").append(remainder)
+                .append(CELL_END);
     }
-
-    /**
-     * Converts Int Category into String Category
-     */
-    protected String convertIntegerCategoryToString(int categoryInInteger) {
-        requireNonNull(categoryInInteger);
-        switch (categoryInInteger) {
-        case FOOD:
-            return "FOOD";
-        case TRANSPORT:
-            return "TRANSPORT";
-        case SHOPPING:
-            return "SHOPPING";
-        case WORK:
-            return "WORK";
-        case UTILITIES:
-            return "UTILITIES";
-        case HEALTHCARE:
-            return "HEALTHCARE";
-        case ENTERTAINMENT:
-            return "ENTERTAINMENT";
-        case TRAVEL:
-            return "TRAVEL";
-        case OTHERS:
-            return "OTHERS";
-        case ALL:
-            return "ALL";
-        default:
-        }
-        return "";
-    }
-
-    /**
-     * Builds table for display
-     */
-    private String htmlTableBuilder(ArrayList<String> header, ArrayList<ArrayList<String>> data) {
-        requireNonNull(header);
-        requireNonNull(data);
-
-        String table;
-        table = "<table style=\"width:100%\">\n";
-
-        table = table + "  <tr>\n";
-        for (String column : header) {
-            table = table + "    <th>" + column + "</th>\n";
-        }
-        table = table + "  </tr>\n";
-
-        for (ArrayList<String> row : data) {
-            table = table + "  <tr>\n";
-            for (String column : row) {
-                table = table + "    <th>" + column + "</th>\n";
-            }
-            table = table + "  </tr>\n";
-        }
-        table = table + "</table>";
-
-        return table;
-    }
-
-
 }
-
@@ -0,0 +1,122 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Frequency;
+import seedu.address.model.expense.Expense;
+
+/**
+ * Keeps the most recently used {@code Statistics} calculated from a finance tracker, so that a statistics command
+ * that is run again before any expense changes does not have to be recalculated.
+ * The cached statistics are discarded whenever the expense list of the finance tracker changes, as statistics only
+ * depend on expenses.
+ */
+public class StatisticsCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final ReadOnlyFinanceTracker financeTracker;
+    private final Map<Query, Statistics> cachedStatistics;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Creates a cache of at most {@code capacity} statistics calculated from {@code financeTracker}.
+     */
+    public StatisticsCache(ReadOnlyFinanceTracker financeTracker, int capacity) {
+        requireNonNull(financeTracker);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.financeTracker = financeTracker;
+        cachedStatistics = new LinkedHashMap<Query, Statistics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Query, Statistics> eldest) {
+                return size() > capacity;
+            }
+        };
+        financeTracker.getExpenseList().addListener((ListChangeListener<Expense>) change ->
+                cachedStatistics.clear());
+    }
+
+    /**
+     * Returns the statistics calculated as by {@link Statistics#calculateStats}, reusing the statistics cached for
+     * the same query if there are any.
+     * A new {@code Statistics} is returned every time, so that showing the same statistics again can be observed.
+     */
+    public Statistics calculateStats(String command, Date date1, Date date2, Frequency frequency) {
+        Query query = new Query(command, date1, date2, frequency);
+        Statistics statistics = cachedStatistics.get(query);
+        if (statistics != null) {
+            hitCount++;
+            return statistics.copy();
+        }
+
+        missCount++;
+        statistics = new Statistics(financeTracker);
+        statistics.calculateStats(command, date1, date2, frequency);
+        cachedStatistics.put(query, statistics);
+        return statistics.copy();
+    }
+
+    /**
+     * Returns the number of statistics that were found in the cache.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of statistics that had to be calculated.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * The parameters of a statistics command.
+     */
+    private static class Query {
+        private final String command;
+        private final Date date1;
+        private final Date date2;
+        private final Frequency frequency;
+
+        /**
+         * Creates a query of {@code command} with the given parameters, any of which may be null.
+         */
+        private Query(String command, Date date1, Date date2, Frequency frequency) {
+            this.command = command;
+            this.date1 = date1;
+            this.date2 = date2;
+            this.frequency = frequency;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Query)) {
+                return false;
+            }
+            Query otherQuery = (Query) other;
+            return Objects.equals(command, otherQuery.command)
+                    && Objects.equals(date1, otherQuery.date1)
+                    && Objects.equals(date2, otherQuery.date2)
+                    && Objects.equals(frequency, otherQuery.frequency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(command, date1, date2, frequency);
+        }
+    }
+}
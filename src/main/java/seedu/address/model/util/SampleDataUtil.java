@@ -10,6 +10,8 @@ import static seedu.address.model.attributes.Category.TRAVEL;
 import static seedu.address.model.attributes.Category.UTILITIES;
 import static seedu.address.model.attributes.Category.WORK;
 
+import java.util.Arrays;
+
 import seedu.address.model.FinanceTracker;
 import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.attributes.Amount;
@@ -83,21 +85,21 @@ public class SampleDataUtil {
     public static Budget[] getSampleBudgets() {
         return new Budget[] {
             new Budget(FOOD, new Amount("600"), new Date("01-04-2019"), new Date("30-04-2019"),
-                    "eat less save more", 0, 0),
+                    "eat less save more", 0),
             new Budget(TRANSPORT, new Amount("300"), new Date("01-07-2019"), new Date("31-12-2019"),
-                    "only for school and back", 0, 0),
+                    "only for school and back", 0),
             new Budget(SHOPPING, new Amount("200"), new Date("01-06-2019"), new Date("30-06-2019"),
-                    "only for grocery shopping", 0, 0),
+                    "only for grocery shopping", 0),
             new Budget(WORK, new Amount("100"), new Date("13-05-2019"), new Date("02-08-2019"),
-                    "internship stuff", 0, 0),
+                    "internship stuff", 0),
             new Budget(UTILITIES, new Amount("450"), new Date("01-05-2019"), new Date("31-05-2019"),
-                    "take shorter showers", 0, 0),
+                    "take shorter showers", 0),
             new Budget(HEALTHCARE, new Amount("100"), new Date("01-06-2019"), new Date("15-06-2019"),
-                    "stress may make me feel sick", 0, 0),
+                    "stress may make me feel sick", 0),
             new Budget(ENTERTAINMENT, new Amount("900"), new Date("11-05-2019"), new Date("11-08-2019"),
-                    "yay summer vacation", 0, 0),
+                    "yay summer vacation", 0),
             new Budget(TRAVEL, new Amount("7000"), new Date("01-01-2020"), new Date("31-12-2020"),
-                    "grad trip and family trip", 0, 0)
+                    "grad trip and family trip", 0)
         };
     }
 
@@ -136,18 +138,10 @@ public class SampleDataUtil {
 
     public static ReadOnlyFinanceTracker getSampleFinanceTracker() {
         FinanceTracker sampleFt = new FinanceTracker();
-        for (Expense sampleExpense : getSampleExpenses()) {
-            sampleFt.addExpense(sampleExpense);
-        }
-        for (Budget sampleBudget : getSampleBudgets()) {
-            sampleFt.addBudget(sampleBudget);
-        }
-        for (Debt sampleDebt : getSampleDebts()) {
-            sampleFt.addDebt(sampleDebt);
-        }
-        for (Recurring sampleRecurring : getSampleRecurrings()) {
-            sampleFt.addRecurring(sampleRecurring);
-        }
+        sampleFt.addExpenses(Arrays.asList(getSampleExpenses()));
+        sampleFt.addBudgets(Arrays.asList(getSampleBudgets()));
+        sampleFt.addDebts(Arrays.asList(getSampleDebts()));
+        sampleFt.addRecurrings(Arrays.asList(getSampleRecurrings()));
 
         return sampleFt;
     }
@@ -0,0 +1,485 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.attributes.Amount;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Frequency;
+import seedu.address.model.attributes.Name;
+import seedu.address.model.attributes.Occurrence;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+
+/**
+ * Reads and writes snapshots of a finance tracker in a compact binary format, which is much smaller and faster to
+ * read than json.
+ *
+ * The file starts with a header of a magic number, the version of the format and the generation of the snapshot,
+ * followed by a table of the distinct strings used by the elements, such as names and remarks, and then the four
+ * lists. Elements refer to their strings by their position in the table, so a name shared by many expenses is
+ * stored and validated once.
+ * Amounts are stored in cents, dates as days since the epoch and categories by their ordinals, all as
+ * variable-length integers. Values that are derived from the other lists, such as the total spent of a budget, are
+ * not stored. The file ends with a CRC-32 of everything before it, so that a file that was cut short
+ * or corrupted is rejected instead of being partly read.
+ */
+class BinarySnapshotFormat {
+
+    public static final int MAGIC = 0x46544253; // "FTBS"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_SNAPSHOT = "Not a binary finance tracker snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version: %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary snapshot is corrupted or incomplete";
+    public static final String MESSAGE_INVALID_STRING_REFERENCE = "Binary snapshot refers to a missing string";
+    public static final String MESSAGE_INVALID_CATEGORY = "Binary snapshot contains an invalid category";
+
+    private static final int HEADER_LENGTH = 16;
+    private static final int CHECKSUM_LENGTH = 4;
+    private static final Category[] CATEGORIES = Category.values();
+
+    private BinarySnapshotFormat() {} // prevents instantiation
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of a binary snapshot.
+     */
+    public static boolean isBinarySnapshot(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) != -1) {
+                // keep reading until the magic number is read or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Returns the generation of the binary snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file does not start with the header of a binary snapshot.
+     */
+    public static long readGeneration(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the whole header is read or the file ends
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        return header.getLong(2 * Integer.BYTES);
+    }
+
+    /**
+     * Writes {@code financeTracker} to {@code filePath} as a binary snapshot of {@code generation}.
+     */
+    public static void write(ReadOnlyFinanceTracker financeTracker, Path filePath, long generation)
+            throws IOException {
+        requireAllNonNull(financeTracker, filePath);
+
+        Encoder body = new Encoder();
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+
+        body.writeVarLong(financeTracker.getExpenseList().size());
+        for (Expense expense : financeTracker.getExpenseList()) {
+            body.writeVarLong(getStringReference(expense.getName().name, strings, stringTable));
+            body.writeVarLong(expense.getAmount().value);
+            body.writeVarLong(expense.getDate().getLocalDate().toEpochDay());
+            body.writeVarLong(expense.getCategory().ordinal());
+            body.writeVarLong(getStringReference(expense.getRemarks(), strings, stringTable));
+        }
+        body.writeVarLong(financeTracker.getDebtList().size());
+        for (Debt debt : financeTracker.getDebtList()) {
+            body.writeVarLong(getStringReference(debt.getPersonOwed().name, strings, stringTable));
+            body.writeVarLong(debt.getAmount().value);
+            body.writeVarLong(debt.getDeadline().getLocalDate().toEpochDay());
+            body.writeVarLong(debt.getCategory().ordinal());
+            body.writeVarLong(getStringReference(debt.getRemarks(), strings, stringTable));
+        }
+        body.writeVarLong(financeTracker.getBudgetList().size());
+        for (Budget budget : financeTracker.getBudgetList()) {
+            body.writeVarLong(budget.getCategory().ordinal());
+            body.writeVarLong(budget.getAmount().value);
+            Date startDate = budget.getStartDate();
+            body.writeVarLong(startDate == null ? 0 : startDate.getLocalDate().toEpochDay() + 1); // 0 for no date
+            body.writeVarLong(budget.getEndDate().getLocalDate().toEpochDay());
+            body.writeVarLong(getStringReference(budget.getRemarks(), strings, stringTable));
+        }
+        body.writeVarLong(financeTracker.getRecurringList().size());
+        for (Recurring recurring : financeTracker.getRecurringList()) {
+            body.writeVarLong(getStringReference(recurring.getName().name, strings, stringTable));
+            body.writeVarLong(recurring.getAmount().value);
+            body.writeVarLong(recurring.getDate().getLocalDate().toEpochDay());
+            body.writeVarLong(recurring.getCategory().ordinal());
+            body.writeVarLong(getStringReference(recurring.getRemarks(), strings, stringTable));
+            body.writeVarLong(getStringReference(recurring.getFrequency().value, strings, stringTable));
+            body.writeVarLong(recurring.getOccurrence().value);
+            body.writeSignedVarLong(recurring.getLastConvertedDate().toEpochDay());
+        }
+
+        Encoder head = new Encoder();
+        head.writeInt(MAGIC);
+        head.writeInt(VERSION);
+        head.writeLong(generation);
+        head.writeVarLong(stringTable.size());
+        for (String string : stringTable) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            head.writeVarLong(bytes.length);
+            head.writeBytes(bytes);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(head.bytes, 0, head.size);
+        checksum.update(body.bytes, 0, body.size);
+        Encoder tail = new Encoder();
+        tail.writeInt((int) checksum.getValue());
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, Arrays.asList(head.toByteArray(), body.toByteArray(), tail.toByteArray()));
+    }
+
+    /**
+     * Returns the reference to {@code string} in the string table, adding it to the table if it is not there yet.
+     * Null is referred to as 0, and the strings in the table from 1.
+     */
+    private static int getStringReference(String string, Map<String, Integer> strings, List<String> stringTable) {
+        if (string == null) {
+            return 0;
+        }
+        return strings.computeIfAbsent(string, unused -> {
+            stringTable.add(string);
+            return stringTable.size();
+        });
+    }
+
+    /**
+     * Returns the finance tracker stored in the binary snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a complete binary snapshot of a supported version, or there
+     *     were any data constraints violated.
+     */
+    public static FinanceTracker read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_LENGTH + CHECKSUM_LENGTH || size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the whole file is read
+            }
+        }
+        buffer.flip();
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        buffer.getLong(); // the generation is only needed by readGeneration
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.limit() - CHECKSUM_LENGTH);
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - CHECKSUM_LENGTH)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        buffer.limit(buffer.limit() - CHECKSUM_LENGTH);
+
+        try {
+            return new Decoder(buffer).readFinanceTracker();
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * A growable array of bytes that values are encoded into.
+     */
+    private static class Encoder {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        /**
+         * Writes {@code value}, which must not be negative, in as many bytes as it needs, 7 bits at a time.
+         */
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+        }
+
+        /**
+         * Writes {@code value}, which may be negative, as a variable-length integer.
+         */
+        private void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            ByteBuffer.wrap(bytes, size, Integer.BYTES).putInt(value);
+            size += Integer.BYTES;
+        }
+
+        private void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            ByteBuffer.wrap(bytes, size, Long.BYTES).putLong(value);
+            size += Long.BYTES;
+        }
+
+        private void writeBytes(byte[] toWrite) {
+            ensureCapacity(toWrite.length);
+            System.arraycopy(toWrite, 0, bytes, size, toWrite.length);
+            size += toWrite.length;
+        }
+
+        /**
+         * Grows the array, if needed, so that {@code length} more bytes fit in it.
+         */
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    /**
+     * Decodes the string table and the lists of a binary snapshot from a buffer positioned after its header.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private String[] strings;
+        private Name[] names;
+
+        private Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Decodes the string table, and then the lists into a new finance tracker.
+         */
+        private FinanceTracker readFinanceTracker() throws IllegalValueException {
+            strings = new String[readCount() + 1];
+            names = new Name[strings.length];
+            for (int i = 1; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int expenseCount = readCount();
+            List<Expense> expenses = new ArrayList<>(expenseCount);
+            for (int i = 0; i < expenseCount; i++) {
+                expenses.add(new Expense(readName(), readAmount(), readDate(), readCategory(), readString()));
+            }
+            int debtCount = readCount();
+            List<Debt> debts = new ArrayList<>(debtCount);
+            for (int i = 0; i < debtCount; i++) {
+                Name personOwed = readName();
+                Amount amount = readAmount();
+                Date deadline = readDate();
+                debts.add(new Debt(personOwed, amount, deadline, readCategory(), readString()));
+            }
+            int budgetCount = readCount();
+            List<Budget> budgets = new ArrayList<>(budgetCount);
+            for (int i = 0; i < budgetCount; i++) {
+                Category category = readCategory();
+                Amount amount = readAmount();
+                long startDate = readVarLong();
+                Date modelStartDate = startDate == 0 ? null : toDate(startDate - 1);
+                Date endDate = readDate();
+                // the total spent is derived from the expenses once the budget is added to the finance tracker
+                budgets.add(new Budget(category, amount, modelStartDate, endDate, readString(), 0));
+            }
+            int recurringCount = readCount();
+            List<Recurring> recurrings = new ArrayList<>(recurringCount);
+            for (int i = 0; i < recurringCount; i++) {
+                recurrings.add(readRecurring());
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+
+            FinanceTracker financeTracker = new FinanceTracker();
+            financeTracker.addExpenses(expenses);
+            financeTracker.addDebts(debts);
+            financeTracker.addBudgets(budgets);
+            financeTracker.addRecurrings(recurrings);
+            return financeTracker;
+        }
+
+        /**
+         * Decodes a recurring expense.
+         */
+        private Recurring readRecurring() throws IllegalValueException {
+            Name name = readName();
+            Amount amount = readAmount();
+            Date date = readDate();
+            Category category = readCategory();
+            String remarks = readString();
+            String frequency = readString();
+            if (frequency == null || !Frequency.isValidFrequency(frequency)) {
+                throw new IllegalValueException(Frequency.MESSAGE_CONSTRAINTS);
+            }
+            String occurrence = Long.toString(readVarLong());
+            if (!Occurrence.isValidOccurrence(occurrence)) {
+                throw new IllegalValueException(Occurrence.MESSAGE_CONSTRAINTS);
+            }
+            LocalDate lastConvertedDate;
+            try {
+                lastConvertedDate = LocalDate.ofEpochDay(readSignedVarLong());
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            return new Recurring(name, amount, date, category, remarks, new Frequency(frequency),
+                    new Occurrence(occurrence), lastConvertedDate);
+        }
+
+        /**
+         * Decodes a reference to the string table into its string, which may be null.
+         */
+        private String readString() throws IllegalValueException {
+            long reference = readVarLong();
+            if (reference >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_REFERENCE);
+            }
+            return strings[(int) reference];
+        }
+
+        /**
+         * Decodes a reference to the string table into a name, which is shared by all the elements with that name.
+         */
+        private Name readName() throws IllegalValueException {
+            long reference = readVarLong();
+            if (reference == 0 || reference >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_REFERENCE);
+            }
+            Name name = names[(int) reference];
+            if (name == null) {
+                if (!Name.isValidName(strings[(int) reference])) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                name = new Name(strings[(int) reference]);
+                names[(int) reference] = name;
+            }
+            return name;
+        }
+
+        /**
+         * Decodes an amount stored in cents.
+         */
+        private Amount readAmount() throws IllegalValueException {
+            long cents = readVarLong();
+            if (cents > Amount.MAX_CENTS || !Amount.isValidAmount((int) cents)) {
+                throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+            }
+            return new Amount((int) cents);
+        }
+
+        private Date readDate() throws IllegalValueException {
+            return toDate(readVarLong());
+        }
+
+        /**
+         * Returns the date {@code epochDay} days after the epoch.
+         */
+        private Date toDate(long epochDay) throws IllegalValueException {
+            LocalDate localDate;
+            try {
+                localDate = LocalDate.ofEpochDay(epochDay);
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            if (!Date.isValidLocalDate(localDate)) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            return new Date(localDate);
+        }
+
+        /**
+         * Decodes a category stored by its ordinal.
+         */
+        private Category readCategory() throws IllegalValueException {
+            long ordinal = readVarLong();
+            if (ordinal >= CATEGORIES.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_CATEGORY);
+            }
+            return CATEGORIES[(int) ordinal];
+        }
+
+        /**
+         * Reads a count of elements, checking that it is plausible for the bytes left in the buffer.
+         */
+        private int readCount() throws IllegalValueException {
+            long count = readVarLong();
+            if (count > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return (int) count;
+        }
+
+        /**
+         * Reads a variable-length integer written by {@link Encoder#writeSignedVarLong}.
+         */
+        private long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Reads a variable-length integer written by {@link Encoder#writeVarLong}.
+         */
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = buffer.get();
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0 && shift < 64);
+            return value;
+        }
+    }
+}
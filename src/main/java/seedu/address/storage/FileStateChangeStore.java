@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.StateChangeStore;
+
+/**
+ * A {@code StateChangeStore} that appends each state change to a spill file as a length-prefixed record of compact
+ * json. The key of a state change is its offset in the file.
+ *
+ * Spilled undo history only lives as long as the app, so by default the spill file is a temporary file that is
+ * created when the first state change is written and deleted when the app exits.
+ */
+public class FileStateChangeStore implements StateChangeStore {
+
+    private Path spillFilePath;
+    private boolean isTemporary;
+    private RandomAccessFile spillFile;
+
+    public FileStateChangeStore() {}
+
+    public FileStateChangeStore(Path spillFilePath) {
+        requireNonNull(spillFilePath);
+        this.spillFilePath = spillFilePath;
+    }
+
+    /**
+     * Returns the path of the spill file, or null if a temporary spill file has not been created yet.
+     */
+    public synchronized Path getSpillFilePath() {
+        return spillFilePath;
+    }
+
+    @Override
+    public synchronized long write(List<ListEdit> stateChange) throws IOException {
+        requireNonNull(stateChange);
+
+        List<JsonAdaptedListEdit> adaptedEdits = stateChange.stream().map(JsonAdaptedListEdit::new)
+                .collect(Collectors.toList());
+        byte[] bytes = JsonUtil.toCompactJsonString(new JsonAdaptedStateChange(adaptedEdits))
+                .getBytes(StandardCharsets.UTF_8);
+        RandomAccessFile file = getSpillFile();
+        long key = file.length();
+        file.seek(key);
+        file.writeInt(bytes.length);
+        file.write(bytes);
+        return key;
+    }
+
+    @Override
+    public synchronized List<ListEdit> read(long key) throws IOException {
+        RandomAccessFile file = getSpillFile();
+        file.seek(key);
+        byte[] bytes = new byte[file.readInt()];
+        file.readFully(bytes);
+
+        try {
+            return JsonUtil.fromJsonString(new String(bytes, StandardCharsets.UTF_8), JsonAdaptedStateChange.class)
+                    .toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Spilled state change is not in the correct format", ive);
+        }
+    }
+
+    /**
+     * Closes the spill file, and deletes it if it is a temporary file.
+     */
+    public synchronized void close() throws IOException {
+        if (spillFile != null) {
+            spillFile.close();
+            spillFile = null;
+        }
+        if (isTemporary) {
+            Files.deleteIfExists(spillFilePath);
+            spillFilePath = null;
+        }
+    }
+
+    /**
+     * Returns the spill file, opening (and if necessary creating) it on first use.
+     */
+    private RandomAccessFile getSpillFile() throws IOException {
+        if (spillFile == null) {
+            if (spillFilePath == null) {
+                spillFilePath = Files.createTempFile("financetracker-history", ".spill");
+                spillFilePath.toFile().deleteOnExit();
+                isTemporary = true;
+            }
+            spillFile = new RandomAccessFile(spillFilePath.toFile(), "rw");
+        }
+        return spillFile;
+    }
+
+    /**
+     * Jackson-friendly version of the edits between two consecutive states.
+     */
+    static class JsonAdaptedStateChange {
+        private final List<JsonAdaptedListEdit> edits = new ArrayList<>();
+
+        /**
+         * Constructs a {@code JsonAdaptedStateChange} with the given edits.
+         */
+        @JsonCreator
+        JsonAdaptedStateChange(@JsonProperty("edits") List<JsonAdaptedListEdit> edits) {
+            if (edits != null) {
+                this.edits.addAll(edits);
+            }
+        }
+
+        /**
+         * Converts this Jackson-friendly adapted state change into the list of edits it was made from.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted edits.
+         */
+        List<ListEdit> toModelType() throws IllegalValueException {
+            List<ListEdit> modelEdits = new ArrayList<>(edits.size());
+            for (JsonAdaptedListEdit edit : edits) {
+                modelEdits.add(edit.toModelType());
+            }
+            return modelEdits;
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
+import seedu.address.model.recurring.Recurring;
+import seedu.address.model.statistics.SpendingRollup;
+
+/**
+ * An unchanging copy of the lists of a finance tracker, taken so that they can be saved on another thread.
+ * Only the lists are copied, and not the indices kept by the finance tracker, so taking a snapshot is cheap. As the
+ * elements of the lists are immutable, they are shared with the finance tracker rather than copied, as is its
+ * archive of expenses.
+ */
+class FinanceTrackerSnapshot implements ReadOnlyFinanceTracker {
+
+    private final ObservableList<Expense> expenses;
+    private final ObservableList<Debt> debts;
+    private final ObservableList<Budget> budgets;
+    private final ObservableList<Recurring> recurrings;
+    private final ExpenseArchive expenseArchive;
+    private SpendingRollup spendingRollup;
+
+    /**
+     * Creates a snapshot of the current lists of {@code source}.
+     */
+    FinanceTrackerSnapshot(ReadOnlyFinanceTracker source) {
+        requireNonNull(source);
+        expenses = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getExpenseList()));
+        debts = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getDebtList()));
+        budgets = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getBudgetList()));
+        recurrings = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getRecurringList()));
+        expenseArchive = source.getExpenseArchive().orElse(null);
+    }
+
+    @Override
+    public ObservableList<Expense> getExpenseList() {
+        return expenses;
+    }
+
+    @Override
+    public Optional<ExpenseArchive> getExpenseArchive() {
+        return Optional.ofNullable(expenseArchive);
+    }
+
+    @Override
+    public boolean isLoadingArchivedExpenses() {
+        return false;
+    }
+
+    @Override
+    public List<Expense> getExpensesBetween(Date startDate, Date endDate) {
+        LocalDate start = startDate.getLocalDate();
+        LocalDate end = endDate.getLocalDate();
+        return Collections.unmodifiableList(expenses.stream()
+                .filter(expense -> !expense.getDate().getLocalDate().isBefore(start)
+                        && !expense.getDate().getLocalDate().isAfter(end))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public synchronized SpendingRollup getSpendingRollup() {
+        if (spendingRollup == null) {
+            spendingRollup = new SpendingRollup(expenses);
+        }
+        return spendingRollup;
+    }
+
+    @Override
+    public ObservableList<Debt> getDebtList() {
+        return debts;
+    }
+
+    @Override
+    public ObservableList<Budget> getBudgetList() {
+        return budgets;
+    }
+
+    @Override
+    public ObservableList<Recurring> getRecurringList() {
+        return recurrings;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+}
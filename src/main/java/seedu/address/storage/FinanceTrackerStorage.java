@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -43,4 +45,17 @@ public interface FinanceTrackerStorage {
      */
     void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker, Path filePath) throws IOException;
 
+    /**
+     * Captures the data of the given {@link ReadOnlyFinanceTracker} that is to be saved to the storage, and returns
+     * the save so that it can be written later, on any thread.
+     * Must be called on the thread that modifies {@code financeTracker}. Saves must be written in the order in which
+     * they were prepared.
+     * @param financeTracker cannot be null.
+     */
+    default PendingSave prepareSave(ReadOnlyFinanceTracker financeTracker) {
+        requireNonNull(financeTracker);
+        ReadOnlyFinanceTracker snapshot = new FinanceTrackerSnapshot(financeTracker);
+        return () -> saveFinanceTracker(snapshot);
+    }
+
 }
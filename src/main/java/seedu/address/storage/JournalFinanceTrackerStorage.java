@@ -0,0 +1,484 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.SnapshotFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+import seedu.address.storage.JsonAdaptedJournalEntry.EntityList;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * A class to access FinanceTracker data stored on the hard disk as a json snapshot, followed by an append-only
+ * journal of the mutations made since that snapshot was written.
+ *
+ * Saving only appends one compact line per added, edited or removed element, so the cost of a save is
+ * proportional to the change rather than to the size of the finance tracker. Once the journal grows past the
+ * compaction threshold, or when a whole list is replaced (e.g. by undo or clear), the journal is folded into a
+ * new snapshot.
+ *
+ * Every change to a list, and to the expenses of a month, gives it a new version. The snapshot keeps the expenses
+ * of each month in a separate partition file, and only writes the partitions and lists whose versions have changed
+ * since the previous snapshot, so that replacing the budgets, say, does not serialize all the expenses again.
+ * Snapshots can instead be written in the binary format of {@link BinarySnapshotFormat}, which is always written
+ * whole but is much faster to load. Either format is read back regardless of the one being written.
+ *
+ * The expense partitions of a json snapshot can be read lazily: only the partitions of the most recent months are
+ * read with the snapshot, and the earlier ones are archived by the finance tracker until it needs them. Loading
+ * archived expenses is not journalled, and the snapshots written describe the partitions still archived without
+ * reading them.
+ *
+ * Each snapshot is given a new generation, and the journal starts with a header naming the generation of the
+ * snapshot it follows. The journal is only deleted after the new snapshot has replaced the old one, so a journal
+ * left behind by a compaction that was interrupted in between is recognised by its older generation and ignored,
+ * rather than replayed onto a snapshot that already holds its entries.
+ */
+public class JournalFinanceTrackerStorage implements FinanceTrackerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    /** The generation of snapshots and journals written before they had generations. */
+    public static final long NO_GENERATION = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFinanceTrackerStorage.class);
+
+    private final JsonFinanceTrackerStorage snapshotStorage;
+    private final JsonSnapshotWriter snapshotWriter;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+    private final SnapshotFormat snapshotFormat;
+    private final int recentExpenseMonths;
+
+    private final List<PendingEntry> pendingEntries = new ArrayList<>();
+    private final ListChangeListener<Expense> expenseListener = change -> {
+        if (this.trackedFinanceTracker.isLoadingArchivedExpenses()) {
+            // the expenses loaded are already in the snapshot
+            return;
+        }
+        changeExpenseMonths(change);
+        record(change, EntityList.EXPENSES);
+    };
+    private final ListChangeListener<Debt> debtListener = change -> record(change, EntityList.DEBTS);
+    private final ListChangeListener<Budget> budgetListener = change -> record(change, EntityList.BUDGETS);
+    private final ListChangeListener<Recurring> recurringListener = change -> record(change, EntityList.RECURRINGS);
+
+    private final SnapshotVersions versions = new SnapshotVersions();
+
+    private ReadOnlyFinanceTracker trackedFinanceTracker;
+    private int journalledEntryCount;
+    /** The generation of the latest snapshot read or prepared, which the journal is appended to. */
+    private long generation = NO_GENERATION;
+    private boolean isSnapshotRequired = true;
+    private volatile boolean isWriteFailed;
+
+    public JournalFinanceTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalFinanceTrackerStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, SnapshotFormat.JSON);
+    }
+
+    public JournalFinanceTrackerStorage(Path filePath, int compactionThreshold, SnapshotFormat snapshotFormat) {
+        this(filePath, compactionThreshold, snapshotFormat, 0);
+    }
+
+    /**
+     * Creates a storage whose json snapshot is read with only the expense partitions of the latest
+     * {@code recentExpenseMonths} months, including the current month, or with every partition if
+     * {@code recentExpenseMonths} is 0.
+     */
+    public JournalFinanceTrackerStorage(Path filePath, int compactionThreshold, SnapshotFormat snapshotFormat,
+                                        int recentExpenseMonths) {
+        requireNonNull(filePath);
+        requireNonNull(snapshotFormat);
+        this.snapshotStorage = new JsonFinanceTrackerStorage(filePath);
+        this.snapshotWriter = new JsonSnapshotWriter(filePath);
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotFormat = snapshotFormat;
+        this.recentExpenseMonths = recentExpenseMonths;
+    }
+
+    @Override
+    public Path getFinanceTrackerFilePath() {
+        return snapshotStorage.getFinanceTrackerFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the number of expense partitions and other lists that have been serialized into a snapshot, rather
+     * than reused from the previous one.
+     */
+    int getSerializedSnapshotListCount() {
+        return snapshotWriter.getSerializedSegmentCount();
+    }
+
+    @Override
+    public Optional<ReadOnlyFinanceTracker> readFinanceTracker() throws DataConversionException, IOException {
+        return readFinanceTracker(getFinanceTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFinanceTracker()}.
+     * The journal is only replayed when {@code filePath} is the snapshot file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFinanceTracker> readFinanceTracker(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyFinanceTracker> snapshot = readSnapshot(filePath);
+        if (!snapshot.isPresent() || !filePath.equals(getFinanceTrackerFilePath())
+                || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        long snapshotGeneration = readSnapshotGeneration(filePath);
+        generation = Math.max(generation, snapshotGeneration);
+        FinanceTracker financeTracker = new FinanceTracker(snapshot.get());
+        replayJournal(financeTracker, snapshotGeneration);
+        return Optional.of(financeTracker);
+    }
+
+    /**
+     * Returns the snapshot at {@code filePath}, in whichever format it was written.
+     * Only the recent expense partitions of the json snapshot file of this storage are read.
+     */
+    private Optional<ReadOnlyFinanceTracker> readSnapshot(Path filePath) throws DataConversionException,
+            IOException {
+        if (!BinarySnapshotFormat.isBinarySnapshot(filePath)) {
+            if (recentExpenseMonths > 0 && filePath.equals(getFinanceTrackerFilePath())) {
+                return snapshotStorage.readFinanceTracker(filePath,
+                        YearMonth.now().minusMonths(recentExpenseMonths - 1));
+            }
+            return snapshotStorage.readFinanceTracker(filePath);
+        }
+        try {
+            return Optional.of(BinarySnapshotFormat.read(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot at {@code filePath}, in whichever format it was written.
+     */
+    private long readSnapshotGeneration(Path filePath) throws DataConversionException, IOException {
+        if (!BinarySnapshotFormat.isBinarySnapshot(filePath)) {
+            return JsonFinanceTrackerReader.readGeneration(filePath);
+        }
+        try {
+            return BinarySnapshotFormat.readGeneration(filePath);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies every entry in the journal, in order, onto {@code financeTracker}, whose snapshot is of
+     * {@code snapshotGeneration}. A journal of another generation was left behind by an interrupted compaction, and
+     * is ignored. A malformed final line is assumed to be a write that was interrupted and is skipped.
+     */
+    private void replayJournal(FinanceTracker financeTracker, long snapshotGeneration)
+            throws DataConversionException, IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            boolean isFirstLine = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                if (isFirstLine) {
+                    isFirstLine = false;
+                    JsonAdaptedJournalHeader header;
+                    try {
+                        header = JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class);
+                    } catch (IOException ioe) {
+                        // not a complete header, nor an entry, which the loop below handles
+                        header = new JsonAdaptedJournalHeader(null);
+                    }
+                    long journalGeneration = header.isHeader() ? header.getGeneration() : NO_GENERATION;
+                    if (journalGeneration != snapshotGeneration) {
+                        logger.warning("Ignoring journal " + journalFilePath + " of generation " + journalGeneration
+                                + ", as the snapshot is of generation " + snapshotGeneration);
+                        return;
+                    }
+                    if (header.isHeader()) {
+                        continue;
+                    }
+                }
+
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException ioe) {
+                    if (reader.readLine() == null) {
+                        logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                        break;
+                    }
+                    throw new DataConversionException(ioe);
+                }
+
+                try {
+                    entry.applyTo(financeTracker);
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                    throw new DataConversionException(ive);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker) throws IOException {
+        saveFinanceTracker(financeTracker, getFinanceTrackerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveFinanceTracker(ReadOnlyFinanceTracker)}.
+     * Saving to any path other than the snapshot file of this storage writes a full snapshot to that path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker, Path filePath) throws IOException {
+        requireNonNull(financeTracker);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getFinanceTrackerFilePath())) {
+            snapshotStorage.saveFinanceTracker(financeTracker, filePath);
+            return;
+        }
+
+        prepareSave(financeTracker).write();
+    }
+
+    /**
+     * Captures either the entries recorded since the last save, to be appended to the journal, or the lists of
+     * {@code financeTracker}, to be written as a new snapshot once the journal is due for compaction.
+     * Once a write fails, the next save prepared writes a new snapshot instead, as the journal may have been
+     * partially written.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyFinanceTracker financeTracker) {
+        requireNonNull(financeTracker);
+
+        if (financeTracker != trackedFinanceTracker) {
+            // the journal can only describe changes to the finance tracker whose lists it has been observing
+            track(financeTracker);
+        }
+
+        if (isWriteFailed || isSnapshotRequired || journalledEntryCount + pendingEntries.size() > compactionThreshold) {
+            ReadOnlyFinanceTracker snapshot = new FinanceTrackerSnapshot(financeTracker);
+            SnapshotVersions snapshotVersions = versions.copy();
+            // generations only increase, so that a journal of an earlier snapshot never matches the new one
+            generation = Math.max(generation + 1, System.currentTimeMillis());
+            long snapshotGeneration = generation;
+            isSnapshotRequired = false;
+            journalledEntryCount = 0;
+            pendingEntries.clear();
+            return () -> compact(snapshot, snapshotVersions, snapshotGeneration);
+        }
+
+        if (pendingEntries.isEmpty()) {
+            return () -> { };
+        }
+        List<PendingEntry> entries = new ArrayList<>(pendingEntries);
+        long journalGeneration = generation;
+        journalledEntryCount += entries.size();
+        pendingEntries.clear();
+        return () -> append(entries, journalGeneration);
+    }
+
+    /**
+     * Starts recording the changes made to {@code financeTracker}, and stops recording those of the finance
+     * tracker that was previously tracked.
+     */
+    private void track(ReadOnlyFinanceTracker financeTracker) {
+        if (trackedFinanceTracker != null) {
+            trackedFinanceTracker.getExpenseList().removeListener(expenseListener);
+            trackedFinanceTracker.getDebtList().removeListener(debtListener);
+            trackedFinanceTracker.getBudgetList().removeListener(budgetListener);
+            trackedFinanceTracker.getRecurringList().removeListener(recurringListener);
+        }
+
+        trackedFinanceTracker = financeTracker;
+        financeTracker.getExpenseList().addListener(expenseListener);
+        financeTracker.getDebtList().addListener(debtListener);
+        financeTracker.getBudgetList().addListener(budgetListener);
+        financeTracker.getRecurringList().addListener(recurringListener);
+        isSnapshotRequired = true;
+        versions.changeAll();
+    }
+
+    /**
+     * Gives the months of the expenses removed and added by {@code change} new versions.
+     */
+    private void changeExpenseMonths(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Expense expense : change.getRemoved()) {
+                versions.changeExpenseMonth(YearMonth.from(expense.getDate().getLocalDate()));
+            }
+            for (Expense expense : change.getAddedSubList()) {
+                versions.changeExpenseMonth(YearMonth.from(expense.getDate().getLocalDate()));
+            }
+        }
+        change.reset();
+    }
+
+    /**
+     * Translates {@code change} into pending journal entries for {@code list}, and gives {@code list} a new version.
+     */
+    private <T> void record(ListChangeListener.Change<? extends T> change, EntityList list) {
+        versions.changeList(list);
+        while (change.next()) {
+            if (isSnapshotRequired) {
+                // the next save rewrites the snapshot anyway
+                return;
+            }
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // lists are kept in a deterministic order, so replaying the additions reproduces it
+                continue;
+            }
+
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = new ArrayList<>(change.getAddedSubList());
+            ObservableList<? extends T> currentList = change.getList();
+            boolean isWholeListReplaced = change.getFrom() == 0 && change.getTo() == currentList.size()
+                    && change.wasRemoved() && (removed.size() != added.size() || added.size() > 1);
+
+            if (isWholeListReplaced && added.isEmpty()) {
+                pendingEntries.add(new PendingEntry(Operation.CLEAR, list, null, null));
+            } else if (isWholeListReplaced) {
+                isSnapshotRequired = true;
+                pendingEntries.clear();
+                return;
+            } else if (change.wasReplaced() && removed.size() == added.size()) {
+                for (int i = 0; i < removed.size(); i++) {
+                    pendingEntries.add(new PendingEntry(Operation.SET, list, removed.get(i), added.get(i)));
+                }
+            } else {
+                for (T element : removed) {
+                    pendingEntries.add(new PendingEntry(Operation.REMOVE, list, element, null));
+                }
+                for (T element : added) {
+                    pendingEntries.add(new PendingEntry(Operation.ADD, list, element, null));
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal of the snapshot of {@code journalGeneration}, starting the
+     * journal with its header if it is empty, and forces them to the disk. Nothing is appended if an earlier write
+     * has failed since the last snapshot was written, as the journal may then be missing entries that came before
+     * them.
+     */
+    private void append(List<PendingEntry> entries, long journalGeneration) throws IOException {
+        if (isWriteFailed) {
+            throw new IOException("Not appended to " + journalFilePath + " as an earlier save failed");
+        }
+        logger.fine("Appending " + entries.size() + " entries to journal: " + journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.name()))) {
+            if (channel.size() == 0) {
+                writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(journalGeneration)));
+                writer.newLine();
+            }
+            for (PendingEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry.toJsonAdapted()));
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+        } catch (IOException ioe) {
+            // the journal may now be partially written, so start over from a fresh snapshot
+            isWriteFailed = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes {@code financeTracker}, whose lists and months of expenses are at {@code snapshotVersions}, as the new
+     * snapshot of {@code snapshotGeneration} and empties the journal.
+     */
+    private void compact(ReadOnlyFinanceTracker financeTracker, SnapshotVersions snapshotVersions,
+                         long snapshotGeneration) throws IOException {
+        logger.fine("Compacting journal into snapshot: " + getFinanceTrackerFilePath());
+        try {
+            if (snapshotFormat == SnapshotFormat.BINARY) {
+                BinarySnapshotFormat.write(JsonFinanceTrackerStorage.withArchivedExpensesLoaded(financeTracker),
+                        getFinanceTrackerFilePath(), snapshotGeneration);
+            } else {
+                snapshotWriter.write(financeTracker, snapshotVersions, snapshotGeneration);
+            }
+            // a crash before the journal is deleted leaves a journal of the previous generation, which is ignored
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException ioe) {
+            isWriteFailed = true;
+            throw ioe;
+        }
+        isWriteFailed = false;
+    }
+
+    /**
+     * A mutation that has been observed but not written to the journal yet.
+     * The elements are only converted when they are written, which may be on another thread as they are immutable.
+     */
+    private static class PendingEntry {
+        private final Operation operation;
+        private final EntityList list;
+        private final Object target;
+        private final Object edited;
+
+        PendingEntry(Operation operation, EntityList list, Object target, Object edited) {
+            this.operation = operation;
+            this.list = list;
+            this.target = target;
+            this.edited = edited;
+        }
+
+        JsonAdaptedJournalEntry toJsonAdapted() {
+            return new JsonAdaptedJournalEntry(operation, list, target, edited);
+        }
+    }
+
+}
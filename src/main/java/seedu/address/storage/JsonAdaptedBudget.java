@@ -89,12 +89,9 @@ class JsonAdaptedBudget {
 
         final String modelRemarks = remarks;
 
-        final int modelTotalSpent = Integer.parseInt(totalSpent);
+        final long modelTotalSpent = Long.parseLong(totalSpent);
 
-        final double modelPercentage = Double.parseDouble(percentage);
-
-        return new Budget(modelCategory, modelAmount, modelStartDate, modelEndDate, modelRemarks, modelTotalSpent,
-                modelPercentage);
+        return new Budget(modelCategory, modelAmount, modelStartDate, modelEndDate, modelRemarks, modelTotalSpent);
     }
 
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly description of a file holding the expenses of one calendar month, along with the number of
+ * expenses in it and their total amount, so that a partition that does not match its description can be detected.
+ */
+class JsonAdaptedExpensePartition {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense partition's %s field is missing!";
+    public static final String MESSAGE_INVALID_MONTH = "Expense partition's month should be in the format yyyy-MM";
+    public static final String MESSAGE_INVALID_FILE = "Expense partition's file should be named like 2019-03.1.json";
+    public static final String MESSAGE_CONTENTS_MISMATCH =
+            "Expense partition %s has %d expenses totalling %d cents, instead of %d totalling %d cents";
+
+    /** A partition file name is the month followed by a number that tells apart the files of the same month. */
+    private static final String FILE_NAME_VALIDATION_REGEX = "\\d{4}-\\d{2}\\.\\d+\\.json";
+
+    private final String month;
+    private final String file;
+    private final int count;
+    private final long totalCents;
+
+    /**
+     * Constructs a {@code JsonAdaptedExpensePartition} with the given partition details.
+     */
+    @JsonCreator
+    public JsonAdaptedExpensePartition(@JsonProperty("month") String month, @JsonProperty("file") String file,
+                                       @JsonProperty("count") int count,
+                                       @JsonProperty("totalCents") long totalCents) {
+        this.month = month;
+        this.file = file;
+        this.count = count;
+        this.totalCents = totalCents;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedExpensePartition} of the expenses of {@code month} in the file
+     * {@code fileName}.
+     */
+    public JsonAdaptedExpensePartition(YearMonth month, String fileName, int count, long totalCents) {
+        this(month.toString(), fileName, count, totalCents);
+    }
+
+    /**
+     * Returns the month whose expenses are in this partition.
+     *
+     * @throws IllegalValueException if the month is missing or not in the format yyyy-MM.
+     */
+    public YearMonth getMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_INVALID_MONTH);
+        }
+    }
+
+    /**
+     * Returns the path of the partition file within {@code directory}.
+     *
+     * @throws IllegalValueException if the file name is missing or is not the name of a partition file, so that it
+     *     cannot refer to a file outside {@code directory}.
+     */
+    public Path getFile(Path directory) throws IllegalValueException {
+        if (file == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "file"));
+        }
+        if (!isValidFileName(file)) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+        return directory.resolve(file);
+    }
+
+    /**
+     * Returns the name of the partition file, without checking that it is the name of a partition file.
+     */
+    public String getFileName() {
+        return file;
+    }
+
+    /**
+     * Checks that the partition file holds {@code actualCount} expenses totalling {@code actualTotalCents} cents, as
+     * described by this partition.
+     *
+     * @throws IllegalValueException if the partition file does not match this description.
+     */
+    public void checkContents(int actualCount, long actualTotalCents) throws IllegalValueException {
+        if (actualCount != count || actualTotalCents != totalCents) {
+            throw new IllegalValueException(String.format(MESSAGE_CONTENTS_MISMATCH, file, actualCount,
+                    actualTotalCents, count, totalCents));
+        }
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a partition file.
+     */
+    public static boolean isValidFileName(String fileName) {
+        return fileName.matches(FILE_NAME_VALIDATION_REGEX);
+    }
+
+}
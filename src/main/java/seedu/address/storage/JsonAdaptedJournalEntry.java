@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+
+/**
+ * Jackson-friendly version of a single mutation made to a {@link FinanceTracker}.
+ * One entry is written per line of the journal kept by {@link JournalFinanceTrackerStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_REPLAY_FAILED = "Journal entry could not be replayed: %s";
+
+    /**
+     * Kinds of mutation that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD, REMOVE, SET, CLEAR
+    }
+
+    /**
+     * Lists in the {@code FinanceTracker} that a journal entry can apply to.
+     */
+    enum EntityList {
+        EXPENSES, DEBTS, BUDGETS, RECURRINGS
+    }
+
+    private final Operation operation;
+    private final EntityList list;
+    private final JsonAdaptedExpense expense;
+    private final JsonAdaptedExpense editedExpense;
+    private final JsonAdaptedDebt debt;
+    private final JsonAdaptedDebt editedDebt;
+    private final JsonAdaptedBudget budget;
+    private final JsonAdaptedBudget editedBudget;
+    private final JsonAdaptedRecurring recurring;
+    private final JsonAdaptedRecurring editedRecurring;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("list") EntityList list,
+                                   @JsonProperty("expense") JsonAdaptedExpense expense,
+                                   @JsonProperty("editedExpense") JsonAdaptedExpense editedExpense,
+                                   @JsonProperty("debt") JsonAdaptedDebt debt,
+                                   @JsonProperty("editedDebt") JsonAdaptedDebt editedDebt,
+                                   @JsonProperty("budget") JsonAdaptedBudget budget,
+                                   @JsonProperty("editedBudget") JsonAdaptedBudget editedBudget,
+                                   @JsonProperty("recurring") JsonAdaptedRecurring recurring,
+                                   @JsonProperty("editedRecurring") JsonAdaptedRecurring editedRecurring) {
+        this.operation = operation;
+        this.list = list;
+        this.expense = expense;
+        this.editedExpense = editedExpense;
+        this.debt = debt;
+        this.editedDebt = editedDebt;
+        this.budget = budget;
+        this.editedBudget = editedBudget;
+        this.recurring = recurring;
+        this.editedRecurring = editedRecurring;
+    }
+
+    /**
+     * Converts a mutation of the {@code FinanceTracker} into this class for Jackson use.
+     *
+     * @param target the element added, removed or replaced. Ignored for {@code CLEAR}.
+     * @param edited the replacement element. Only used for {@code SET}.
+     */
+    public JsonAdaptedJournalEntry(Operation operation, EntityList list, Object target, Object edited) {
+        requireNonNull(operation);
+        requireNonNull(list);
+        this.operation = operation;
+        this.list = list;
+
+        boolean hasTarget = operation != Operation.CLEAR;
+        boolean hasEdited = operation == Operation.SET;
+        expense = list == EntityList.EXPENSES && hasTarget ? new JsonAdaptedExpense((Expense) target) : null;
+        editedExpense = list == EntityList.EXPENSES && hasEdited ? new JsonAdaptedExpense((Expense) edited) : null;
+        debt = list == EntityList.DEBTS && hasTarget ? new JsonAdaptedDebt((Debt) target) : null;
+        editedDebt = list == EntityList.DEBTS && hasEdited ? new JsonAdaptedDebt((Debt) edited) : null;
+        budget = list == EntityList.BUDGETS && hasTarget ? new JsonAdaptedBudget((Budget) target) : null;
+        editedBudget = list == EntityList.BUDGETS && hasEdited ? new JsonAdaptedBudget((Budget) edited) : null;
+        recurring = list == EntityList.RECURRINGS && hasTarget ? new JsonAdaptedRecurring((Recurring) target) : null;
+        editedRecurring = list == EntityList.RECURRINGS && hasEdited
+                ? new JsonAdaptedRecurring((Recurring) edited) : null;
+    }
+
+    /**
+     * Replays this journal entry onto {@code financeTracker}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry,
+     *     or if the entry does not apply to the current contents of {@code financeTracker}.
+     */
+    public void applyTo(FinanceTracker financeTracker) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (list == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "list"));
+        }
+
+        try {
+            switch (list) {
+            case EXPENSES:
+                applyToExpenses(financeTracker);
+                break;
+            case DEBTS:
+                applyToDebts(financeTracker);
+                break;
+            case BUDGETS:
+                applyToBudgets(financeTracker);
+                break;
+            case RECURRINGS:
+                applyToRecurrings(financeTracker);
+                break;
+            default:
+            }
+        } catch (RuntimeException re) {
+            // the model signals entries that do not match its contents with unchecked exceptions
+            throw new IllegalValueException(String.format(MESSAGE_REPLAY_FAILED, re), re);
+        }
+    }
+
+    /**
+     * Replays this journal entry onto the expense list of {@code financeTracker}.
+     */
+    private void applyToExpenses(FinanceTracker financeTracker) throws IllegalValueException {
+        switch (operation) {
+        case ADD:
+            financeTracker.addExpense(requirePresent(expense, "expense").toModelType());
+            break;
+        case REMOVE:
+            financeTracker.removeExpense(requirePresent(expense, "expense").toModelType());
+            break;
+        case SET:
+            financeTracker.setExpense(requirePresent(expense, "expense").toModelType(),
+                    requirePresent(editedExpense, "editedExpense").toModelType());
+            break;
+        case CLEAR:
+            financeTracker.setExpenses(Collections.emptyList());
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Replays this journal entry onto the debt list of {@code financeTracker}.
+     */
+    private void applyToDebts(FinanceTracker financeTracker) throws IllegalValueException {
+        switch (operation) {
+        case ADD:
+            financeTracker.addDebt(requirePresent(debt, "debt").toModelType());
+            break;
+        case REMOVE:
+            financeTracker.removeDebt(requirePresent(debt, "debt").toModelType());
+            break;
+        case SET:
+            financeTracker.setDebt(requirePresent(debt, "debt").toModelType(),
+                    requirePresent(editedDebt, "editedDebt").toModelType());
+            break;
+        case CLEAR:
+            financeTracker.setDebts(Collections.emptyList());
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Replays this journal entry onto the budget list of {@code financeTracker}.
+     */
+    private void applyToBudgets(FinanceTracker financeTracker) throws IllegalValueException {
+        switch (operation) {
+        case ADD:
+            financeTracker.addBudget(requirePresent(budget, "budget").toModelType());
+            break;
+        case REMOVE:
+            financeTracker.removeBudget(requirePresent(budget, "budget").toModelType());
+            break;
+        case SET:
+            financeTracker.setBudget(requirePresent(budget, "budget").toModelType(),
+                    requirePresent(editedBudget, "editedBudget").toModelType());
+            break;
+        case CLEAR:
+            financeTracker.setBudgets(Collections.emptyList());
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Replays this journal entry onto the recurring list of {@code financeTracker}.
+     */
+    private void applyToRecurrings(FinanceTracker financeTracker) throws IllegalValueException {
+        switch (operation) {
+        case ADD:
+            financeTracker.addRecurring(requirePresent(recurring, "recurring").toModelType());
+            break;
+        case REMOVE:
+            financeTracker.removeRecurring(requirePresent(recurring, "recurring").toModelType());
+            break;
+        case SET:
+            financeTracker.setRecurring(requirePresent(recurring, "recurring").toModelType(),
+                    requirePresent(editedRecurring, "editedRecurring").toModelType());
+            break;
+        case CLEAR:
+            financeTracker.setRecurrings(Collections.emptyList());
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Returns {@code field} if it is not null.
+     *
+     * @throws IllegalValueException if {@code field} is null.
+     */
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+
+}
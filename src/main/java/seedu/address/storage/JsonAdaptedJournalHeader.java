@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of the journal kept by {@link JournalFinanceTrackerStorage}, which
+ * names the generation of the snapshot that the journal's entries are to be replayed onto.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} of the journal of the snapshot of {@code generation}.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("generation") Long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Returns true if the line this was parsed from is a header, rather than an entry of a journal written before
+     * journals had headers.
+     */
+    public boolean isHeader() {
+        return generation != null;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ListEdit.EditedList;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+
+/**
+ * Jackson-friendly version of {@link ListEdit}.
+ * Only the pair of element lists matching the edited list is present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedListEdit {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "List edit's %s field is missing!";
+
+    private final EditedList list;
+    private final int from;
+    private final List<JsonAdaptedExpense> removedExpenses;
+    private final List<JsonAdaptedExpense> addedExpenses;
+    private final List<JsonAdaptedDebt> removedDebts;
+    private final List<JsonAdaptedDebt> addedDebts;
+    private final List<JsonAdaptedBudget> removedBudgets;
+    private final List<JsonAdaptedBudget> addedBudgets;
+    private final List<JsonAdaptedRecurring> removedRecurrings;
+    private final List<JsonAdaptedRecurring> addedRecurrings;
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("list") EditedList list, @JsonProperty("from") int from,
+                               @JsonProperty("removedExpenses") List<JsonAdaptedExpense> removedExpenses,
+                               @JsonProperty("addedExpenses") List<JsonAdaptedExpense> addedExpenses,
+                               @JsonProperty("removedDebts") List<JsonAdaptedDebt> removedDebts,
+                               @JsonProperty("addedDebts") List<JsonAdaptedDebt> addedDebts,
+                               @JsonProperty("removedBudgets") List<JsonAdaptedBudget> removedBudgets,
+                               @JsonProperty("addedBudgets") List<JsonAdaptedBudget> addedBudgets,
+                               @JsonProperty("removedRecurrings") List<JsonAdaptedRecurring> removedRecurrings,
+                               @JsonProperty("addedRecurrings") List<JsonAdaptedRecurring> addedRecurrings) {
+        this.list = list;
+        this.from = from;
+        this.removedExpenses = removedExpenses;
+        this.addedExpenses = addedExpenses;
+        this.removedDebts = removedDebts;
+        this.addedDebts = addedDebts;
+        this.removedBudgets = removedBudgets;
+        this.addedBudgets = addedBudgets;
+        this.removedRecurrings = removedRecurrings;
+        this.addedRecurrings = addedRecurrings;
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedListEdit(ListEdit source) {
+        requireNonNull(source);
+        list = source.getList();
+        from = source.getFrom();
+
+        boolean isExpenses = list == EditedList.EXPENSES;
+        boolean isDebts = list == EditedList.DEBTS;
+        boolean isBudgets = list == EditedList.BUDGETS;
+        boolean isRecurrings = list == EditedList.RECURRINGS;
+        removedExpenses = isExpenses ? adapt(source.getRemoved(), Expense.class, JsonAdaptedExpense::new) : null;
+        addedExpenses = isExpenses ? adapt(source.getAdded(), Expense.class, JsonAdaptedExpense::new) : null;
+        removedDebts = isDebts ? adapt(source.getRemoved(), Debt.class, JsonAdaptedDebt::new) : null;
+        addedDebts = isDebts ? adapt(source.getAdded(), Debt.class, JsonAdaptedDebt::new) : null;
+        removedBudgets = isBudgets ? adapt(source.getRemoved(), Budget.class, JsonAdaptedBudget::new) : null;
+        addedBudgets = isBudgets ? adapt(source.getAdded(), Budget.class, JsonAdaptedBudget::new) : null;
+        removedRecurrings = isRecurrings
+                ? adapt(source.getRemoved(), Recurring.class, JsonAdaptedRecurring::new) : null;
+        addedRecurrings = isRecurrings ? adapt(source.getAdded(), Recurring.class, JsonAdaptedRecurring::new) : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted list edit object into the model's {@code ListEdit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted list edit.
+     */
+    public ListEdit toModelType() throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "list"));
+        }
+
+        switch (list) {
+        case EXPENSES:
+            return new ListEdit(list, from, toModelTypes(removedExpenses, JsonAdaptedExpense::toModelType),
+                    toModelTypes(addedExpenses, JsonAdaptedExpense::toModelType));
+        case DEBTS:
+            return new ListEdit(list, from, toModelTypes(removedDebts, JsonAdaptedDebt::toModelType),
+                    toModelTypes(addedDebts, JsonAdaptedDebt::toModelType));
+        case BUDGETS:
+            return new ListEdit(list, from, toModelTypes(removedBudgets, JsonAdaptedBudget::toModelType),
+                    toModelTypes(addedBudgets, JsonAdaptedBudget::toModelType));
+        case RECURRINGS:
+            return new ListEdit(list, from, toModelTypes(removedRecurrings, JsonAdaptedRecurring::toModelType),
+                    toModelTypes(addedRecurrings, JsonAdaptedRecurring::toModelType));
+        default:
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "list"));
+        }
+    }
+
+    /**
+     * Converts each of {@code elements}, which are of type {@code elementClass}, using {@code adapter}.
+     */
+    private static <T, A> List<A> adapt(List<?> elements, Class<T> elementClass, Adapter<T, A> adapter) {
+        List<A> adapted = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            adapted.add(adapter.adapt(elementClass.cast(element)));
+        }
+        return adapted;
+    }
+
+    /**
+     * Converts each of the {@code adapted} elements into its model type using {@code converter}.
+     *
+     * @throws IllegalValueException if {@code adapted} is missing or any element cannot be converted.
+     */
+    private static <A, T> List<T> toModelTypes(List<A> adapted, Converter<A, T> converter)
+            throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "elements"));
+        }
+
+        List<T> elements = new ArrayList<>(adapted.size());
+        for (A element : adapted) {
+            elements.add(converter.convert(element));
+        }
+        return elements;
+    }
+
+    /**
+     * Converts a model element into its Jackson-friendly version.
+     */
+    @FunctionalInterface
+    private interface Adapter<T, A> {
+        A adapt(T element);
+    }
+
+    /**
+     * Converts a Jackson-friendly element into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+
+}
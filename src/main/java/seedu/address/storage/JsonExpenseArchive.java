@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
+import seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException;
+
+/**
+ * The expense partitions of the earliest months of a finance tracker file, which {@link JsonFinanceTrackerReader}
+ * left unread. A partition is only read when its month is loaded.
+ * {@link JsonSnapshotWriter} describes the archived partitions in the snapshots it writes without reading them.
+ */
+class JsonExpenseArchive implements ExpenseArchive {
+
+    private final Path directory;
+    private final NavigableMap<YearMonth, JsonAdaptedExpensePartition> partitions;
+
+    /**
+     * Creates an archive of {@code partitions}, which are in {@code directory}. There must be at least one partition.
+     */
+    JsonExpenseArchive(Path directory, NavigableMap<YearMonth, JsonAdaptedExpensePartition> partitions) {
+        requireAllNonNull(directory, partitions);
+        assert !partitions.isEmpty();
+        this.directory = directory;
+        this.partitions = Collections.unmodifiableNavigableMap(new TreeMap<>(partitions));
+    }
+
+    /**
+     * Returns the archive of {@code financeTracker} if it is an archive of partitions in {@code directory}.
+     */
+    static Optional<JsonExpenseArchive> getArchiveIn(ReadOnlyFinanceTracker financeTracker, Path directory) {
+        return financeTracker.getExpenseArchive()
+                .filter(archive -> archive instanceof JsonExpenseArchive
+                        && ((JsonExpenseArchive) archive).directory.equals(directory))
+                .map(archive -> (JsonExpenseArchive) archive);
+    }
+
+    /**
+     * Returns the descriptions of the archived partitions, in order of month.
+     */
+    Collection<JsonAdaptedExpensePartition> getPartitions() {
+        return partitions.values();
+    }
+
+    @Override
+    public YearMonth getEnd() {
+        return partitions.lastKey().plusMonths(1);
+    }
+
+    @Override
+    public List<Expense> readFrom(YearMonth month) {
+        List<Expense> expenses = new ArrayList<>();
+        for (Map.Entry<YearMonth, JsonAdaptedExpensePartition> partition : partitions.tailMap(month, true).entrySet()) {
+            try {
+                JsonFinanceTrackerReader.readPartition(directory, partition.getValue(), expenses);
+            } catch (IOException | IllegalValueException e) {
+                throw new ExpenseArchiveUnreadableException("Could not read the expenses of " + partition.getKey()
+                        + " from " + directory.resolve(partition.getValue().getFileName()), e);
+            }
+        }
+        return expenses;
+    }
+
+    @Override
+    public Optional<ExpenseArchive> before(YearMonth month) {
+        NavigableMap<YearMonth, JsonAdaptedExpensePartition> earlierPartitions = partitions.headMap(month, false);
+        if (earlierPartitions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonExpenseArchive(directory, earlierPartitions));
+    }
+
+}
@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.recurring.Recurring;
+
+/**
+ * Reads a finance tracker json file, in the format written by {@link JsonSerializableFinanceTracker},
+ * one element at a time.
+ * The expenses may instead be split by month into partition files, as written by {@link JsonSnapshotWriter}, in
+ * which case the file lists the partitions in place of the expenses. The partitions of the earliest months can be
+ * left unread, in a {@link JsonExpenseArchive} that reads them once the finance tracker needs them.
+ *
+ * Neither the file contents nor the list of {@code JsonAdapted*} objects is ever held in memory as a whole:
+ * each element is converted into its model type as soon as it is parsed. The converted elements of each list are
+ * then added to the {@code FinanceTracker} in bulk, so that the expense list is only sorted once.
+ */
+class JsonFinanceTrackerReader {
+
+    public static final String MESSAGE_NULL_ELEMENT = "Finance tracker's %s list contains a null element!";
+    public static final String MESSAGE_EXPENSE_OUTSIDE_PARTITION = "Expense partition %s contains an expense of %s";
+    public static final String MESSAGE_DUPLICATE_PARTITION = "Finance tracker has two expense partitions of %s";
+
+    /** The name of the directory, next to the finance tracker file, that holds its expense partitions. */
+    public static final String EXPENSE_PARTITION_DIRECTORY = "expenses";
+
+    /** A month before the months of every expense, so that reading from it reads every expense. */
+    static final YearMonth EARLIEST_MONTH = YearMonth.of(Year.MIN_VALUE, 1);
+
+    private JsonFinanceTrackerReader() {} // prevents instantiation
+
+    /**
+     * Returns the directory that holds the expense partitions of the finance tracker file at {@code filePath}.
+     */
+    public static Path getExpensePartitionDirectory(Path filePath) {
+        return filePath.resolveSibling(EXPENSE_PARTITION_DIRECTORY);
+    }
+
+    /**
+     * Returns the generation of the snapshot in the json file at {@code filePath}, or
+     * {@link JournalFinanceTrackerStorage#NO_GENERATION} if the file was not written with one.
+     * {@link JsonSnapshotWriter} writes the generation as the first field, so only the start of the file is read.
+     *
+     * @throws IOException if the file cannot be read or is not a json object.
+     */
+    public static long readGeneration(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected finance tracker json object");
+            }
+            if (parser.nextToken() != JsonToken.FIELD_NAME || !parser.getCurrentName().equals("generation")
+                    || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                return JournalFinanceTrackerStorage.NO_GENERATION;
+            }
+            return parser.getLongValue();
+        }
+    }
+
+    /**
+     * Returns the finance tracker stored in the json file at {@code filePath}, along with its expense partitions.
+     * Fields other than the four lists and the expense partitions, such as the generation, are ignored.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected json structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static FinanceTracker read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, EARLIEST_MONTH);
+    }
+
+    /**
+     * Returns the finance tracker stored in the json file at {@code filePath}, as above, except that the expense
+     * partitions of the months before {@code loadedFrom} are archived rather than read. Months that a budget covers
+     * are read regardless, so that the totals spent of the budgets are derived from every expense they cover.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected json structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static FinanceTracker read(Path filePath, YearMonth loadedFrom) throws IOException,
+            IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(loadedFrom);
+
+        List<Expense> expenses = new ArrayList<>();
+        List<Debt> debts = new ArrayList<>();
+        List<Budget> budgets = new ArrayList<>();
+        List<Recurring> recurrings = new ArrayList<>();
+        List<JsonAdaptedExpensePartition> partitions = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected finance tracker json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "expenses":
+                    readArray(parser, fieldName, JsonAdaptedExpense.class,
+                        expense -> expenses.add(expense.toModelType()));
+                    break;
+                case "expensePartitions":
+                    readArray(parser, fieldName, JsonAdaptedExpensePartition.class, partitions::add);
+                    break;
+                case "debts":
+                    readArray(parser, fieldName, JsonAdaptedDebt.class,
+                        debt -> debts.add(debt.toModelType()));
+                    break;
+                case "budgets":
+                    readArray(parser, fieldName, JsonAdaptedBudget.class,
+                        budget -> budgets.add(budget.toModelType()));
+                    break;
+                case "recurrings":
+                    readArray(parser, fieldName, JsonAdaptedRecurring.class,
+                        recurring -> recurrings.add(recurring.toModelType()));
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of finance tracker json object");
+            }
+        }
+
+        // archived months must be before the months of every expense read
+        YearMonth archivedBefore = loadedFrom;
+        for (Budget budget : budgets) {
+            archivedBefore = min(archivedBefore, YearMonth.from(budget.getStartDate().getLocalDate()));
+        }
+        for (Expense expense : expenses) {
+            archivedBefore = min(archivedBefore, YearMonth.from(expense.getDate().getLocalDate()));
+        }
+
+        Path partitionDirectory = getExpensePartitionDirectory(filePath);
+        NavigableMap<YearMonth, JsonAdaptedExpensePartition> archivedPartitions = new TreeMap<>();
+        for (JsonAdaptedExpensePartition partition : partitions) {
+            YearMonth month = partition.getMonth();
+            if (!month.isBefore(archivedBefore)) {
+                readPartition(partitionDirectory, partition, expenses);
+                continue;
+            }
+            partition.getFile(partitionDirectory); // checks the file name now, rather than when it is loaded
+            if (archivedPartitions.put(month, partition) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PARTITION, month));
+            }
+        }
+
+        FinanceTracker financeTracker = new FinanceTracker();
+        financeTracker.addExpenses(expenses);
+        financeTracker.addDebts(debts);
+        financeTracker.addBudgets(budgets);
+        financeTracker.addRecurrings(recurrings);
+        if (!archivedPartitions.isEmpty()) {
+            financeTracker.setExpenseArchive(new JsonExpenseArchive(partitionDirectory, archivedPartitions));
+        }
+        return financeTracker;
+    }
+
+    /**
+     * Adds the expenses in the file of {@code partition} within {@code directory} to {@code expenses}.
+     *
+     * @throws IOException if the file cannot be read or is not a json array.
+     * @throws IllegalValueException if there were any data constraints violated, or the expenses in the file do not
+     *     match the description of {@code partition}.
+     */
+    static void readPartition(Path directory, JsonAdaptedExpensePartition partition, List<Expense> expenses)
+            throws IOException, IllegalValueException {
+        YearMonth month = partition.getMonth();
+        Path partitionFile = partition.getFile(directory);
+        int countBefore = expenses.size();
+        long[] totalCents = new long[1];
+        try (JsonParser parser = JsonUtil.createJsonParser(partitionFile)) {
+            parser.nextToken();
+            readArray(parser, partitionFile.toString(), JsonAdaptedExpense.class, adaptedExpense -> {
+                Expense expense = adaptedExpense.toModelType();
+                if (!YearMonth.from(expense.getDate().getLocalDate()).equals(month)) {
+                    throw new IllegalValueException(String.format(MESSAGE_EXPENSE_OUTSIDE_PARTITION, partitionFile,
+                            expense.getDate()));
+                }
+                expenses.add(expense);
+                totalCents[0] += expense.getAmount().value;
+            });
+        }
+        partition.checkContents(expenses.size() - countBefore, totalCents[0]);
+    }
+
+    /**
+     * Returns the earlier of {@code first} and {@code second}.
+     */
+    private static YearMonth min(YearMonth first, YearMonth second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * Reads the json array that {@code parser} is positioned at, passing each element to {@code consumer}
+     * as soon as it is parsed. A json {@code null} is treated as an empty array.
+     */
+    private static <T> void readArray(JsonParser parser, String fieldName, Class<T> elementClass,
+                                      ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for field: " + fieldName);
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of array for field: " + fieldName);
+            }
+            T element = parser.readValueAs(elementClass);
+            if (element == null) {
+                throw new IllegalValueException(String.format(MESSAGE_NULL_ELEMENT, fieldName));
+            }
+            consumer.accept(element);
+        }
+    }
+
+    /**
+     * Accepts an element that has just been parsed.
+     */
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
+}
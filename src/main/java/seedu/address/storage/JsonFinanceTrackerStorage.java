@@ -3,7 +3,9 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,7 +14,9 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FinanceTracker;
 import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException;
 
 /**
  * A class to access FinanceTracker data stored as a json file on the hard disk.
@@ -38,21 +42,38 @@ public class JsonFinanceTrackerStorage implements FinanceTrackerStorage {
 
     /**
      * Similar to {@link #readFinanceTracker()}.
+     * The file is streamed, so only one element is held in its json form at any time.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyFinanceTracker> readFinanceTracker(Path filePath) throws DataConversionException {
+        return readFinanceTracker(filePath, JsonFinanceTrackerReader.EARLIEST_MONTH);
+    }
+
+    /**
+     * Similar to {@link #readFinanceTracker(Path)}, except that the expenses of the months before
+     * {@code loadedFrom} are archived rather than read, as described in
+     * {@link JsonFinanceTrackerReader#read(Path, YearMonth)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyFinanceTracker> readFinanceTracker(Path filePath, YearMonth loadedFrom)
+            throws DataConversionException {
         requireNonNull(filePath);
+        requireNonNull(loadedFrom);
 
-        Optional<JsonSerializableFinanceTracker> jsonFinanceTracker = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFinanceTracker.class);
-        if (!jsonFinanceTracker.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonFinanceTracker.get().toModelType());
+            return Optional.of(JsonFinanceTrackerReader.read(filePath, loadedFrom));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +95,29 @@ public class JsonFinanceTrackerStorage implements FinanceTrackerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFinanceTracker(financeTracker), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableFinanceTracker(withArchivedExpensesLoaded(financeTracker)),
+                filePath);
+    }
+
+    /**
+     * Returns {@code financeTracker} if it has not archived any expenses, and otherwise a copy of it with its archived
+     * expenses loaded, so that every expense can be written out.
+     *
+     * @throws IOException if the archived expenses cannot be read.
+     */
+    static ReadOnlyFinanceTracker withArchivedExpensesLoaded(ReadOnlyFinanceTracker financeTracker)
+            throws IOException {
+        if (!financeTracker.getExpenseArchive().isPresent()) {
+            return financeTracker;
+        }
+
+        FinanceTracker copy = new FinanceTracker(financeTracker);
+        try {
+            copy.loadAllExpenses();
+        } catch (ExpenseArchiveUnreadableException eaue) {
+            throw new IOException(eaue.getMessage(), eaue);
+        }
+        return copy;
     }
 
 }
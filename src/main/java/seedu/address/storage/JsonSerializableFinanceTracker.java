@@ -57,27 +57,33 @@ class JsonSerializableFinanceTracker {
 
     /**
      * Converts this finance tracker into the model's {@code FinanceTracker} object.
+     * Each list is converted in full first and then added to the finance tracker in bulk.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public FinanceTracker toModelType() throws IllegalValueException {
-        FinanceTracker financeTracker = new FinanceTracker();
+        List<Expense> modelExpenses = new ArrayList<>(expenses.size());
         for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
-            Expense expense = jsonAdaptedExpense.toModelType();
-            financeTracker.addExpense(expense);
+            modelExpenses.add(jsonAdaptedExpense.toModelType());
         }
+        List<Debt> modelDebts = new ArrayList<>(debts.size());
         for (JsonAdaptedDebt jsonAdaptedDebt : debts) {
-            Debt debt = jsonAdaptedDebt.toModelType();
-            financeTracker.addDebt(debt);
+            modelDebts.add(jsonAdaptedDebt.toModelType());
         }
+        List<Budget> modelBudgets = new ArrayList<>(budgets.size());
         for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
-            Budget budget = jsonAdaptedBudget.toModelType();
-            financeTracker.addBudget(budget);
+            modelBudgets.add(jsonAdaptedBudget.toModelType());
         }
+        List<Recurring> modelRecurrings = new ArrayList<>(recurrings.size());
         for (JsonAdaptedRecurring jsonAdaptedRecurring : recurrings) {
-            Recurring recurring = jsonAdaptedRecurring.toModelType();
-            financeTracker.addRecurring(recurring);
+            modelRecurrings.add(jsonAdaptedRecurring.toModelType());
         }
+
+        FinanceTracker financeTracker = new FinanceTracker();
+        financeTracker.addExpenses(modelExpenses);
+        financeTracker.addDebts(modelDebts);
+        financeTracker.addBudgets(modelBudgets);
+        financeTracker.addRecurrings(modelRecurrings);
         return financeTracker;
     }
 
@@ -0,0 +1,260 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.expense.Expense;
+import seedu.address.storage.JsonAdaptedJournalEntry.EntityList;
+
+/**
+ * Writes snapshots of a finance tracker to a file, in the format read by {@link JsonFinanceTrackerReader}.
+ *
+ * The expenses are split by calendar month into partition files in the directory next to the file, and the file
+ * itself only describes the partitions, along with holding the other lists. A partition is only written again if
+ * the expenses of its month have changed since it was last written, so editing this month's expenses does not
+ * rewrite the expenses of earlier months. Each partition is written to a new file, and the partition files that
+ * are no longer described are only deleted once the file is written, so that the file always describes partitions
+ * that exist. The partitions of the months that the finance tracker has archived, as a {@link JsonExpenseArchive} of
+ * the same directory, are described as they are without being read.
+ *
+ * The file starts with the generation of the snapshot, which {@link JournalFinanceTrackerStorage} uses to tell
+ * whether its journal was written after this snapshot.
+ *
+ * The json of each of the other lists is kept along with the version of the list it was serialized from, so that a
+ * list that has not changed since the previous snapshot is written out again byte for byte instead of being
+ * converted and serialized again.
+ */
+class JsonSnapshotWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSnapshotWriter.class);
+
+    private final Path filePath;
+    private final Path partitionDirectory;
+    private final Map<EntityList, Segment> segments = new EnumMap<>(EntityList.class);
+    private final Map<YearMonth, Partition> partitions = new HashMap<>();
+    private long lastPartitionId;
+    private int serializedSegmentCount;
+
+    /**
+     * Creates a writer of snapshots to the file at {@code filePath}.
+     */
+    JsonSnapshotWriter(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.partitionDirectory = JsonFinanceTrackerReader.getExpensePartitionDirectory(filePath);
+    }
+
+    /**
+     * Writes {@code financeTracker}, whose lists and months of expenses are at {@code versions}, as the snapshot of
+     * {@code generation}.
+     * Only the parts whose versions differ from the ones they were last written at are serialized.
+     */
+    public synchronized void write(ReadOnlyFinanceTracker financeTracker, SnapshotVersions versions,
+                                   long generation) throws IOException {
+        requireAllNonNull(financeTracker, versions);
+
+        Optional<JsonExpenseArchive> archive = JsonExpenseArchive.getArchiveIn(financeTracker, partitionDirectory);
+        if (!archive.isPresent() && financeTracker.getExpenseArchive().isPresent()) {
+            // the partitions of another directory cannot be described by this file
+            financeTracker = JsonFinanceTrackerStorage.withArchivedExpensesLoaded(financeTracker);
+        }
+        Collection<JsonAdaptedExpensePartition> archivedPartitions = archive.map(JsonExpenseArchive::getPartitions)
+                .orElse(Collections.emptyList());
+
+        // archived months are before the months of the expenses in the expense list
+        List<JsonAdaptedExpensePartition> writtenPartitions = new ArrayList<>(archivedPartitions);
+        writtenPartitions.addAll(writePartitions(financeTracker.getExpenseList(), versions));
+        List<byte[]> parts = new ArrayList<>();
+        // the generation comes first, so that it can be read without parsing the rest of the file
+        parts.add(("{\n  \"generation\" : " + generation + ",\n  \"expensePartitions\" : ")
+                .getBytes(StandardCharsets.UTF_8));
+        parts.add(JsonUtil.toJsonBytes(writtenPartitions));
+        for (EntityList list : EntityList.values()) {
+            if (list == EntityList.EXPENSES) {
+                continue;
+            }
+            String fieldName = list.name().toLowerCase(Locale.ROOT);
+            parts.add((",\n  \"" + fieldName + "\" : ").getBytes(StandardCharsets.UTF_8));
+            parts.add(getSegment(financeTracker, list, versions.getListVersion(list)));
+        }
+        parts.add("\n}".getBytes(StandardCharsets.UTF_8));
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, parts);
+        deleteUnusedPartitionFiles(archivedPartitions);
+    }
+
+    /**
+     * Writes the partitions of the months of {@code expenses} whose versions differ from the ones they were last
+     * written at, and returns the descriptions of the partitions of all the months, in order.
+     */
+    private List<JsonAdaptedExpensePartition> writePartitions(List<Expense> expenses, SnapshotVersions versions)
+            throws IOException {
+        Map<YearMonth, List<Expense>> expensesByMonth = new TreeMap<>();
+        for (Expense expense : expenses) {
+            expensesByMonth.computeIfAbsent(YearMonth.from(expense.getDate().getLocalDate()), unused ->
+                    new ArrayList<>()).add(expense);
+        }
+        partitions.keySet().retainAll(expensesByMonth.keySet());
+
+        List<JsonAdaptedExpensePartition> writtenPartitions = new ArrayList<>();
+        for (Map.Entry<YearMonth, List<Expense>> monthExpenses : expensesByMonth.entrySet()) {
+            YearMonth month = monthExpenses.getKey();
+            long version = versions.getExpenseMonthVersion(month);
+            Partition partition = partitions.get(month);
+            if (partition == null || partition.version != version) {
+                partition = writePartition(month, monthExpenses.getValue(), version);
+                partitions.put(month, partition);
+            }
+            writtenPartitions.add(new JsonAdaptedExpensePartition(month, partition.fileName, partition.count,
+                    partition.totalCents));
+        }
+        return writtenPartitions;
+    }
+
+    /**
+     * Writes {@code expenses}, which are the expenses of {@code month} at {@code version}, to a new partition file.
+     */
+    private Partition writePartition(YearMonth month, List<Expense> expenses, long version) throws IOException {
+        Files.createDirectories(partitionDirectory);
+        String fileName;
+        do {
+            lastPartitionId = Math.max(lastPartitionId + 1, System.currentTimeMillis());
+            fileName = month + "." + lastPartitionId + ".json";
+        } while (Files.exists(partitionDirectory.resolve(fileName)));
+
+        byte[] json = serialize(expenses, JsonAdaptedExpense::new);
+        FileUtil.writeToFile(partitionDirectory.resolve(fileName), Collections.singletonList(json));
+        serializedSegmentCount++;
+
+        long totalCents = 0;
+        for (Expense expense : expenses) {
+            totalCents += expense.getAmount().value;
+        }
+        return new Partition(version, fileName, expenses.size(), totalCents);
+    }
+
+    /**
+     * Deletes the partition files that are not described by the snapshot written last, which also describes
+     * {@code archivedPartitions}.
+     * Failing to delete them only leaves them behind, so it does not fail the write.
+     */
+    private void deleteUnusedPartitionFiles(Collection<JsonAdaptedExpensePartition> archivedPartitions) {
+        if (!Files.isDirectory(partitionDirectory)) {
+            return;
+        }
+        Set<String> usedFileNames = partitions.values().stream()
+                .map(partition -> partition.fileName)
+                .collect(Collectors.toSet());
+        archivedPartitions.forEach(partition -> usedFileNames.add(partition.getFileName()));
+        try (Stream<Path> files = Files.list(partitionDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (JsonAdaptedExpensePartition.isValidFileName(fileName) && !usedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete unused expense partitions in " + partitionDirectory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns the json of {@code list} of {@code financeTracker} at {@code version}, serializing it only if the
+     * segment kept is of another version.
+     */
+    private byte[] getSegment(ReadOnlyFinanceTracker financeTracker, EntityList list, long version)
+            throws IOException {
+        Segment segment = segments.get(list);
+        if (segment != null && segment.version == version) {
+            return segment.json;
+        }
+
+        byte[] json;
+        switch (list) {
+        case DEBTS:
+            json = serialize(financeTracker.getDebtList(), JsonAdaptedDebt::new);
+            break;
+        case BUDGETS:
+            json = serialize(financeTracker.getBudgetList(), JsonAdaptedBudget::new);
+            break;
+        case RECURRINGS:
+            json = serialize(financeTracker.getRecurringList(), JsonAdaptedRecurring::new);
+            break;
+        default:
+            throw new IllegalArgumentException("Not written as a segment: " + list);
+        }
+        segments.put(list, new Segment(version, json));
+        serializedSegmentCount++;
+        return json;
+    }
+
+    /**
+     * Returns the json of {@code elements}, each converted into its Jackson-friendly form by {@code adapter}.
+     */
+    private static <T> byte[] serialize(List<T> elements, Function<T, ?> adapter) throws IOException {
+        return JsonUtil.toJsonBytes(elements.stream().map(adapter).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the number of partitions and lists that have been serialized, rather than reused, by this writer.
+     */
+    synchronized int getSerializedSegmentCount() {
+        return serializedSegmentCount;
+    }
+
+    /**
+     * The json of a list as it was at a version.
+     */
+    private static class Segment {
+        private final long version;
+        private final byte[] json;
+
+        private Segment(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+
+    /**
+     * A partition file holding the expenses of a month as they were at a version.
+     */
+    private static class Partition {
+        private final long version;
+        private final String fileName;
+        private final int count;
+        private final long totalCents;
+
+        private Partition(long version, String fileName, int count, long totalCents) {
+            this.version = version;
+            this.fileName = fileName;
+            this.count = count;
+            this.totalCents = totalCents;
+        }
+    }
+}
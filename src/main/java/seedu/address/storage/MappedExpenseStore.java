@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.attributes.Amount;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Name;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseRecordList;
+import seedu.address.model.expense.exceptions.ExpenseStoreFullException;
+
+/**
+ * An {@code ExpenseRecordList} that keeps its expenses outside of the heap, as fixed-width records in a
+ * memory-mapped file, so that a history of expenses larger than the heap can be held.
+ *
+ * Each record holds the amount in cents, the date as a number of days since the epoch, the ordinal of the category,
+ * and the offsets of the name and remarks in a second mapped file that is a heap of length-prefixed strings.
+ * A name is written to the string heap once and shared by every record with that name, and its {@code Name} is only
+ * created once. The remarks of a record that is replaced are written over the old remarks when they fit in their
+ * place, and the other strings of the records that are replaced or removed are only reclaimed once the list is empty.
+ * An expense that there is no room left for is rejected with an {@code ExpenseStoreFullException}, which leaves the
+ * store unchanged.
+ *
+ * The expenses only live as long as the store, so the files are temporary files that are deleted when the store is
+ * closed or the app exits. The saved data is still written by the finance tracker storage.
+ */
+public class MappedExpenseStore extends AbstractList<Expense> implements ExpenseRecordList, Closeable {
+
+    private static final int CENTS_OFFSET = 0;
+    private static final int EPOCH_DAY_OFFSET = 4;
+    private static final int CATEGORY_OFFSET = 8;
+    private static final int NAME_OFFSET = 12;
+    private static final int REMARKS_OFFSET = 16;
+    private static final int RECORD_SIZE = 20;
+    private static final int NO_STRING = -1;
+
+    private static final int INITIAL_FILE_SIZE = 64 * 1024;
+    private static final int MOVE_CHUNK_SIZE = 64 * 1024;
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final FileChannel recordChannel;
+    private final FileChannel stringChannel;
+    private final Map<String, Integer> nameReferences = new HashMap<>();
+    private final Map<Integer, Name> names = new HashMap<>();
+    private final int maxFileSize;
+    private MappedByteBuffer records;
+    private MappedByteBuffer strings;
+    private int size;
+    private int stringHeapSize;
+
+    /**
+     * Creates an empty store whose files are in the default temporary-file directory.
+     */
+    public MappedExpenseStore() throws IOException {
+        this(Files.createTempFile("financetracker-expenses", ".records"),
+                Files.createTempFile("financetracker-expenses", ".strings"), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty store whose files are in {@code directory}.
+     */
+    public MappedExpenseStore(Path directory) throws IOException {
+        this(directory, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty store whose files are in {@code directory} and hold at most {@code maxFileSize} bytes each.
+     */
+    MappedExpenseStore(Path directory, int maxFileSize) throws IOException {
+        this(Files.createTempFile(requireNonNull(directory), "financetracker-expenses", ".records"),
+                Files.createTempFile(directory, "financetracker-expenses", ".strings"), maxFileSize);
+    }
+
+    private MappedExpenseStore(Path recordFilePath, Path stringFilePath, int maxFileSize) throws IOException {
+        this.maxFileSize = maxFileSize;
+        recordFilePath.toFile().deleteOnExit();
+        stringFilePath.toFile().deleteOnExit();
+        recordChannel = FileChannel.open(recordFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        stringChannel = FileChannel.open(stringFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(INITIAL_FILE_SIZE, maxFileSize));
+        strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(INITIAL_FILE_SIZE, maxFileSize));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materializes the expense at {@code index}.
+     */
+    @Override
+    public Expense get(int index) {
+        int position = Objects.checkIndex(index, size) * RECORD_SIZE;
+        return new Expense(getName(records.getInt(position + NAME_OFFSET)),
+                new Amount(records.getInt(position + CENTS_OFFSET)),
+                new Date(LocalDate.ofEpochDay(records.getInt(position + EPOCH_DAY_OFFSET))),
+                CATEGORIES[records.getInt(position + CATEGORY_OFFSET)],
+                readString(records.getInt(position + REMARKS_OFFSET)));
+    }
+
+    @Override
+    public int getCents(int index) {
+        return records.getInt(Objects.checkIndex(index, size) * RECORD_SIZE + CENTS_OFFSET);
+    }
+
+    @Override
+    public long getEpochDay(int index) {
+        return records.getInt(Objects.checkIndex(index, size) * RECORD_SIZE + EPOCH_DAY_OFFSET);
+    }
+
+    @Override
+    public void scan(int from, int to, RecordVisitor visitor) {
+        Objects.checkFromToIndex(from, to, size);
+        requireNonNull(visitor);
+        for (int position = from * RECORD_SIZE; position < to * RECORD_SIZE; position += RECORD_SIZE) {
+            visitor.visit(records.getInt(position + CENTS_OFFSET), records.getInt(position + EPOCH_DAY_OFFSET),
+                    CATEGORIES[records.getInt(position + CATEGORY_OFFSET)]);
+        }
+    }
+
+    /**
+     * Replaces the expense at {@code index} with {@code element}.
+     *
+     * @throws ExpenseStoreFullException if there is no room left for the name or remarks of {@code element}.
+     */
+    @Override
+    public Expense set(int index, Expense element) {
+        requireNonNull(element);
+        Expense replaced = get(index);
+        int nameReference = getNameReference(element.getName());
+        int remarksReference = writeRemarks(records.getInt(index * RECORD_SIZE + REMARKS_OFFSET), element.getRemarks());
+        writeRecord(index, element, nameReference, remarksReference);
+        return replaced;
+    }
+
+    /**
+     * Inserts {@code element} at {@code index}.
+     *
+     * @throws ExpenseStoreFullException if there is no room left for {@code element}.
+     */
+    @Override
+    public void add(int index, Expense element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size + 1);
+        int nameReference = getNameReference(element.getName());
+        int remarksReference = writeRemarks(NO_STRING, element.getRemarks());
+        records = ensureCapacity(records, recordChannel, (size + 1L) * RECORD_SIZE);
+        moveRecords(index, index + 1, size - index);
+        writeRecord(index, element, nameReference, remarksReference);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Expense remove(int index) {
+        Expense removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        moveRecords(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+        if (size == 0) {
+            // no record refers to any of the strings any more
+            stringHeapSize = 0;
+            nameReferences.clear();
+            names.clear();
+        }
+    }
+
+    /**
+     * Closes the files of this store, which deletes them. The store must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            recordChannel.close();
+        } finally {
+            stringChannel.close();
+        }
+    }
+
+    /**
+     * Writes {@code expense}, whose name and remarks are at {@code nameReference} and {@code remarksReference} in the
+     * string heap, as the record at {@code index}, which must be within the capacity of the record file.
+     */
+    private void writeRecord(int index, Expense expense, int nameReference, int remarksReference) {
+        int position = index * RECORD_SIZE;
+        records.putInt(position + CENTS_OFFSET, expense.getAmount().value);
+        records.putInt(position + EPOCH_DAY_OFFSET, Math.toIntExact(expense.getDate().getLocalDate().toEpochDay()));
+        records.putInt(position + CATEGORY_OFFSET, expense.getCategory().ordinal());
+        records.putInt(position + NAME_OFFSET, nameReference);
+        records.putInt(position + REMARKS_OFFSET, remarksReference);
+    }
+
+    /**
+     * Moves the {@code count} records starting at index {@code from} to start at index {@code to} instead.
+     * The ranges may overlap, so the records are copied in chunks from the end that is moved into first.
+     */
+    private void moveRecords(int from, int to, int count) {
+        int length = count * RECORD_SIZE;
+        if (length == 0 || from == to) {
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(length, MOVE_CHUNK_SIZE)];
+        ByteBuffer view = records.duplicate();
+        int copied = 0;
+        while (copied < length) {
+            int chunkLength = Math.min(length - copied, chunk.length);
+            int offset = to > from ? length - copied - chunkLength : copied;
+            view.position(from * RECORD_SIZE + offset);
+            view.get(chunk, 0, chunkLength);
+            view.position(to * RECORD_SIZE + offset);
+            view.put(chunk, 0, chunkLength);
+            copied += chunkLength;
+        }
+    }
+
+    /**
+     * Returns the offset of {@code name} in the string heap, writing it there if no record has had that name yet.
+     */
+    private int getNameReference(Name name) {
+        Integer reference = nameReferences.get(name.name);
+        if (reference == null) {
+            reference = writeString(name.name.getBytes(StandardCharsets.UTF_8));
+            nameReferences.put(name.name, reference);
+            names.put(reference, name);
+        }
+        return reference;
+    }
+
+    /**
+     * Returns the name at {@code reference} in the string heap, creating its {@code Name} on first use.
+     */
+    private Name getName(int reference) {
+        return names.computeIfAbsent(reference, unused -> new Name(readString(reference)));
+    }
+
+    /**
+     * Returns the offset of {@code remarks} in the string heap, or {@code NO_STRING} if they are null.
+     * The remarks replace the remarks at {@code replacedReference}, which no other record refers to, so they are
+     * written over the replaced remarks if they fit in their place, and appended to the string heap otherwise.
+     */
+    private int writeRemarks(int replacedReference, String remarks) {
+        if (remarks == null) {
+            return NO_STRING;
+        }
+
+        byte[] bytes = remarks.getBytes(StandardCharsets.UTF_8);
+        if (replacedReference != NO_STRING && bytes.length <= strings.getInt(replacedReference)) {
+            putString(replacedReference, bytes);
+            return replacedReference;
+        }
+        return writeString(bytes);
+    }
+
+    /**
+     * Appends {@code bytes} to the string heap as a string and returns its offset.
+     */
+    private int writeString(byte[] bytes) {
+        strings = ensureCapacity(strings, stringChannel, (long) stringHeapSize + Integer.BYTES + bytes.length);
+        int reference = stringHeapSize;
+        putString(reference, bytes);
+        stringHeapSize += Integer.BYTES + bytes.length;
+        return reference;
+    }
+
+    /**
+     * Writes {@code bytes} as the string at {@code reference} in the string heap, which must have room for it.
+     */
+    private void putString(int reference, byte[] bytes) {
+        strings.putInt(reference, bytes.length);
+        ByteBuffer view = strings.duplicate();
+        view.position(reference + Integer.BYTES);
+        view.put(bytes);
+    }
+
+    /**
+     * Returns the string at {@code reference} in the string heap, or null if {@code reference} refers to no string.
+     */
+    private String readString(int reference) {
+        if (reference == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[strings.getInt(reference)];
+        ByteBuffer view = strings.duplicate();
+        view.position(reference + Integer.BYTES);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code buffer}, or if it is smaller than {@code requiredSize} bytes, a mapping of at least that many
+     * bytes of the file of {@code channel}, which grows the file.
+     *
+     * @throws ExpenseStoreFullException if the file cannot grow to {@code requiredSize} bytes.
+     */
+    private MappedByteBuffer ensureCapacity(MappedByteBuffer buffer, FileChannel channel, long requiredSize) {
+        if (requiredSize <= buffer.capacity()) {
+            return buffer;
+        }
+        if (requiredSize > maxFileSize) {
+            throw new ExpenseStoreFullException();
+        }
+
+        long newSize = Math.min(Math.max(requiredSize, 2L * buffer.capacity()), maxFileSize);
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
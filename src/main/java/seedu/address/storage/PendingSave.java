@@ -0,0 +1,18 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save whose data has already been captured from a finance tracker, so that it can be written to the storage on
+ * any thread without being affected by later changes to the finance tracker.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the captured data to the storage.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void write() throws IOException;
+
+}
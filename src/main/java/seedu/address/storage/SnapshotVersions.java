@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.storage.JsonAdaptedJournalEntry.EntityList;
+
+/**
+ * The versions of the lists of a finance tracker, and of the expenses of each month, as of some point in time.
+ * Every change gives what it changed a new version, so a part of a snapshot only needs to be written again if its
+ * version differs from the one it was last written at.
+ */
+class SnapshotVersions {
+
+    private final long[] listVersions;
+    private final Map<YearMonth, Long> expenseMonthVersions;
+    private long expenseBaseVersion; // the version of the expenses of the months not in expenseMonthVersions
+    private long latestVersion;
+
+    SnapshotVersions() {
+        listVersions = new long[EntityList.values().length];
+        expenseMonthVersions = new HashMap<>();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}, which is not affected by later changes to {@code toBeCopied}.
+     */
+    private SnapshotVersions(SnapshotVersions toBeCopied) {
+        listVersions = toBeCopied.listVersions.clone();
+        expenseMonthVersions = new HashMap<>(toBeCopied.expenseMonthVersions);
+        expenseBaseVersion = toBeCopied.expenseBaseVersion;
+        latestVersion = toBeCopied.latestVersion;
+    }
+
+    /**
+     * Gives every list, and the expenses of every month, a new version.
+     */
+    public void changeAll() {
+        for (EntityList list : EntityList.values()) {
+            changeList(list);
+        }
+        expenseMonthVersions.clear();
+        expenseBaseVersion = ++latestVersion;
+    }
+
+    /**
+     * Gives {@code list} a new version.
+     */
+    public void changeList(EntityList list) {
+        listVersions[list.ordinal()] = ++latestVersion;
+    }
+
+    /**
+     * Gives the expenses of {@code month} a new version.
+     */
+    public void changeExpenseMonth(YearMonth month) {
+        expenseMonthVersions.put(month, ++latestVersion);
+    }
+
+    public long getListVersion(EntityList list) {
+        return listVersions[list.ordinal()];
+    }
+
+    public long getExpenseMonthVersion(YearMonth month) {
+        return expenseMonthVersions.getOrDefault(month, expenseBaseVersion);
+    }
+
+    /**
+     * Returns a copy of these versions, which is not affected by later changes.
+     */
+    public SnapshotVersions copy() {
+        return new SnapshotVersions(this);
+    }
+}
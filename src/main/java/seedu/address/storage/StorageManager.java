@@ -75,4 +75,14 @@ public class StorageManager implements Storage {
         financeTrackerStorage.saveFinanceTracker(financeTracker, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyFinanceTracker financeTracker) {
+        PendingSave save = financeTrackerStorage.prepareSave(financeTracker);
+        Path filePath = financeTrackerStorage.getFinanceTrackerFilePath();
+        return () -> {
+            logger.fine("Attempting to write to data file: " + filePath);
+            save.write();
+        };
+    }
+
 }
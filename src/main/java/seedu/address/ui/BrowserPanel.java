@@ -2,23 +2,29 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.text.DecimalFormat;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import javafx.application.Platform;
 import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Worker;
 import javafx.event.Event;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Template;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.expense.Expense;
@@ -53,11 +59,30 @@ public class BrowserPanel extends UiPart<Region> {
 
     private static final String FXML = "BrowserPanel.fxml";
 
+    private static final Template EXPENSE_TEMPLATE = loadTemplate(EXPENSES_PAGE_URL);
+    private static final Template DEBT_TEMPLATE = loadTemplate(DEBTS_PAGE_URL);
+    private static final Template BUDGET_TEMPLATE = loadTemplate(BUDGETS_PAGE_URL);
+    private static final Template RECURRING_TEMPLATE = loadTemplate(RECURRINGS_PAGE_URL);
+    private static final Template STATISTICS_TEMPLATE = loadTemplate(STATISTICS_PAGE_URL);
+
+    // Sets the contents of the elements marking each slot to the slot's value in a JSON object of values
+    private static final String PATCH_SCRIPT_PREFIX = "(function (values) {\n"
+            + "    for (var slot in values) {\n"
+            + "        var elements = document.querySelectorAll('[data-slot=\"' + slot + '\"]');\n"
+            + "        for (var i = 0; i < elements.length; i++) {\n"
+            + "            elements[i].innerHTML = values[slot];\n"
+            + "        }\n"
+            + "    }\n"
+            + "})(";
+    private static final String PATCH_SCRIPT_SUFFIX = ");";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
     private WebView browser;
 
+    private Template displayedTemplate; // accessed only on the JavaFX application thread
+
     public BrowserPanel(ObservableValue<Expense> selectedExpense, ObservableValue<Debt> selectedDebt,
                         ObservableValue<Budget> selectedBudget, ObservableValue<Recurring> selectedRecurring,
                         ObservableValue<Statistics> statistics) {
@@ -115,68 +140,90 @@ public class BrowserPanel extends UiPart<Region> {
     }
 
     /**
-     * Runs load page with url that is set based on object
+     * Renders the page template of {@code object} and loads it
      */
     private void loadObjectPage(Object object) {
-        String html = "";
-
         if (object instanceof Budget) {
-
-            BufferedInputStream bis = new BufferedInputStream(convertUrlToInputStream(BUDGETS_PAGE_URL));
-            html = convertInputStreamToString(bis);
-
-            html = html.replace("$category", ((Budget) object).getCategory().toString());
-            html = html.replace("$amount", ((Budget) object).getAmount().toString());
-            html = html.replace("$duration", ((Budget) object).getDuration());
+            Budget budget = (Budget) object;
             DecimalFormat totalSpentFormat = new DecimalFormat("0.00");
-            html = html.replace("$totalspent", ("$" + totalSpentFormat.format((double) ((Budget) object)
-                    .getTotalSpent() / 100)));
-            html = html.replace("$percentage", Double.toString(((Budget) object).getPercentage()));
-            html = html.replace("$remarks", ((Budget) object).getRemarks());
+            showPage(BUDGET_TEMPLATE, Map.of(
+                    "category", budget.getCategory().toString(),
+                    "amount", budget.getAmount().toString(),
+                    "duration", budget.getDuration(),
+                    "totalspent", "$" + totalSpentFormat.format((double) budget.getTotalSpent() / 100),
+                    "percentage", Double.toString(budget.getPercentage()),
+                    "remarks", budget.getRemarks()));
         } else if (object instanceof Recurring) {
-
-            BufferedInputStream bis = new BufferedInputStream(convertUrlToInputStream(RECURRINGS_PAGE_URL));
-
-            html = convertInputStreamToString(bis);
-
-            html = html.replace("$name", ((Recurring) object).getName().name);
-            html = html.replace("$category", ((Recurring) object).getCategory().toString());
-            html = html.replace("$amount", ((Recurring) object).getAmount().toString());
-            html = html.replace("$date", ((Recurring) object).getDate().toString());
-            html = html.replace("$frequency", ((Recurring) object).getFrequency().toString());
-            html = html.replace("$occurrence", ((Recurring) object).getOccurrence().toString());
-            html = html.replace("$remarks", ((Recurring) object).getRemarks());
+            Recurring recurring = (Recurring) object;
+            showPage(RECURRING_TEMPLATE, Map.of(
+                    "name", recurring.getName().name,
+                    "category", recurring.getCategory().toString(),
+                    "amount", recurring.getAmount().toString(),
+                    "date", recurring.getDate().toString(),
+                    "frequency", recurring.getFrequency().toString(),
+                    "occurrence", recurring.getOccurrence().toString(),
+                    "remarks", recurring.getRemarks()));
         } else if (object instanceof Debt) {
-
-            BufferedInputStream bis = new BufferedInputStream(convertUrlToInputStream(DEBTS_PAGE_URL));
-            html = convertInputStreamToString(bis);
-
-            html = html.replace("$personowed", ((Debt) object).getPersonOwed().name);
-            html = html.replace("$category", ((Debt) object).getCategory().toString());
-            html = html.replace("$amount", ((Debt) object).getAmount().toString());
-            html = html.replace("$deadline", ((Debt) object).getDeadline().toString());
-            html = html.replace("$remarks", ((Debt) object).getRemarks());
+            Debt debt = (Debt) object;
+            showPage(DEBT_TEMPLATE, Map.of(
+                    "personowed", debt.getPersonOwed().name,
+                    "category", debt.getCategory().toString(),
+                    "amount", debt.getAmount().toString(),
+                    "deadline", debt.getDeadline().toString(),
+                    "remarks", debt.getRemarks()));
         } else if (object instanceof Expense) {
-
-            BufferedInputStream bis = new BufferedInputStream(convertUrlToInputStream(EXPENSES_PAGE_URL));
-
-            html = convertInputStreamToString(bis);
-
-            html = html.replace("$name", ((Expense) object).getName().name);
-            html = html.replace("$category", ((Expense) object).getCategory().toString());
-            html = html.replace("$amount", ((Expense) object).getAmount().toString());
-            html = html.replace("$date", ((Expense) object).getDate().toString());
-            html = html.replace("$remarks", ((Expense) object).getRemarks());
+            Expense expense = (Expense) object;
+            showPage(EXPENSE_TEMPLATE, Map.of(
+                    "name", expense.getName().name,
+                    "category", expense.getCategory().toString(),
+                    "amount", expense.getAmount().toString(),
+                    "date", expense.getDate().toString(),
+                    "remarks", expense.getRemarks()));
         } else if (object instanceof Statistics) {
+            showPage(STATISTICS_TEMPLATE, Map.of("result", ((Statistics) object).getHtml()));
+        }
+    }
 
-            BufferedInputStream bis = new BufferedInputStream(convertUrlToInputStream(STATISTICS_PAGE_URL));
-
-            html = convertInputStreamToString(bis);
+    /**
+     * Shows {@code template} with its slots filled in with {@code values}.
+     * If the template is already loaded, only the contents of its slots are replaced, so that the page does not
+     * have to be parsed and laid out again.
+     */
+    private void showPage(Template template, Map<String, String> values) {
+        Platform.runLater(() -> {
+            WebEngine engine = browser.getEngine();
+            if (template == displayedTemplate && engine.getLoadWorker().getState() == Worker.State.SUCCEEDED) {
+                String patchScript = createPatchScript(values);
+                if (patchScript != null) {
+                    logger.log(Level.FINE, "Updating item page...");
+                    engine.executeScript(patchScript);
+                    return;
+                }
+            }
 
-            html = html.replace("$result", ((Statistics) object).getHtml());
+            // each slot is marked so that its contents can be found and replaced later
+            Map<String, String> markedValues = new HashMap<>();
+            values.forEach((slot, value) ->
+                    markedValues.put(slot, "<span data-slot=\"" + slot + "\">" + value + "</span>"));
+            logger.log(Level.INFO, "Loading item page...");
+            displayedTemplate = template;
+            engine.loadContent(template.render(markedValues));
+        });
+    }
 
+    /**
+     * Returns a script that replaces the contents of each slot of the displayed page with its value in
+     * {@code values}, or null if the values cannot be converted to JSON.
+     */
+    private String createPatchScript(Map<String, String> values) {
+        try {
+            String json = JsonUtil.toCompactJsonString(values)
+                    .replace("\u2028", "\\u2028").replace("\u2029", "\\u2029");
+            return PATCH_SCRIPT_PREFIX + json + PATCH_SCRIPT_SUFFIX;
+        } catch (JsonProcessingException e) {
+            logger.warning("Unable to convert page values to JSON: " + e);
+            return null;
         }
-        loadPage(html);
     }
 
     /**
@@ -185,44 +232,32 @@ public class BrowserPanel extends UiPart<Region> {
      */
     public void loadPage(String html) {
         logger.log(Level.INFO, "Loading item page...");
-        Platform.runLater(() -> browser.getEngine().loadContent(html));
-    }
-
-    /**
-     * Loads a default HTML file with a background that matches the general theme.
-     */
-    private void loadDefaultPage() {
-        logger.log(Level.INFO, "Loading default page...");
-        Platform.runLater(() -> browser.getEngine().load(DEFAULT_PAGE.toExternalForm()));
+        Platform.runLater(() -> {
+            displayedTemplate = null;
+            browser.getEngine().loadContent(html);
+        });
     }
 
     /**
-     * Converts the content of buffered input stream to string format
+     * Loads the page template at {@code url}, or an empty template if it cannot be read.
      */
-    private String convertInputStreamToString(BufferedInputStream bis) {
-        StringBuilder sb = new StringBuilder();
+    private static Template loadTemplate(URL url) {
         try {
-            byte[] contents = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = bis.read(contents)) != -1) {
-                sb.append(new String(contents, 0, bytesRead));
-            }
-            bis.close();
+            return Template.load(url);
         } catch (IOException e) {
-            e.printStackTrace();
+            LogsCenter.getLogger(BrowserPanel.class).warning("Unable to load page template " + url + ": " + e);
+            return Template.parse("");
         }
-        return sb.toString();
     }
 
     /**
-     * Converts the url to input stream format
+     * Loads a default HTML file with a background that matches the general theme.
      */
-    private InputStream convertUrlToInputStream(URL url) {
-        try {
-            return url.openStream();
-        } catch (IOException e) {
-            System.out.println(e);
-        }
-        return null;
+    private void loadDefaultPage() {
+        logger.log(Level.INFO, "Loading default page...");
+        Platform.runLater(() -> {
+            displayedTemplate = null;
+            browser.getEngine().load(DEFAULT_PAGE.toExternalForm());
+        });
     }
 }
@@ -23,7 +23,7 @@ public class BudgetCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on FinanceTracker level 4</a>
      */
 
-    public final Budget budget;
+    private Budget budget;
 
     @FXML
     private HBox budgetCardPane;
@@ -39,6 +39,13 @@ public class BudgetCard extends UiPart<Region> {
 
     public BudgetCard(Budget budget) {
         super(FXML);
+        setBudget(budget);
+    }
+
+    /**
+     * Rebinds this card to display {@code budget}, so that the card can be reused without loading its FXML again.
+     */
+    public void setBudget(Budget budget) {
         this.budget = budget;
         budgetCategory.setText(budget.getCategory().name());
         budgetAmount.setText("$" + budget.getAmount().toString());
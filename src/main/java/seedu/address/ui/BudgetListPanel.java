@@ -54,8 +54,11 @@ public class BudgetListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Budget} using a {@code BudgetCard}.
+     * The cell loads one card and rebinds it to each item the cell is reused for.
      */
     class BudgetListViewCell extends ListCell<Budget> {
+        private BudgetCard card;
+
         @Override
         protected void updateItem(Budget budget, boolean empty) {
             super.updateItem(budget, empty);
@@ -63,8 +66,12 @@ public class BudgetListPanel extends UiPart<Region> {
             if (empty || budget == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new BudgetCard(budget);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new BudgetCard(budget).getRoot());
+                card.setBudget(budget);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -8,8 +9,6 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -20,15 +19,17 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Runnable commandCanceller;
     private final List<String> history;
     private ListElementPointer historySnapshot;
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+    public CommandBox(CommandExecutor commandExecutor, Runnable commandCanceller, List<String> history) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCanceller = commandCanceller;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
@@ -52,6 +53,9 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            commandCanceller.run();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -97,15 +101,20 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
+        String commandText = commandTextField.getText();
+        commandExecutor.execute(commandText).whenComplete((commandResult, failure) -> {
             initHistory();
+            if (failure != null) {
+                setStyleToIndicateCommandFailure();
+                return;
+            }
+
             historySnapshot.next();
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            setStyleToIndicateCommandFailure();
-        }
+            // leave anything the user has typed while the command was running
+            if (commandTextField.getText().equals(commandText)) {
+                commandTextField.setText("");
+            }
+        });
     }
 
     /**
@@ -144,11 +153,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns its result, which is completed on the JavaFX thread, or completed
+         * exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
     }
 
 }
@@ -21,7 +21,7 @@ public class DebtCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on FinanceTracker level 4</a>
      */
 
-    public final Debt debt;
+    private Debt debt;
 
     @FXML
     private HBox debtCardPane;
@@ -39,6 +39,14 @@ public class DebtCard extends UiPart<Region> {
 
     public DebtCard(Debt debt, int displayedIndex) {
         super(FXML);
+        setDebt(debt, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card to display {@code debt} at {@code displayedIndex}, so that the card can be reused
+     * without loading its FXML again.
+     */
+    public void setDebt(Debt debt, int displayedIndex) {
         this.debt = debt;
         debtId.setText(displayedIndex + ". ");
         debtAmount.setText("$" + debt.getAmount().toString());
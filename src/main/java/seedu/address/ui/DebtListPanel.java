@@ -54,8 +54,11 @@ public class DebtListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Debt} using a {@code DebtCard}.
+     * The cell loads one card and rebinds it to each item the cell is reused for.
      */
     class DebtListViewCell extends ListCell<Debt> {
+        private DebtCard card;
+
         @Override
         protected void updateItem(Debt debt, boolean empty) {
             super.updateItem(debt, empty);
@@ -63,8 +66,12 @@ public class DebtListPanel extends UiPart<Region> {
             if (empty || debt == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new DebtCard(debt, getIndex() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new DebtCard(debt, getIndex() + 1).getRoot());
+                card.setDebt(debt, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -21,7 +21,7 @@ public class ExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on FinanceTracker level 4</a>
      */
 
-    public final Expense expense;
+    private Expense expense;
 
     @FXML
     private HBox expenseCardPane;
@@ -39,6 +39,14 @@ public class ExpenseCard extends UiPart<Region> {
 
     public ExpenseCard(Expense expense, int displayedIndex) {
         super(FXML);
+        setExpense(expense, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card to display {@code expense} at {@code displayedIndex}, so that the card can be reused
+     * without loading its FXML again.
+     */
+    public void setExpense(Expense expense, int displayedIndex) {
         this.expense = expense;
         expenseId.setText(displayedIndex + ". ");
         expenseAmount.setText("$" + expense.getAmount().toString());
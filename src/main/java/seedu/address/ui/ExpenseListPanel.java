@@ -53,8 +53,11 @@ public class ExpenseListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * The cell loads one card and rebinds it to each item the cell is reused for.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        private ExpenseCard card;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -62,8 +65,12 @@ public class ExpenseListPanel extends UiPart<Region> {
             if (empty || expense == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new ExpenseCard(expense, getIndex() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new ExpenseCard(expense, getIndex() + 1).getRoot());
+                card.setExpense(expense, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -13,9 +14,8 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -149,10 +149,14 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter =
-                new StatusBarFooter(logic.getFinanceTrackerFilePath(), logic.getFinanceTracker());
+                new StatusBarFooter(logic.getFinanceTrackerFilePath(), logic.getFinanceTracker(),
+                        logic.undoHistorySizeInMemoryProperty(), logic.savingProperty(),
+                        logic.commandRunningProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.saveFailureProperty().addListener((observable, oldFailure, newFailure) ->
+                resultDisplay.setFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + newFailure));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::cancelCommand, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
     }
@@ -198,13 +202,18 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns the result, which is shown once the command finishes.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeInBackground(commandText).whenComplete((commandResult, failure) -> {
+            if (failure != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -215,12 +224,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
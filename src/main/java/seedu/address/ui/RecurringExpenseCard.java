@@ -21,7 +21,7 @@ public class RecurringExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on FinanceTracker level 4</a>
      */
 
-    public final Recurring recurringExpense;
+    private Recurring recurringExpense;
 
     @FXML
     private HBox recurringExpenseCardPane;
@@ -39,6 +39,14 @@ public class RecurringExpenseCard extends UiPart<Region> {
 
     public RecurringExpenseCard(Recurring recurringExpense, int displayedIndex) {
         super(FXML);
+        setRecurringExpense(recurringExpense, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card to display {@code recurringExpense} at {@code displayedIndex}, so that the card can be
+     * reused without loading its FXML again.
+     */
+    public void setRecurringExpense(Recurring recurringExpense, int displayedIndex) {
         this.recurringExpense = recurringExpense;
         recurringExpenseId.setText(displayedIndex + ". ");
         recurringExpenseAmount.setText("$" + recurringExpense.getAmount().toString());
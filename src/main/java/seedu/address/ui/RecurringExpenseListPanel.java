@@ -60,8 +60,11 @@ public class RecurringExpenseListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Recurring} using a
      * {@code RecurringExpenseListCard}.
+     * The cell loads one card and rebinds it to each item the cell is reused for.
      */
     class RecurringExpenseListViewCell extends ListCell<Recurring> {
+        private RecurringExpenseCard card;
+
         @Override
         protected void updateItem(Recurring recurring, boolean empty) {
             super.updateItem(recurring, empty);
@@ -69,8 +72,12 @@ public class RecurringExpenseListPanel extends UiPart<Region> {
             if (empty || recurring == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new RecurringExpenseCard(recurring, getIndex() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new RecurringExpenseCard(recurring, getIndex() + 1).getRoot());
+                card.setRecurringExpense(recurring, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
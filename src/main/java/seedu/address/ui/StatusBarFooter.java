@@ -5,6 +5,9 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -17,6 +20,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVING = "Saving...";
+    public static final String SYNC_STATUS_RUNNING = "Running command... (press Esc to cancel)";
+    public static final String UNDO_HISTORY_STATUS = "Undo history in memory: %d";
 
     /**
      * Used to generate time stamps.
@@ -33,12 +39,25 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label syncStatus;
     @FXML
+    private Label undoHistoryStatus;
+    @FXML
     private Label saveLocationStatus;
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyFinanceTracker financeTracker) {
+    private final ReadOnlyBooleanProperty saving;
+    private final ReadOnlyBooleanProperty commandRunning;
+    private String lastSyncStatus = SYNC_STATUS_INITIAL;
+
+    public StatusBarFooter(Path saveLocation, ReadOnlyFinanceTracker financeTracker,
+                           ReadOnlyIntegerProperty undoHistorySizeInMemory, ReadOnlyBooleanProperty saving,
+                           ReadOnlyBooleanProperty commandRunning) {
         super(FXML);
+        this.saving = saving;
+        this.commandRunning = commandRunning;
         financeTracker.addListener(observable -> updateSyncStatus());
-        syncStatus.setText(SYNC_STATUS_INITIAL);
+        saving.addListener((observable, wasSaving, isSaving) -> showSyncStatus());
+        commandRunning.addListener((observable, wasRunning, isRunning) -> showSyncStatus());
+        showSyncStatus();
+        undoHistoryStatus.textProperty().bind(Bindings.format(UNDO_HISTORY_STATUS, undoHistorySizeInMemory));
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
@@ -62,7 +81,20 @@ public class StatusBarFooter extends UiPart<Region> {
     private void updateSyncStatus() {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+        lastSyncStatus = String.format(SYNC_STATUS_UPDATED, lastUpdated);
+        showSyncStatus();
+    }
+
+    /**
+     * Shows that a command is running while there is one, that changes are being saved while there are any, and
+     * the "last updated" status otherwise.
+     */
+    private void showSyncStatus() {
+        if (commandRunning.get()) {
+            syncStatus.setText(SYNC_STATUS_RUNNING);
+        } else {
+            syncStatus.setText(saving.get() ? SYNC_STATUS_SAVING : lastSyncStatus);
+        }
     }
 
 }
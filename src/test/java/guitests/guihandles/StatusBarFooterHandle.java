@@ -10,9 +10,11 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
     public static final String STATUS_BAR_PLACEHOLDER = "#statusbarPlaceholder";
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
+    private static final String UNDO_HISTORY_STATUS_ID = "#undoHistoryStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
 
     private final Labeled syncStatusNode;
+    private final Labeled undoHistoryStatusNode;
     private final Labeled saveLocationNode;
 
     private String lastRememberedSyncStatus;
@@ -22,6 +24,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         super(statusBarFooterNode);
 
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
+        undoHistoryStatusNode = getChildNode(UNDO_HISTORY_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
     }
 
@@ -32,6 +35,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return syncStatusNode.getText();
     }
 
+    /**
+     * Returns the text of the undo history portion of the status bar.
+     */
+    public String getUndoHistoryStatus() {
+        return undoHistoryStatusNode.getText();
+    }
+
     /**
      * Returns the text of the 'save location' portion of the status bar.
      */
@@ -55,6 +55,7 @@ public class TestApp extends MainApp {
     protected Config initConfig(Path configFilePath) {
         Config config = super.initConfig(configFilePath);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        config.setGroupCommitIntervalMillis(0);
         return config;
     }
 
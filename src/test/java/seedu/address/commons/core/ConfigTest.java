@@ -15,7 +15,14 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo states kept in memory : 100\n"
+                + "Undo elements kept in memory : 100000\n"
+                + "Durability mode : GROUP_COMMIT\n"
+                + "Group commit interval (ms) : 500\n"
+                + "Snapshot format : JSON\n"
+                + "Expense store : HEAP\n"
+                + "Recent months of expenses loaded : 3";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -109,6 +109,9 @@ public class ConfigUtilTest {
 
         //Try saving when the file exists
         original.setLogLevel(Level.FINE);
+        original.setDurabilityMode(Config.DurabilityMode.ON_EXIT);
+        original.setSnapshotFormat(Config.SnapshotFormat.BINARY);
+        original.setExpenseStore(Config.ExpenseStore.MAPPED);
         ConfigUtil.saveConfig(original, configFilePath);
         readBack = ConfigUtil.readConfig(configFilePath).get();
         assertEquals(original, readBack);
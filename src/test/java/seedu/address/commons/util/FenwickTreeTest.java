@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FenwickTreeTest {
+
+    private final FenwickTree tree = new FenwickTree();
+
+    @Test
+    public void sum_emptyTree_returnsZero() {
+        assertEquals(0, tree.sum(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, tree.sum(0, 0));
+    }
+
+    @Test
+    public void sum_rangeReversed_returnsZero() {
+        tree.add(5, 10);
+        assertEquals(0, tree.sum(6, 4));
+    }
+
+    @Test
+    public void sum_keysAddedInBothDirections_returnsSumOfRange() {
+        tree.add(18000, 350);
+        tree.add(18000, 50);
+        tree.add(17000, 100); // grows the covered range downwards
+        tree.add(19000, -20); // grows the covered range upwards
+
+        assertEquals(400, tree.sum(18000, 18000));
+        assertEquals(500, tree.sum(17000, 18000));
+        assertEquals(480, tree.sum(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(380, tree.sum(17001, 19000));
+        assertEquals(0, tree.sum(18001, 18999));
+        assertEquals(0, tree.sum(20000, 30000));
+    }
+
+    @Test
+    public void sum_randomAdditions_matchesNaiveSums() {
+        Random random = new Random(1);
+        long[] naive = new long[1000];
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(naive.length);
+            long delta = random.nextInt(2001) - 1000;
+            naive[key] += delta;
+            tree.add(key - 500, delta);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            int from = random.nextInt(naive.length);
+            int to = from + random.nextInt(naive.length - from);
+            long expected = 0;
+            for (int key = from; key <= to; key++) {
+                expected += naive[key];
+            }
+            assertEquals(expected, tree.sum(from - 500, to - 500));
+        }
+    }
+}
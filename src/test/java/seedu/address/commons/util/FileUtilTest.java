@@ -1,14 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +31,24 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplacedAndNoTemporaryFileLeft() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void writeToFile_targetIsDirectory_throwsAndNoTemporaryFileLeft() throws Exception {
+        Path directory = testFolder.newFolder("data.json").toPath();
+        Files.createFile(directory.resolve("entry"));
+
+        Assert.assertThrows(FileSystemException.class, () ->
+                FileUtil.writeToFile(directory, "content"));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
 }
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class HashIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("apple", "avocado");
+    private final HashIndex<String> index = new HashIndex<>(list, string -> string.charAt(0));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new HashIndex<String>(list, null);
+    }
+
+    @Test
+    public void constructor_existingElements_indexed() {
+        assertEquals(2, index.countKeyOf("a"));
+        assertFalse(index.containsKeyOf("b"));
+    }
+
+    @Test
+    public void listChanged_elementsAddedAndRemoved_countsUpdated() {
+        list.add("banana");
+        assertTrue(index.containsKeyOf("blueberry"));
+
+        list.remove("apple");
+        assertEquals(1, index.countKeyOf("a"));
+
+        list.set(0, "cherry");
+        assertFalse(index.containsKeyOf("a"));
+        assertTrue(index.containsKeyOf("c"));
+
+        list.setAll(Arrays.asList("date", "durian"));
+        assertEquals(2, index.countKeyOf("d"));
+        assertFalse(index.containsKeyOf("b"));
+
+        list.clear();
+        assertFalse(index.containsKeyOf("d"));
+    }
+
+    @Test
+    public void listChanged_elementsPermutated_countsUnchanged() {
+        list.add("banana");
+        FXCollections.sort(list, (first, second) -> second.compareTo(first));
+        assertEquals(2, index.countKeyOf("a"));
+        assertEquals(1, index.countKeyOf("b"));
+    }
+}
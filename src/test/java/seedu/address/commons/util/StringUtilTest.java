@@ -6,6 +6,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -137,6 +139,46 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.containsAnyWordIgnoreCase(null, Arrays.asList("abc"));
+    }
+
+    /*
+     * The words are matched as in containsWordIgnoreCase, so the same partitions of sentences are tested, with
+     * sentences separated by other whitespace characters, and with no words or several words to match.
+     */
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_correctResult() {
+
+        // No words to match
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb", Collections.emptyList()));
+
+        // Empty sentence
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("", Arrays.asList("abc"))); // Boundary case
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("    ", Arrays.asList("123")));
+
+        // Matches a partial word only
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", Arrays.asList("bb", "bbbb", "aaa bbb")));
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc", Arrays.asList("Bbb"))); // Middle word
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc@1", Arrays.asList("CCc@1"))); // Last word
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("  AAA   bBb   ccc  ", Arrays.asList("aaa"))); // Extra spaces
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa\tbbb\nccc\u000Bddd\feee\rfff",
+                Arrays.asList("ddd"))); // Other whitespace
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("Aaa", Arrays.asList("aaa"))); // Only one word in sentence
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", Arrays.asList("  ccc  "))); // Padded word
+
+        // Matches any of several words
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", Arrays.asList("ddd", "bbB")));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", Arrays.asList("ddd", "eee")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
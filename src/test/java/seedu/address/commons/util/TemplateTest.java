@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.MainApp;
+import seedu.address.testutil.Assert;
+
+public class TemplateTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> Template.parse(null));
+    }
+
+    @Test
+    public void render_noSlots_textUnchanged() {
+        assertEquals("", Template.parse("").render(Collections.emptyMap()));
+        assertEquals("<p>Costs $ 5, or 10$</p>",
+                Template.parse("<p>Costs $ 5, or 10$</p>").render(Map.of("5", "five")));
+    }
+
+    @Test
+    public void render_slotsWithValues_slotsReplaced() {
+        Template template = Template.parse("$name: <b>$amount</b>$amount$remarks");
+        assertEquals("Duck Rice: <b>3.50</b>3.50",
+                template.render(Map.of("name", "Duck Rice", "amount", "3.50", "remarks", "")));
+    }
+
+    @Test
+    public void render_valueContainsSlot_valueNotReplacedAgain() {
+        Template template = Template.parse("$name ($remarks)");
+        assertEquals("$remarks (cheap)", template.render(Map.of("name", "$remarks", "remarks", "cheap")));
+    }
+
+    @Test
+    public void render_slotWithoutValue_slotKept() {
+        assertEquals("<td>$missing</td>", Template.parse("<td>$missing</td>").render(Collections.emptyMap()));
+    }
+
+    @Test
+    public void renderTo_appendsToBuilder() {
+        StringBuilder builder = new StringBuilder("<html>");
+        Template.parse("$result</html>").renderTo(builder, Map.of("result", "<table></table>"));
+        assertEquals("<html><table></table></html>", builder.toString());
+    }
+
+    @Test
+    public void load_pageTemplate_slotsReplaced() throws Exception {
+        Template template = Template.load(MainApp.class.getResource("/view/statistics.html"));
+        String page = template.render(Map.of("result", "<table></table>"));
+        assertTrue(page.contains("<table></table>"));
+        assertFalse(page.contains("$result"));
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenses.CHICKEN_RICE;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandCancelledException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.expense.Expense;
+
+public class BackgroundModelTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Model model = new ModelManager();
+    private int batchCount;
+    private final BackgroundModel backgroundModel = new BackgroundModel(model, task -> {
+        batchCount++;
+        task.run();
+    });
+
+    @Test
+    public void flush_severalChanges_madeInOneBatch() {
+        backgroundModel.addExpense(DUCK_RICE);
+        backgroundModel.addExpense(CHICKEN_RICE);
+        assertFalse(model.hasExpense(DUCK_RICE));
+        assertEquals(0, batchCount);
+
+        backgroundModel.flush();
+        assertTrue(model.hasExpense(DUCK_RICE));
+        assertTrue(model.hasExpense(CHICKEN_RICE));
+        assertEquals(1, batchCount);
+    }
+
+    @Test
+    public void hasExpense_afterChange_changeMadeFirst() {
+        backgroundModel.addExpense(DUCK_RICE);
+        assertTrue(backgroundModel.hasExpense(DUCK_RICE));
+        assertEquals(1, batchCount);
+
+        // nothing left to make
+        assertTrue(backgroundModel.hasExpense(DUCK_RICE));
+        assertEquals(1, batchCount);
+    }
+
+    @Test
+    public void getFilteredExpenseList_changedAfterwards_changesMadeWhenListRead() {
+        List<Expense> expenses = backgroundModel.getFilteredExpenseList();
+        backgroundModel.addExpense(DUCK_RICE);
+        assertEquals(1, expenses.size());
+        assertEquals(DUCK_RICE, expenses.get(0));
+    }
+
+    @Test
+    public void flush_cancelled_changesDropped() {
+        backgroundModel.addExpense(DUCK_RICE);
+        backgroundModel.cancel();
+        try {
+            backgroundModel.flush();
+            throw new AssertionError("The flush should be cancelled.");
+        } catch (CommandCancelledException cce) {
+            assertFalse(model.hasExpense(DUCK_RICE));
+            assertEquals(0, batchCount);
+        }
+
+        thrown.expect(CommandCancelledException.class);
+        backgroundModel.addExpense(CHICKEN_RICE);
+    }
+
+    @Test
+    public void discardChanges_afterChangesMade_changesDiscarded() {
+        backgroundModel.addExpense(DUCK_RICE);
+        backgroundModel.flush();
+        backgroundModel.addExpense(CHICKEN_RICE);
+        backgroundModel.cancel();
+
+        backgroundModel.discardChanges();
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void run_cancelledBeforeRun_commandStoppedAndInterruptCleared() throws Exception {
+        backgroundModel.cancel();
+        try {
+            backgroundModel.run(new AddCommandStub(), new CommandHistory());
+            throw new AssertionError("The command should be cancelled.");
+        } catch (CommandCancelledException cce) {
+            assertFalse(Thread.currentThread().isInterrupted());
+            assertFalse(model.hasExpense(DUCK_RICE));
+        }
+    }
+
+    @Test
+    public void run_command_changesMade() throws Exception {
+        backgroundModel.run(new AddCommandStub(), new CommandHistory());
+        assertTrue(model.hasExpense(DUCK_RICE));
+        assertEquals(1, batchCount);
+    }
+
+    /**
+     * A command that adds {@code DUCK_RICE}, stopping first if it has been cancelled.
+     */
+    private static class AddCommandStub extends Command {
+        @Override
+        public CommandResult execute(Model model, CommandHistory history) {
+            checkNotCancelled();
+            model.addExpense(DUCK_RICE);
+            return new CommandResult("");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Config.DurabilityMode;
+import seedu.address.testutil.Assert;
+
+public class BackgroundSaverTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final List<Runnable> scheduledCommits = new ArrayList<>();
+    private final BackgroundSaver saver = createSaver(DurabilityMode.SYNC);
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> saver.submit(null));
+    }
+
+    @Test
+    public void submit_severalSaves_writtenInOrderAndSavingUntilAllWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        saver.submit(() -> {
+            firstSaveStarted.countDown();
+            awaitUninterruptibly(firstSaveReleased);
+            written.add(1);
+        });
+        saver.submit(() -> written.add(2));
+        firstSaveStarted.await();
+        assertTrue(saver.savingProperty().get());
+
+        firstSaveReleased.countDown();
+        assertTrue(saver.shutdown(TIMEOUT_MILLIS));
+        assertEquals(Arrays.asList(1, 2), written);
+        assertFalse(saver.savingProperty().get());
+        assertNull(saver.saveFailureProperty().get());
+    }
+
+    @Test
+    public void submit_saveFails_failureReportedAndLaterSavesWritten() throws Exception {
+        IOException failure = new IOException("disk full");
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        saver.submit(() -> {
+            throw failure;
+        });
+        saver.submit(() -> written.add(2));
+        assertTrue(saver.shutdown(TIMEOUT_MILLIS));
+
+        assertSame(failure, saver.saveFailureProperty().get());
+        assertEquals(Collections.singletonList(2), written);
+        assertFalse(saver.savingProperty().get());
+    }
+
+    @Test
+    public void requestSave_groupCommit_requestsWithinIntervalWrittenAsOneSave() throws Exception {
+        BackgroundSaver groupCommitSaver = createSaver(DurabilityMode.GROUP_COMMIT);
+        AtomicInteger preparedCount = new AtomicInteger();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 1; i <= 3; i++) {
+            int saveNumber = i;
+            groupCommitSaver.requestSave(() -> {
+                preparedCount.incrementAndGet();
+                return () -> written.add(saveNumber);
+            });
+        }
+        assertEquals(1, scheduledCommits.size());
+        assertEquals(0, preparedCount.get());
+        assertTrue(groupCommitSaver.savingProperty().get());
+
+        scheduledCommits.get(0).run();
+        assertTrue(groupCommitSaver.shutdown(TIMEOUT_MILLIS));
+        assertEquals(1, preparedCount.get());
+        assertEquals(Collections.singletonList(3), written);
+        assertFalse(groupCommitSaver.savingProperty().get());
+    }
+
+    @Test
+    public void requestSave_onExit_writtenOnlyOnShutdown() throws Exception {
+        BackgroundSaver onExitSaver = createSaver(DurabilityMode.ON_EXIT);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        onExitSaver.requestSave(() -> () -> written.add(1));
+        onExitSaver.requestSave(() -> () -> written.add(2));
+        assertTrue(scheduledCommits.isEmpty());
+        assertTrue(written.isEmpty());
+        assertFalse(onExitSaver.savingProperty().get());
+
+        assertTrue(onExitSaver.shutdown(TIMEOUT_MILLIS));
+        assertEquals(Collections.singletonList(2), written);
+    }
+
+    @Test
+    public void requestSave_sync_eachRequestWritten() throws Exception {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        saver.requestSave(() -> () -> written.add(1));
+        saver.requestSave(() -> () -> written.add(2));
+        assertTrue(saver.shutdown(TIMEOUT_MILLIS));
+        assertEquals(Arrays.asList(1, 2), written);
+    }
+
+    /**
+     * Returns a saver in {@code durabilityMode} that writes on its own thread, reports results on the thread that
+     * runs them, and adds the group commits it schedules to {@code scheduledCommits} to be run by the test.
+     */
+    private BackgroundSaver createSaver(DurabilityMode durabilityMode) {
+        return new BackgroundSaver(Executors.newSingleThreadExecutor(), Runnable::run, scheduledCommits::add,
+                durabilityMode);
+    }
+
+    /**
+     * Waits for {@code latch} to count down, ignoring interrupts.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean isWaiting = true;
+        while (isWaiting) {
+            try {
+                latch.await();
+                isWaiting = false;
+            } catch (InterruptedException ie) {
+                // keep waiting
+            }
+        }
+    }
+}
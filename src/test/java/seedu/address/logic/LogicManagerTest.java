@@ -1,17 +1,25 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_EXPENSE_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.AMOUNT_DESC_EXPENSE;
 import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_EXPENSE;
 import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_EXPENSE;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_EXPENSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VIEW;
 import static seedu.address.testutil.TypicalExpenses.EXPENSE;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,18 +27,24 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.Config.DurabilityMode;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.expensecommands.AddExpenseCommand;
 import seedu.address.logic.commands.expensecommands.ListExpenseCommand;
 import seedu.address.logic.commands.generalcommands.HistoryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.FinanceTracker;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.attributes.View;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
+import seedu.address.model.expense.ExpenseRecordList;
+import seedu.address.model.expense.exceptions.ExpenseStoreFullException;
+import seedu.address.storage.FileStateChangeStore;
 import seedu.address.storage.JsonFinanceTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -47,6 +61,7 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @Before
@@ -54,7 +69,7 @@ public class LogicManagerTest {
         JsonFinanceTrackerStorage addressBookStorage =
                 new JsonFinanceTrackerStorage(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -98,6 +113,100 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_backgroundStorageThrowsIoException_failureReported() throws Exception {
+        JsonFinanceTrackerStorage addressBookStorage =
+                new JsonFinanceTrackerIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        BackgroundSaver saver = new BackgroundSaver(Runnable::run, DurabilityMode.ON_EXIT, 0);
+        logic = new LogicManager(model, storage, saver);
+
+        // the command succeeds, and the save fails when it is written on shutdown
+        String addCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_EXPENSE + AMOUNT_DESC_EXPENSE
+                + CATEGORY_DESC_EXPENSE + DATE_DESC_EXPENSE;
+        logic.execute(addCommand);
+        assertTrue(saver.shutdown(5000));
+        assertSame(DUMMY_IO_EXCEPTION, logic.saveFailureProperty().get());
+        assertFalse(logic.savingProperty().get());
+    }
+
+    @Test
+    public void execute_expenseStoreFull_throwsCommandExceptionAndChangesDiscarded() throws Exception {
+        model = new ModelManager(new FinanceTracker(), new UserPrefs(), new ExpenseList(new ExpenseRecordListStub(1)),
+                new FileStateChangeStore(temporaryFolder.getRoot().toPath().resolve("history")), Integer.MAX_VALUE,
+                Long.MAX_VALUE);
+        setUp();
+
+        String addCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_EXPENSE + AMOUNT_DESC_EXPENSE
+                + CATEGORY_DESC_EXPENSE + DATE_DESC_EXPENSE;
+        logic.execute(addCommand);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addExpense(new ExpenseBuilder(EXPENSE).withRemarks("").build());
+        expectedModel.commitFinanceTracker();
+
+        String secondAddCommand = AddExpenseCommand.COMMAND_WORD + " " + PREFIX_NAME + "Lunch" + AMOUNT_DESC_EXPENSE
+                + CATEGORY_DESC_EXPENSE + DATE_DESC_EXPENSE;
+        assertCommandBehavior(CommandException.class, secondAddCommand, LogicManager.EXPENSE_STORE_FULL_ERROR_MESSAGE,
+                expectedModel);
+        assertHistoryCorrect(addCommand);
+    }
+
+    @Test
+    public void executeInBackground_validCommand_success() throws Exception {
+        List<Runnable> commandTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, null, commandTasks::add, Runnable::run);
+
+        String addCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_EXPENSE + AMOUNT_DESC_EXPENSE
+                + CATEGORY_DESC_EXPENSE + DATE_DESC_EXPENSE;
+        Expense expectedExpense = new ExpenseBuilder(EXPENSE).withRemarks("").build();
+        CompletableFuture<CommandResult> result = logic.executeInBackground(addCommand);
+        assertFalse(result.isDone());
+        assertTrue(logic.commandRunningProperty().get());
+
+        commandTasks.remove(0).run();
+        assertEquals(String.format(AddExpenseCommand.MESSAGE_SUCCESS, expectedExpense),
+                result.get().getFeedbackToUser());
+        assertFalse(logic.commandRunningProperty().get());
+        assertTrue(model.hasExpense(expectedExpense));
+        assertHistoryCorrect(addCommand);
+    }
+
+    @Test
+    public void executeInBackground_commandRunning_fails() throws Exception {
+        List<Runnable> commandTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, null, commandTasks::add, Runnable::run);
+
+        String listCommand = ListExpenseCommand.COMMAND_WORD + " " + PREFIX_VIEW + View.ALL;
+        CompletableFuture<CommandResult> result = logic.executeInBackground(listCommand);
+        assertBackgroundFailure(logic.executeInBackground(listCommand), LogicManager.COMMAND_RUNNING_ERROR_MESSAGE);
+        assertEquals(1, commandTasks.size());
+
+        // another command can run once the first one finishes
+        commandTasks.remove(0).run();
+        assertEquals(String.format(ListExpenseCommand.MESSAGE_SUCCESS, View.ALL), result.get().getFeedbackToUser());
+        logic.executeInBackground(listCommand);
+        assertEquals(1, commandTasks.size());
+    }
+
+    @Test
+    public void executeInBackground_cancelled_changesDiscarded() throws Exception {
+        List<Runnable> commandTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, null, commandTasks::add, Runnable::run);
+
+        String addCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_EXPENSE + AMOUNT_DESC_EXPENSE
+                + CATEGORY_DESC_EXPENSE + DATE_DESC_EXPENSE;
+        CompletableFuture<CommandResult> result = logic.executeInBackground(addCommand);
+        logic.cancelCommand();
+        commandTasks.remove(0).run();
+
+        assertBackgroundFailure(result, LogicManager.COMMAND_CANCELLED_MESSAGE);
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertFalse(logic.commandRunningProperty().get());
+        assertEquals(new ModelManager(), model);
+        assertTrue(logic.getHistory().isEmpty());
+    }
+
     @Test
     public void getFilteredExpenseList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -159,6 +268,20 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Asserts that {@code result} has failed with a {@code CommandException} with {@code expectedMessage}.
+     */
+    private void assertBackgroundFailure(CompletableFuture<CommandResult> result, String expectedMessage)
+            throws InterruptedException {
+        try {
+            result.get();
+            throw new AssertionError("The command should fail.");
+        } catch (ExecutionException ee) {
+            assertEquals(CommandException.class, ee.getCause().getClass());
+            assertEquals(expectedMessage, ee.getCause().getMessage());
+        }
+    }
+
     /**
      * Asserts that the result display shows all the {@code expectedCommands} upon the execution of
      * {@code HistoryCommand}.
@@ -174,6 +297,45 @@ public class LogicManagerTest {
         }
     }
 
+    /**
+     * A stub of a list of expense records that has room for a limited number of expenses.
+     */
+    private static class ExpenseRecordListStub extends ArrayList<Expense> implements ExpenseRecordList {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private ExpenseRecordListStub(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void add(int index, Expense element) {
+            if (size() == capacity) {
+                throw new ExpenseStoreFullException();
+            }
+            super.add(index, element);
+        }
+
+        @Override
+        public int getCents(int index) {
+            return get(index).getAmount().value;
+        }
+
+        @Override
+        public long getEpochDay(int index) {
+            return get(index).getDate().getLocalDate().toEpochDay();
+        }
+
+        @Override
+        public void scan(int from, int to, RecordVisitor visitor) {
+            for (Expense expense : subList(from, to)) {
+                visitor.visit(expense.getAmount().value, expense.getDate().getLocalDate().toEpochDay(),
+                        expense.getCategory());
+            }
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
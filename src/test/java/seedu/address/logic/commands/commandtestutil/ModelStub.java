@@ -1,11 +1,14 @@
 package seedu.address.logic.commands.commandtestutil;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.FinanceTrackerBatch;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -61,6 +64,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void batch(Consumer<FinanceTrackerBatch> changes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //==========Expense-related===========================================================================
 
     @Override
@@ -83,6 +91,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void loadExpensesFrom(Date date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void loadAllExpenses() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Expense> getFilteredExpenseList() {
         throw new AssertionError("This method should not be called.");
@@ -216,6 +234,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void discardFinanceTrackerChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyProperty<Expense> selectedExpenseProperty() {
         throw new AssertionError("This method should not be called.");
@@ -290,4 +318,9 @@ public class ModelStub implements Model {
     public void calculateStatistics(String command, Date date1, Date date2, Frequency frequency) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public Statistics computeStatistics(String command, Date date1, Date date2, Frequency frequency) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
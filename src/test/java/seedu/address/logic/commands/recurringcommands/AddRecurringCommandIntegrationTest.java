@@ -27,7 +27,7 @@ public class AddRecurringCommandIntegrationTest {
 
     @Test
     public void execute_newPerson_success() {
-        Recurring validRecurring = new RecurringBuilder().build();
+        Recurring validRecurring = new RecurringBuilder().withName("Gym Membership").build();
 
         Model expectedModel = new ModelManager(model.getFinanceTracker(), new UserPrefs());
         expectedModel.addRecurring(validRecurring);
@@ -8,12 +8,14 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 
@@ -21,6 +23,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.FinanceTracker;
+import seedu.address.model.FinanceTrackerBatch;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyFinanceTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -105,6 +108,11 @@ public class AddRecurringCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics computeStatistics(String command, Date date1, Date date2, Frequency frequency) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -145,6 +153,11 @@ public class AddRecurringCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<FinanceTrackerBatch> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //==========Expense-related===========================================================================
 
         @Override
@@ -167,6 +180,16 @@ public class AddRecurringCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadExpensesFrom(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllExpenses() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Expense> getFilteredExpenseList() {
             throw new AssertionError("This method should not be called.");
@@ -300,6 +323,16 @@ public class AddRecurringCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void discardFinanceTrackerChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyIntegerProperty undoHistorySizeInMemoryProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Expense> selectedExpenseProperty() {
             throw new AssertionError("This method should not be called.");
@@ -1,10 +1,15 @@
 package seedu.address.logic.commands.recurringcommands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.generalcommands.RedoCommand;
+import seedu.address.logic.commands.generalcommands.UndoCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -48,6 +53,7 @@ public class ConvertRecurringToExpenseCommandTest {
         for (int i = 0; i < 3; i++) {
             expectedModel.addExpense(recurringToAdd.getRecurringListOfExpenses().get(i));
         }
+        expectedModel.setRecurring(recurringToAdd, new Recurring(recurringToAdd));
         expectedModel.commitFinanceTracker();
 
         assertCommandSuccess(convertRecurringToExpenseCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -65,6 +71,7 @@ public class ConvertRecurringToExpenseCommandTest {
 
         ModelManager expectedModel = new ModelManager(model.getFinanceTracker(), new UserPrefs());
         expectedModel.addExpense(anotherRecurringToAdd.getRecurringListOfExpenses().get(0));
+        expectedModel.setRecurring(anotherRecurringToAdd, new Recurring(anotherRecurringToAdd));
         expectedModel.commitFinanceTracker();
 
         assertCommandSuccess(convertRecurringToExpenseCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -91,8 +98,42 @@ public class ConvertRecurringToExpenseCommandTest {
             expectedModel.addExpense(recurringToAdd.getRecurringListOfExpenses().get(i));
         }
         expectedModel.addExpense(anotherRecurringToAdd.getRecurringListOfExpenses().get(0));
+        expectedModel.setRecurring(recurringToAdd, new Recurring(recurringToAdd));
+        expectedModel.setRecurring(anotherRecurringToAdd, new Recurring(anotherRecurringToAdd));
         expectedModel.commitFinanceTracker();
 
         assertCommandSuccess(convertRecurringToExpenseCommand, model, commandHistory, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void executeUndoRedo_validRecurringUnfilteredList_success() throws Exception {
+        Recurring recurringToAdd = new RecurringBuilder().withName("2017").withAmount("1")
+                .withDate("01-01-2017").withCategory("food").withFrequency("Y").withOccurrence("24").build();
+        model.addRecurring(recurringToAdd);
+        model.commitFinanceTracker();
+        LocalDate lastConvertedDate = recurringToAdd.getLastConvertedDate();
+
+        // convert -> outstanding expenses added and recurring converted up to today
+        new ConvertRecurringToExpenseCommand().execute(model, commandHistory);
+        int convertedCount = model.getFinanceTracker().getExpenseList().size();
+        assertEquals(recurringToAdd.getOccurrencesBetween(lastConvertedDate, LocalDate.now()).size(), convertedCount);
+        assertEquals(LocalDate.now(), model.getFinanceTracker().getRecurringList().get(0).getLastConvertedDate());
+
+        // undo -> expenses removed and the recurring converted only up to its previous date
+        new UndoCommand().execute(model, commandHistory);
+        assertEquals(0, model.getFinanceTracker().getExpenseList().size());
+        assertEquals(lastConvertedDate, model.getFinanceTracker().getRecurringList().get(0).getLastConvertedDate());
+
+        // redo -> same expenses added again and recurring converted up to today
+        new RedoCommand().execute(model, commandHistory);
+        assertEquals(convertedCount, model.getFinanceTracker().getExpenseList().size());
+        assertEquals(LocalDate.now(), model.getFinanceTracker().getRecurringList().get(0).getLastConvertedDate());
+
+        // undo, then convert again -> the same expenses are added again
+        new UndoCommand().execute(model, commandHistory);
+        String expectedMessage = ConvertRecurringToExpenseCommand.MESSAGE_CONVERT_RECURRING_SUCCESS + convertedCount
+                + ".";
+        assertEquals(expectedMessage,
+                new ConvertRecurringToExpenseCommand().execute(model, commandHistory).getFeedbackToUser());
+    }
 }
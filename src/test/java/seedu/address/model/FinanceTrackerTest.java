@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_DEBT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_EXPENSE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_RECURRING;
@@ -13,11 +14,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARKS_RECURRI
 import static seedu.address.testutil.TypicalBudgets.FOOD_BUDGET;
 import static seedu.address.testutil.TypicalDebts.AMY;
 import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.JAPAN;
+import static seedu.address.testutil.TypicalExpenses.LAPTOP;
+import static seedu.address.testutil.TypicalExpenses.TV;
+import static seedu.address.testutil.TypicalExpenses.getTypicalExpenses;
 import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
 import static seedu.address.testutil.TypicalRecurrings.PHONE_BILL;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -26,13 +36,21 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.budget.Budget;
+import seedu.address.model.budget.OverlappingBudgetException;
 import seedu.address.model.debt.Debt;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
+import seedu.address.model.expense.exceptions.ExpenseArchiveUnreadableException;
 import seedu.address.model.recurring.Recurring;
+import seedu.address.model.recurring.exceptions.DuplicateRecurringException;
+import seedu.address.model.statistics.SpendingRollup;
 import seedu.address.testutil.BudgetBuilder;
 import seedu.address.testutil.DebtBuilder;
+import seedu.address.testutil.ExpenseArchiveStub;
 import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.testutil.RecurringBuilder;
 
@@ -64,6 +82,146 @@ public class FinanceTrackerTest {
         assertEquals(newData, financeTracker);
     }
 
+    @Test
+    public void resetData_withValidReadOnlyFinanceTracker_listenersNotifiedOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.addListener(observable -> counter.set(counter.get() + 1));
+        financeTracker.resetData(getTypicalFinanceTracker());
+        assertEquals(1, counter.get());
+    }
+
+    //// bulk add tests ====================================================================================
+
+    @Test
+    public void addExpenses_validExpenses_sameAsAddingIndividually() {
+        FinanceTracker expectedFinanceTracker = new FinanceTracker();
+        for (Expense expense : getTypicalExpenses()) {
+            expectedFinanceTracker.addExpense(expense);
+        }
+        financeTracker.addExpenses(getTypicalExpenses());
+        assertEquals(expectedFinanceTracker.getExpenseList(), financeTracker.getExpenseList());
+    }
+
+    @Test
+    public void addExpenses_validExpenses_listenersNotifiedOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.addListener(observable -> counter.set(counter.get() + 1));
+        financeTracker.addExpenses(getTypicalExpenses());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void apply_batch_changesMadeAndListenersNotifiedOnce() {
+        financeTracker.addBudget(new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build());
+        financeTracker.addDebt(AMY);
+        financeTracker.addRecurring(PHONE_BILL);
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.addListener(observable -> counter.set(counter.get() + 1));
+
+        Recurring editedRecurring = new RecurringBuilder(PHONE_BILL).withRemarks(VALID_REMARKS_RECURRING).build();
+        FinanceTrackerBatch batch = new FinanceTrackerBatch();
+        getTypicalExpenses().forEach(batch::addExpense);
+        batch.setRecurring(PHONE_BILL, editedRecurring);
+        batch.clearDebts();
+        financeTracker.apply(batch);
+
+        FinanceTracker expectedFinanceTracker = new FinanceTracker();
+        expectedFinanceTracker.addExpenses(getTypicalExpenses());
+        expectedFinanceTracker.addBudget(
+                new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build());
+        assertEquals(expectedFinanceTracker.getExpenseList(), financeTracker.getExpenseList());
+        assertEquals(expectedFinanceTracker.getBudgetList().get(0).getTotalSpent(),
+                financeTracker.getBudgetList().get(0).getTotalSpent());
+        assertEquals(Collections.singletonList(editedRecurring), financeTracker.getRecurringList());
+        assertTrue(financeTracker.getDebtList().isEmpty());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void apply_emptyBatch_listenersNotNotified() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.addListener(observable -> counter.set(counter.get() + 1));
+        financeTracker.apply(new FinanceTrackerBatch());
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void addBudget_expensesInTimeFrame_totalSpentDerivedFromExpenses() {
+        financeTracker.addExpenses(Arrays.asList(DUCK_RICE,
+                new ExpenseBuilder(DUCK_RICE).withName("Dinner").withDate("31-01-2019").build(),
+                new ExpenseBuilder(DUCK_RICE).withName("Lunch").withDate("01-02-2019").build()));
+        Budget budget = new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build();
+        financeTracker.addBudget(new Budget(budget.getCategory(), budget.getAmount(), budget.getStartDate(),
+                budget.getEndDate(), budget.getRemarks(), 123));
+        assertEquals(700, financeTracker.getBudgetList().get(0).getTotalSpent());
+    }
+
+    @Test
+    public void expenseChanged_budgetTotalSpentUpdated() {
+        financeTracker.addBudget(new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build());
+        financeTracker.addExpense(DUCK_RICE);
+        assertEquals(350, financeTracker.getBudgetList().get(0).getTotalSpent());
+
+        Expense editedExpense = new ExpenseBuilder(DUCK_RICE).withAmount("5.00").build();
+        financeTracker.setExpense(DUCK_RICE, editedExpense);
+        assertEquals(500, financeTracker.getBudgetList().get(0).getTotalSpent());
+        assertEquals(1.0, financeTracker.getBudgetList().get(0).getPercentage(), 0);
+
+        financeTracker.setExpense(editedExpense, new ExpenseBuilder(editedExpense).withCategory("travel").build());
+        assertEquals(0, financeTracker.getBudgetList().get(0).getTotalSpent());
+
+        financeTracker.setExpenses(Collections.singletonList(DUCK_RICE));
+        assertEquals(350, financeTracker.getBudgetList().get(0).getTotalSpent());
+
+        financeTracker.removeExpense(DUCK_RICE);
+        assertEquals(0, financeTracker.getBudgetList().get(0).getTotalSpent());
+    }
+
+    @Test
+    public void addExpenses_totalPastIntegerRange_budgetTotalSpentNotTruncated() {
+        financeTracker.addBudget(new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build());
+        financeTracker.addExpenses(Arrays.asList(
+                new ExpenseBuilder(DUCK_RICE).withName("Car").withAmount("9999999.99").build(),
+                new ExpenseBuilder(DUCK_RICE).withName("Boat").withAmount("9999999.99").build(),
+                new ExpenseBuilder(DUCK_RICE).withName("House").withAmount("9999999.99").build()));
+        assertEquals(3 * 999999999L, financeTracker.getBudgetList().get(0).getTotalSpent());
+    }
+
+    @Test
+    public void addExpenses_oneBudgetAffected_onlyThatBudgetReplaced() {
+        financeTracker.addBudgets(Arrays.asList(
+                new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build(),
+                new BudgetBuilder().withStartDate("01-02-2019").withEndDate("28-02-2019").build()));
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.getBudgetList().addListener((ListChangeListener<Budget>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                assertEquals(0, change.getFrom());
+                assertEquals(1, change.getAddedSize());
+            }
+            counter.set(counter.get() + 1);
+        });
+
+        financeTracker.addExpenses(Arrays.asList(DUCK_RICE,
+                new ExpenseBuilder(DUCK_RICE).withName("Dinner").withDate("31-01-2019").build()));
+        assertEquals(1, counter.get());
+        assertEquals(700, financeTracker.getBudgetList().get(0).getTotalSpent());
+        assertEquals(0, financeTracker.getBudgetList().get(1).getTotalSpent());
+    }
+
+    @Test
+    public void addBudgets_overlappingBudgets_throwsOverlappingBudgetException() {
+        thrown.expect(OverlappingBudgetException.class);
+        financeTracker.addBudgets(Arrays.asList(FOOD_BUDGET, FOOD_BUDGET));
+    }
+
+    @Test
+    public void addRecurrings_duplicateRecurrings_throwsDuplicateRecurringException() {
+        thrown.expect(DuplicateRecurringException.class);
+        financeTracker.addRecurring(PHONE_BILL);
+        financeTracker.addRecurrings(Collections.singletonList(PHONE_BILL));
+    }
+
     //// expense-related tests ==============================================================================
 
     @Test
@@ -91,6 +249,44 @@ public class FinanceTrackerTest {
         assertTrue(financeTracker.hasExpense(editedExpense));
     }
 
+    @Test
+    public void hasExpense_expenseInArchive_returnsTrue() {
+        financeTracker.setExpenseArchive(new ExpenseArchiveStub(JAPAN));
+        assertTrue(financeTracker.hasExpense(JAPAN));
+        assertFalse(financeTracker.getExpenseArchive().isPresent());
+    }
+
+    @Test
+    public void addExpense_expenseOfArchivedMonth_thatMonthAndLaterMonthsLoaded() {
+        financeTracker.addExpense(DUCK_RICE);
+        financeTracker.setExpenseArchive(new ExpenseArchiveStub(LAPTOP, JAPAN, TV));
+
+        Expense souvenirs = new ExpenseBuilder().withName("Souvenirs").withDate("01-07-2018").build();
+        financeTracker.addExpense(souvenirs);
+        assertEquals(Arrays.asList(DUCK_RICE, LAPTOP, souvenirs), financeTracker.getExpenseList());
+        assertEquals(YearMonth.of(2018, 7), financeTracker.getExpenseArchive().get().getEnd());
+
+        financeTracker.loadAllExpenses();
+        assertEquals(Arrays.asList(DUCK_RICE, LAPTOP, souvenirs, JAPAN, TV), financeTracker.getExpenseList());
+        assertFalse(financeTracker.getExpenseArchive().isPresent());
+    }
+
+    @Test
+    public void loadExpensesFrom_archiveUnreadable_nothingLoaded() {
+        financeTracker.addExpense(DUCK_RICE);
+        financeTracker.setExpenseArchive(new ExpenseArchiveStub(JAPAN) {
+            @Override
+            public List<Expense> readFrom(YearMonth month) {
+                throw new ExpenseArchiveUnreadableException("Unreadable", new IOException());
+            }
+        });
+
+        assertThrows(ExpenseArchiveUnreadableException.class, () -> financeTracker.loadExpensesFrom(
+                JAPAN.getDate()));
+        assertEquals(Collections.singletonList(DUCK_RICE), financeTracker.getExpenseList());
+        assertTrue(financeTracker.getExpenseArchive().isPresent());
+    }
+
     @Test
     public void getExpenseList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -234,6 +430,26 @@ public class FinanceTrackerTest {
             return expenses;
         }
 
+        @Override
+        public Optional<ExpenseArchive> getExpenseArchive() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean isLoadingArchivedExpenses() {
+            return false;
+        }
+
+        @Override
+        public List<Expense> getExpensesBetween(Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SpendingRollup getSpendingRollup() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Debt> getDebtList() {
             return debts;
@@ -27,6 +27,7 @@ import seedu.address.model.debt.exceptions.DebtNotFoundException;
 import seedu.address.model.expense.Expense;
 import seedu.address.model.expense.NameContainsKeywordsPredicateForExpense;
 import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.address.testutil.BudgetBuilder;
 import seedu.address.testutil.DebtBuilder;
 import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.testutil.FinanceTrackerBuilder;
@@ -143,6 +144,22 @@ public class ModelManagerTest {
         assertEquals(updatedExpense, modelManager.getSelectedExpense());
     }
 
+    @Test
+    public void setExpense_dateMovedToAnotherBudget_totalSpentOfBothBudgetsUpdated() {
+        modelManager.addBudget(new BudgetBuilder().withStartDate("01-01-2019").withEndDate("31-01-2019").build());
+        modelManager.addBudget(new BudgetBuilder().withStartDate("01-02-2019").withEndDate("28-02-2019").build());
+        modelManager.addExpense(DUCK_RICE);
+        assertEquals(350, modelManager.getFilteredBudgetList().get(0).getTotalSpent());
+
+        Expense updatedExpense = new ExpenseBuilder(DUCK_RICE).withDate("01-02-2019").withAmount("4.00").build();
+        modelManager.setExpense(DUCK_RICE, updatedExpense);
+        assertEquals(0, modelManager.getFilteredBudgetList().get(0).getTotalSpent());
+        assertEquals(400, modelManager.getFilteredBudgetList().get(1).getTotalSpent());
+
+        modelManager.deleteExpense(updatedExpense);
+        assertEquals(0, modelManager.getFilteredBudgetList().get(1).getTotalSpent());
+    }
+
     @Test
     public void getFilteredExpenseList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
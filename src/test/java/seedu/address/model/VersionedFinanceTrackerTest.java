@@ -6,16 +6,30 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalDebts.HOLLY;
 import static seedu.address.testutil.TypicalDebts.IVAN;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
 import static seedu.address.testutil.TypicalExpenses.EXPENSE;
 import static seedu.address.testutil.TypicalExpenses.GROCERIES;
 import static seedu.address.testutil.TypicalExpenses.JAPAN;
+import static seedu.address.testutil.TypicalExpenses.LAPTOP;
+import static seedu.address.testutil.TypicalExpenses.TAXI;
+import static seedu.address.testutil.TypicalExpenses.TV;
+import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import seedu.address.model.debt.Debt;
+import seedu.address.model.expense.Expense;
+import seedu.address.testutil.BudgetBuilder;
+import seedu.address.testutil.ExpenseArchiveStub;
+import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.testutil.FinanceTrackerBuilder;
 
 public class VersionedFinanceTrackerTest {
@@ -225,6 +239,166 @@ public class VersionedFinanceTrackerTest {
         assertThrows(VersionedFinanceTracker.NoRedoableStateException.class, versionedFinanceTracker::redo);
     }
 
+    @Test
+    public void undoRedo_expenseAdded_budgetTotalSpentRestored() {
+        VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(emptyFinanceTracker);
+        versionedFinanceTracker.addBudget(new BudgetBuilder().withCategory("food").withStartDate("01-01-2019")
+                .withEndDate("31-12-2019").build());
+        versionedFinanceTracker.commit();
+        versionedFinanceTracker.addExpense(DUCK_RICE);
+        versionedFinanceTracker.commit();
+
+        versionedFinanceTracker.undo();
+        assertEquals(0, versionedFinanceTracker.getBudgetList().get(0).getTotalSpent());
+        versionedFinanceTracker.redo();
+        assertEquals(350, versionedFinanceTracker.getBudgetList().get(0).getTotalSpent());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(
+                emptyFinanceTracker, financeTrackerWithExpense);
+        versionedFinanceTracker.addExpense(JAPAN);
+        versionedFinanceTracker.addDebt(HOLLY);
+
+        versionedFinanceTracker.undo();
+        assertFinanceTrackerListStatus(versionedFinanceTracker,
+                Collections.emptyList(),
+                emptyFinanceTracker,
+                Collections.singletonList(financeTrackerWithExpense));
+        assertTrue(versionedFinanceTracker.getDebtList().isEmpty());
+    }
+
+    @Test
+    public void discardUncommittedChanges_changesReverted() {
+        VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(
+                emptyFinanceTracker, financeTrackerWithExpense);
+        versionedFinanceTracker.addExpense(JAPAN);
+        versionedFinanceTracker.addDebt(HOLLY);
+
+        versionedFinanceTracker.discardUncommittedChanges();
+        assertFinanceTrackerListStatus(versionedFinanceTracker,
+                Collections.singletonList(emptyFinanceTracker),
+                financeTrackerWithExpense,
+                Collections.emptyList());
+        assertTrue(versionedFinanceTracker.getDebtList().isEmpty());
+    }
+
+    @Test
+    public void undoRedo_changesWithinLists_exactListsRestored() {
+        VersionedFinanceTracker versionedFinanceTracker = new VersionedFinanceTracker(getTypicalFinanceTracker());
+        List<Expense> originalExpenses = new ArrayList<>(versionedFinanceTracker.getExpenseList());
+        List<Debt> originalDebts = new ArrayList<>(versionedFinanceTracker.getDebtList());
+
+        versionedFinanceTracker.addExpense(JAPAN);
+        versionedFinanceTracker.removeDebt(originalDebts.get(1));
+        versionedFinanceTracker.commit();
+        versionedFinanceTracker.setExpense(TAXI, new ExpenseBuilder(TAXI).withDate("01-01-2018").build());
+        versionedFinanceTracker.commit();
+        List<Expense> editedExpenses = new ArrayList<>(versionedFinanceTracker.getExpenseList());
+        List<Debt> editedDebts = new ArrayList<>(versionedFinanceTracker.getDebtList());
+
+        versionedFinanceTracker.undo();
+        versionedFinanceTracker.undo();
+        assertEquals(originalExpenses, versionedFinanceTracker.getExpenseList());
+        assertEquals(originalDebts, versionedFinanceTracker.getDebtList());
+
+        versionedFinanceTracker.redo();
+        versionedFinanceTracker.redo();
+        assertEquals(editedExpenses, versionedFinanceTracker.getExpenseList());
+        assertEquals(editedDebts, versionedFinanceTracker.getDebtList());
+    }
+
+    @Test
+    public void undoRedo_archivedExpensesLoaded_loadsNotUndone() {
+        FinanceTracker initialState = new FinanceTrackerBuilder().withExpense(DUCK_RICE).build();
+        ExpenseArchiveStub archive = new ExpenseArchiveStub(LAPTOP, TV);
+        initialState.setExpenseArchive(archive);
+        VersionedFinanceTracker versionedFinanceTracker = new VersionedFinanceTracker(initialState);
+        assertEquals(Collections.singletonList(DUCK_RICE), versionedFinanceTracker.getExpenseList());
+
+        versionedFinanceTracker.removeExpense(LAPTOP);
+        versionedFinanceTracker.commit();
+        assertEquals(Collections.singletonList(DUCK_RICE), versionedFinanceTracker.getExpenseList());
+
+        versionedFinanceTracker.undo();
+        assertEquals(Arrays.asList(DUCK_RICE, LAPTOP), versionedFinanceTracker.getExpenseList());
+        assertFalse(versionedFinanceTracker.canUndo());
+
+        versionedFinanceTracker.loadAllExpenses();
+        versionedFinanceTracker.redo();
+        assertEquals(Arrays.asList(DUCK_RICE, TV), versionedFinanceTracker.getExpenseList());
+
+        // the archive is shared, and loading from it leaves the initial state as it was
+        assertEquals(Collections.singletonList(DUCK_RICE), initialState.getExpenseList());
+        assertEquals(archive, initialState.getExpenseArchive().get());
+    }
+
+    @Test
+    public void commit_statesOverLimit_oldestStatesSpilled() {
+        StateChangeStoreStub spillStore = new StateChangeStoreStub();
+        VersionedFinanceTracker versionedFinanceTracker = new VersionedFinanceTracker(emptyFinanceTracker,
+                spillStore, 2, Long.MAX_VALUE);
+        List<Expense> expenses = Arrays.asList(EXPENSE, JAPAN, GROCERIES, TAXI);
+        for (Expense expense : expenses) {
+            versionedFinanceTracker.addExpense(expense);
+            versionedFinanceTracker.commit();
+        }
+
+        assertEquals(2, versionedFinanceTracker.getStatesInMemoryCount());
+        assertEquals(2, spillStore.stateChanges.size());
+
+        // undo pages the spilled states back in without exceeding the limit
+        while (versionedFinanceTracker.canUndo()) {
+            versionedFinanceTracker.undo();
+            assertTrue(versionedFinanceTracker.getStatesInMemoryCount() <= 2);
+        }
+        assertTrue(versionedFinanceTracker.getExpenseList().isEmpty());
+
+        while (versionedFinanceTracker.canRedo()) {
+            versionedFinanceTracker.redo();
+            assertTrue(versionedFinanceTracker.getStatesInMemoryCount() <= 2);
+        }
+        assertEquals(new FinanceTrackerBuilder().withExpense(EXPENSE).withExpense(JAPAN).withExpense(GROCERIES)
+                .withExpense(TAXI).build(), new FinanceTracker(versionedFinanceTracker));
+
+        // every state is spilled at most once, even after being paged back in
+        assertEquals(expenses.size(), spillStore.stateChanges.size());
+    }
+
+    @Test
+    public void commit_elementsOverLimit_oldestStatesSpilled() {
+        StateChangeStoreStub spillStore = new StateChangeStoreStub();
+        VersionedFinanceTracker versionedFinanceTracker = new VersionedFinanceTracker(emptyFinanceTracker,
+                spillStore, Integer.MAX_VALUE, 1);
+        versionedFinanceTracker.addExpense(EXPENSE);
+        versionedFinanceTracker.commit();
+        versionedFinanceTracker.addExpense(JAPAN);
+        versionedFinanceTracker.commit();
+
+        assertEquals(1, versionedFinanceTracker.getStatesInMemoryCount());
+        versionedFinanceTracker.undo();
+        versionedFinanceTracker.undo();
+        assertTrue(versionedFinanceTracker.getExpenseList().isEmpty());
+    }
+
+    @Test
+    public void undo_spilledStateUnreadable_throwsNoUndoableStateException() {
+        StateChangeStoreStub spillStore = new StateChangeStoreStub();
+        VersionedFinanceTracker versionedFinanceTracker = new VersionedFinanceTracker(emptyFinanceTracker,
+                spillStore, 1, Long.MAX_VALUE);
+        versionedFinanceTracker.addExpense(EXPENSE);
+        versionedFinanceTracker.commit();
+        versionedFinanceTracker.addExpense(JAPAN);
+        versionedFinanceTracker.commit();
+        versionedFinanceTracker.undo();
+
+        spillStore.isReadable = false;
+        assertThrows(VersionedFinanceTracker.NoUndoableStateException.class, versionedFinanceTracker::undo);
+        assertFalse(versionedFinanceTracker.canUndo());
+        assertEquals(financeTrackerWithExpense, new FinanceTracker(versionedFinanceTracker));
+    }
+
     @Test
     public void equals() {
         VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(financeTrackerWithExpense,
@@ -318,4 +492,27 @@ public class VersionedFinanceTrackerTest {
             versionedFinanceTracker.undo();
         }
     }
+
+    /**
+     * A {@code StateChangeStore} that keeps the written state changes in memory.
+     */
+    private static class StateChangeStoreStub implements StateChangeStore {
+        private final Map<Long, List<ListEdit>> stateChanges = new HashMap<>();
+        private boolean isReadable = true;
+
+        @Override
+        public long write(List<ListEdit> stateChange) {
+            long key = stateChanges.size();
+            stateChanges.put(key, new ArrayList<>(stateChange));
+            return key;
+        }
+
+        @Override
+        public List<ListEdit> read(long key) throws IOException {
+            if (!isReadable) {
+                throw new IOException("Dummy IOException");
+            }
+            return stateChanges.get(key);
+        }
+    }
 }
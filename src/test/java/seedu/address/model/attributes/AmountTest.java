@@ -1,5 +1,6 @@
 package seedu.address.model.attributes;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -46,4 +47,17 @@ public class AmountTest {
         assertTrue(Amount.isValidAmount("1.2")); // 1 decimal place
         assertTrue(Amount.isValidAmount("1.23")); // 2 decimal places
     }
+
+    @Test
+    public void constructor_cents_sameAsDollars() {
+        assertEquals(new Amount("1234567.25").value, new Amount(123456725).value);
+        assertEquals(new Amount("9999999.99").value, new Amount(Amount.MAX_CENTS).value);
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Amount(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Amount(Amount.MAX_CENTS + 1));
+    }
+
+    @Test
+    public void hashCode_equalAmounts_sameHashCode() {
+        assertEquals(new Amount("1.50").hashCode(), new Amount("1.5").hashCode());
+    }
 }
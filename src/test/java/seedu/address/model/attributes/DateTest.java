@@ -5,6 +5,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -120,4 +122,16 @@ public class DateTest {
         assertEquals(date4.compareTo(date3), 1);
         assertEquals(date4.compareTo(date4), 0);
     }
+
+    @Test
+    public void constructor_localDate_sameAsString() {
+        assertEquals(new Date("29-02-2020"), new Date(LocalDate.of(2020, 2, 29)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Date(LocalDate.of(1999, 12, 31)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Date(LocalDate.of(2100, 1, 1)));
+    }
+
+    @Test
+    public void hashCode_equalDates_sameHashCode() {
+        assertEquals(new Date("01-01-2019").hashCode(), new Date("01-01-2019").hashCode());
+    }
 }
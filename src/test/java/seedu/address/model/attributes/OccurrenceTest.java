@@ -1,5 +1,6 @@
 package seedu.address.model.attributes;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -24,4 +25,9 @@ public class OccurrenceTest {
         assertTrue(Occurrence.isValidOccurrence("1")); // lower bound of boundary
         assertTrue(Occurrence.isValidOccurrence("999")); // upper bound of boundary
     }
+
+    @Test
+    public void hashCode_equalOccurrences_sameHashCode() {
+        assertEquals(new Occurrence("12").hashCode(), new Occurrence("12").hashCode());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.budget;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalBudgets.BUDGET;
@@ -7,13 +8,25 @@ import static seedu.address.testutil.TypicalBudgets.FOOD_BUDGET;
 import static seedu.address.testutil.TypicalBudgets.HEALTHCARE_BUDGET;
 import static seedu.address.testutil.TypicalBudgets.TRAVEL_BUDGET;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+import seedu.address.testutil.BudgetBuilder;
+
 public class BudgetListTest {
+    private static final Budget SEPTEMBER_FOOD_BUDGET = new BudgetBuilder(FOOD_BUDGET)
+            .withStartDate("01-09-2019").withEndDate("30-09-2019").build();
+    private static final Budget NOVEMBER_FOOD_BUDGET = new BudgetBuilder(FOOD_BUDGET)
+            .withStartDate("01-11-2019").withEndDate("30-11-2019").build();
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -89,4 +102,84 @@ public class BudgetListTest {
         thrown.expect(UnsupportedOperationException.class);
         budgetList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void add_overlappingBudget_throwsOverlappingBudgetException() {
+        budgetList.addBudget(FOOD_BUDGET);
+        thrown.expect(OverlappingBudgetException.class);
+        budgetList.addBudget(new BudgetBuilder(FOOD_BUDGET).withStartDate("31-10-2019").withEndDate("30-11-2019")
+                .build());
+    }
+
+    @Test
+    public void add_disjointBudgetsOfSameCategory_success() {
+        budgetList.addBudget(FOOD_BUDGET);
+        budgetList.addBudget(NOVEMBER_FOOD_BUDGET);
+        budgetList.addBudget(SEPTEMBER_FOOD_BUDGET);
+        assertEquals(Arrays.asList(SEPTEMBER_FOOD_BUDGET, FOOD_BUDGET, NOVEMBER_FOOD_BUDGET),
+                budgetList.getBudgets(Category.FOOD));
+        assertEquals(Collections.emptyList(), budgetList.getBudgets(Category.TRAVEL));
+    }
+
+    @Test
+    public void addAll_budgetsOverlappingEachOther_throwsOverlappingBudgetException() {
+        thrown.expect(OverlappingBudgetException.class);
+        budgetList.addAll(Arrays.asList(FOOD_BUDGET, TRAVEL_BUDGET,
+                new BudgetBuilder(FOOD_BUDGET).withStartDate("01-09-2019").withEndDate("01-10-2019").build()));
+    }
+
+    @Test
+    public void addAll_disjointBudgets_success() {
+        budgetList.addAll(Arrays.asList(NOVEMBER_FOOD_BUDGET, TRAVEL_BUDGET, FOOD_BUDGET));
+        assertEquals(Arrays.asList(FOOD_BUDGET, NOVEMBER_FOOD_BUDGET), budgetList.getBudgets(Category.FOOD));
+    }
+
+    @Test
+    public void getCoveringBudget() {
+        budgetList.addBudget(FOOD_BUDGET);
+        budgetList.addBudget(NOVEMBER_FOOD_BUDGET);
+        budgetList.addBudget(TRAVEL_BUDGET);
+
+        assertEquals(Optional.of(FOOD_BUDGET), budgetList.getCoveringBudget(Category.FOOD, new Date("01-10-2019")));
+        assertEquals(Optional.of(FOOD_BUDGET), budgetList.getCoveringBudget(Category.FOOD, new Date("31-10-2019")));
+        assertEquals(Optional.of(NOVEMBER_FOOD_BUDGET),
+                budgetList.getCoveringBudget(Category.FOOD, new Date("15-11-2019")));
+
+        // outside every time frame of the category
+        assertEquals(Optional.empty(), budgetList.getCoveringBudget(Category.FOOD, new Date("30-09-2019")));
+        assertEquals(Optional.empty(), budgetList.getCoveringBudget(Category.FOOD, new Date("01-12-2019")));
+
+        // no budget of the category
+        assertEquals(Optional.empty(), budgetList.getCoveringBudget(Category.WORK, new Date("15-10-2019")));
+    }
+
+    @Test
+    public void getCoveringBudget_budgetEdited_editedBudgetReturned() {
+        budgetList.addBudget(FOOD_BUDGET);
+        Budget editedBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("15-10-2019").build();
+        budgetList.setBudget(FOOD_BUDGET, editedBudget);
+
+        assertEquals(Optional.empty(), budgetList.getCoveringBudget(Category.FOOD, new Date("01-10-2019")));
+        assertEquals(Optional.of(editedBudget), budgetList.getCoveringBudget(Category.FOOD, new Date("15-10-2019")));
+
+        budgetList.removeBudget(editedBudget);
+        assertEquals(Optional.empty(), budgetList.getCoveringBudget(Category.FOOD, new Date("15-10-2019")));
+    }
+
+    @Test
+    public void setBudget_editedBudgetOverlapsOtherBudget_throwsOverlappingBudgetException() {
+        budgetList.addBudget(FOOD_BUDGET);
+        budgetList.addBudget(NOVEMBER_FOOD_BUDGET);
+        thrown.expect(OverlappingBudgetException.class);
+        budgetList.setBudget(FOOD_BUDGET, new BudgetBuilder(FOOD_BUDGET).withEndDate("15-11-2019").build());
+    }
+
+    @Test
+    public void setBudget_editedBudgetOverlapsOnlyTarget_success() {
+        budgetList.addBudget(FOOD_BUDGET);
+        budgetList.addBudget(NOVEMBER_FOOD_BUDGET);
+        Budget editedBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("15-09-2019").withAmount("1").build();
+        budgetList.setBudget(FOOD_BUDGET, editedBudget);
+        assertEquals(Arrays.asList(editedBudget, NOVEMBER_FOOD_BUDGET), budgetList.getBudgets(Category.FOOD));
+    }
 }
@@ -30,13 +30,13 @@ public class BudgetTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () ->
-                new Budget(null, new Amount("1"), new Date("01-01-2019"), new Date("31-12-2019"), null, 0, 0));
+                new Budget(null, new Amount("1"), new Date("01-01-2019"), new Date("31-12-2019"), null, 0));
         Assert.assertThrows(NullPointerException.class, () ->
                 new Budget(Category.valueOf("FOOD"), null, new Date("01-01-2019"), new Date("31-12-2019"),
-                        null, 0, 0));
+                        null, 0));
         Assert.assertThrows(NullPointerException.class, () ->
                 new Budget(Category.valueOf("FOOD"), new Amount("1"), new Date("01-01-2019"), null,
-                        null, 0, 0));
+                        null, 0));
     }
 
     @Test
@@ -106,4 +106,43 @@ public class BudgetTest {
         editedBudget = new BudgetBuilder(FOOD_BUDGET).withRemarks(VALID_REMARKS_BUDGET).build();
         assertFalse(FOOD_BUDGET.equals(editedBudget));
     }
+
+    @Test
+    public void overlaps() {
+        // same time frame -> returns true
+        assertTrue(FOOD_BUDGET.overlaps(new BudgetBuilder(FOOD_BUDGET).withAmount("1").build()));
+
+        // different category -> returns false
+        assertFalse(FOOD_BUDGET.overlaps(new BudgetBuilder(FOOD_BUDGET).withCategory("travel").build()));
+
+        // starts within time frame -> returns true
+        Budget otherBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("15-10-2019").withEndDate("15-11-2019")
+                .build();
+        assertTrue(FOOD_BUDGET.overlaps(otherBudget));
+        assertTrue(otherBudget.overlaps(FOOD_BUDGET));
+
+        // contains time frame -> returns true
+        otherBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("01-09-2019").withEndDate("30-11-2019").build();
+        assertTrue(FOOD_BUDGET.overlaps(otherBudget));
+        assertTrue(otherBudget.overlaps(FOOD_BUDGET));
+
+        // shares only the end date -> returns true
+        otherBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("31-10-2019").withEndDate("30-11-2019").build();
+        assertTrue(FOOD_BUDGET.overlaps(otherBudget));
+        assertTrue(otherBudget.overlaps(FOOD_BUDGET));
+
+        // starts after time frame -> returns false
+        otherBudget = new BudgetBuilder(FOOD_BUDGET).withStartDate("01-11-2019").withEndDate("30-11-2019").build();
+        assertFalse(FOOD_BUDGET.overlaps(otherBudget));
+        assertFalse(otherBudget.overlaps(FOOD_BUDGET));
+    }
+
+    @Test
+    public void covers() {
+        assertTrue(FOOD_BUDGET.covers(new Date("01-10-2019")));
+        assertTrue(FOOD_BUDGET.covers(new Date("15-10-2019")));
+        assertTrue(FOOD_BUDGET.covers(new Date("31-10-2019")));
+        assertFalse(FOOD_BUDGET.covers(new Date("30-09-2019")));
+        assertFalse(FOOD_BUDGET.covers(new Date("01-11-2019")));
+    }
 }
@@ -5,18 +5,27 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_EXPENSE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARKS_EXPENSE;
+import static seedu.address.testutil.TypicalExpenses.CHICKEN_RICE;
 import static seedu.address.testutil.TypicalExpenses.DOCTOR;
 import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.STOCKS;
 import static seedu.address.testutil.TypicalExpenses.TAXI;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
 import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
 import seedu.address.testutil.ExpenseBuilder;
 
@@ -68,6 +77,65 @@ public class ExpenseListTest {
         expenseList.add(null);
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        expenseList.addAll(null);
+    }
+
+    @Test
+    public void addAll_listWithNullExpense_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        expenseList.addAll(Arrays.asList(DUCK_RICE, null));
+    }
+
+    @Test
+    public void addAll_unsortedList_sameOrderAsAddingIndividually() {
+        expenseList.add(TAXI);
+        expenseList.addAll(Arrays.asList(DUCK_RICE, CHICKEN_RICE, STOCKS));
+
+        ExpenseList expectedExpenseList = new ExpenseList();
+        expectedExpenseList.add(TAXI);
+        expectedExpenseList.add(DUCK_RICE);
+        expectedExpenseList.add(CHICKEN_RICE);
+        expectedExpenseList.add(STOCKS);
+        assertEquals(expectedExpenseList, expenseList);
+        assertEquals(Arrays.asList(CHICKEN_RICE, STOCKS, TAXI, DUCK_RICE), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_list_singleChange() {
+        expenseList.add(TAXI);
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        expenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change ->
+                counter.set(counter.get() + 1));
+        expenseList.addAll(Arrays.asList(DUCK_RICE, CHICKEN_RICE, STOCKS));
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void addAll_withinList_onlyRangeBetweenInsertionPointsReplaced() {
+        List<Expense> expected = new ArrayList<>();
+        for (String date : Arrays.asList("10-01-2019", "08-01-2019", "06-01-2019", "04-01-2019", "02-01-2019")) {
+            expected.add(new ExpenseBuilder(DUCK_RICE).withDate(date).build());
+        }
+        expenseList.addAll(expected);
+        Expense newFirst = new ExpenseBuilder(DUCK_RICE).withDate("07-01-2019").build();
+        Expense newLast = new ExpenseBuilder(DUCK_RICE).withDate("05-01-2019").build();
+        expected.add(3, newLast);
+        expected.add(2, newFirst);
+
+        List<Expense> changedRange = new ArrayList<>();
+        expenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                changedRange.addAll(change.getAddedSubList());
+            }
+        });
+        expenseList.addAll(Arrays.asList(newLast, newFirst));
+        assertEquals(expected, expenseList.asUnmodifiableObservableList());
+        assertEquals(expected.subList(2, 5), changedRange);
+    }
+
     @Test
     public void setExpense_nullTargetExpense_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -146,6 +214,98 @@ public class ExpenseListTest {
         assertEquals(expectedExpenseList, this.expenseList);
     }
 
+    @Test
+    public void setExpenses_unsortedList_sortedByDate() {
+        expenseList.setExpenses(Arrays.asList(DUCK_RICE, TAXI, CHICKEN_RICE));
+        assertEquals(Arrays.asList(CHICKEN_RICE, TAXI, DUCK_RICE), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpense_editedDateOutOfPlace_listSortedByDate() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, CHICKEN_RICE));
+        Expense editedDuckRice = new ExpenseBuilder(DUCK_RICE).withDate("01-04-2019").build();
+        expenseList.setExpense(DUCK_RICE, editedDuckRice);
+        assertEquals(Arrays.asList(editedDuckRice, CHICKEN_RICE, TAXI), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpense_editedDateSameAsOthers_placedAfterThemWithoutPermutation() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, CHICKEN_RICE));
+        List<Boolean> permutations = new ArrayList<>();
+        expenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                permutations.add(change.wasPermutated());
+            }
+        });
+
+        Expense editedChickenRice = new ExpenseBuilder(CHICKEN_RICE).withDate(TAXI.getDate().toString()).build();
+        expenseList.setExpense(CHICKEN_RICE, editedChickenRice);
+        assertEquals(Arrays.asList(TAXI, editedChickenRice, DUCK_RICE), expenseList.asUnmodifiableObservableList());
+        assertFalse(permutations.contains(true));
+    }
+
+    @Test
+    public void expensesBetween_nullDate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        expenseList.expensesBetween(null, new Date("01-01-2019"));
+    }
+
+    @Test
+    public void expensesBetween_rangeWithinList_returnsExpensesInRangeLatestFirst() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, DOCTOR, CHICKEN_RICE, STOCKS));
+        assertEquals(Arrays.asList(DOCTOR, TAXI),
+                expenseList.expensesBetween(new Date("05-01-2019"), new Date("15-01-2019")));
+        assertEquals(Arrays.asList(CHICKEN_RICE, STOCKS),
+                expenseList.expensesBetween(new Date("03-03-2019"), new Date("03-03-2019")));
+        assertEquals(expenseList.asUnmodifiableObservableList(),
+                expenseList.expensesBetween(new Date("01-01-2000"), new Date("31-12-2099")));
+    }
+
+    @Test
+    public void expensesBetween_noExpensesInRange_returnsEmptyList() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI));
+        assertTrue(expenseList.expensesBetween(new Date("02-01-2019"), new Date("04-01-2019")).isEmpty());
+        assertTrue(expenseList.expensesBetween(new Date("05-01-2019"), new Date("01-01-2019")).isEmpty());
+    }
+
+    @Test
+    public void expensesBetween_modifyView_throwsUnsupportedOperationException() {
+        expenseList.add(DUCK_RICE);
+        thrown.expect(UnsupportedOperationException.class);
+        expenseList.expensesBetween(new Date("01-01-2019"), new Date("01-01-2019")).remove(0);
+    }
+
+    @Test
+    public void totalSpentBetween_expensesAddedEditedAndRemoved_returnsTotalOfCategoryInRange() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, DOCTOR, CHICKEN_RICE, STOCKS));
+        assertEquals(750, expenseList.totalSpentBetween(Category.FOOD, new Date("01-01-2019"),
+                new Date("03-03-2019")));
+        assertEquals(350, expenseList.totalSpentBetween(Category.FOOD, new Date("01-01-2019"),
+                new Date("02-03-2019")));
+        assertEquals(0, expenseList.totalSpentBetween(Category.WORK, new Date("01-01-2000"),
+                new Date("31-12-2099")));
+
+        expenseList.setExpense(DUCK_RICE, new ExpenseBuilder(DUCK_RICE).withAmount("5.00").build());
+        expenseList.remove(CHICKEN_RICE);
+        assertEquals(500, expenseList.totalSpentBetween(Category.FOOD, new Date("01-01-2019"),
+                new Date("03-03-2019")));
+
+        expenseList.setExpenses(Collections.emptyList());
+        assertEquals(0, expenseList.totalSpentBetween(Category.FOOD, new Date("01-01-2019"),
+                new Date("03-03-2019")));
+    }
+
+    @Test
+    public void scan_range_visitsFieldsOfExpensesInOrder() {
+        expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, CHICKEN_RICE));
+        List<String> visited = new ArrayList<>();
+        expenseList.scan(1, 3, (cents, epochDay, category) -> visited.add(cents + " " + epochDay + " " + category));
+        assertEquals(Arrays.asList(TAXI, DUCK_RICE).stream()
+                .map(expense -> expense.getAmount().value + " " + expense.getDate().getLocalDate().toEpochDay() + " "
+                        + expense.getCategory())
+                .collect(Collectors.toList()), visited);
+    }
+
     @Test
     public void remove_nullExpense_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
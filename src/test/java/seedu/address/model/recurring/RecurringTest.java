@@ -1,5 +1,6 @@
 package seedu.address.model.recurring;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_AMOUNT_RECURRING_2;
@@ -10,6 +11,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARKS_RECURRI
 import static seedu.address.testutil.TypicalRecurrings.DAILY_LUNCH;
 import static seedu.address.testutil.TypicalRecurrings.PHONE_BILL;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -20,6 +24,7 @@ import seedu.address.model.attributes.Date;
 import seedu.address.model.attributes.Frequency;
 import seedu.address.model.attributes.Name;
 import seedu.address.model.attributes.Occurrence;
+import seedu.address.model.expense.Expense;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.RecurringBuilder;
 
@@ -64,6 +69,11 @@ public class RecurringTest {
         // different amount -> returns false
         editedRecurring = new RecurringBuilder(PHONE_BILL).withAmount(VALID_AMOUNT_RECURRING_2).build();
         assertFalse(PHONE_BILL.isSameRecurring(editedRecurring));
+
+        // same identity fields, different remarks -> returns true
+        editedRecurring = new RecurringBuilder(PHONE_BILL).withOccurrence(PHONE_BILL.getOccurrence().toString())
+                .withRemarks("Different remarks").build();
+        assertTrue(PHONE_BILL.isSameRecurring(editedRecurring));
     }
 
     @Test
@@ -114,4 +124,49 @@ public class RecurringTest {
         assertFalse(PHONE_BILL.equals(editedRecurring));
     }
 
+    @Test
+    public void getOccurrenceDate_eachFrequency_datesCalculated() {
+        RecurringBuilder builder = new RecurringBuilder().withDate("31-01-2019").withOccurrence("5");
+        assertEquals(LocalDate.of(2019, 2, 4), builder.withFrequency("D").build().getOccurrenceDate(4));
+        assertEquals(LocalDate.of(2019, 2, 28), builder.withFrequency("W").build().getOccurrenceDate(4));
+        assertEquals(LocalDate.of(2019, 2, 28), builder.withFrequency("M").build().getOccurrenceDate(1));
+        assertEquals(LocalDate.of(2019, 3, 31), builder.withFrequency("M").build().getOccurrenceDate(2));
+        assertEquals(LocalDate.of(2023, 1, 31), builder.withFrequency("Y").build().getOccurrenceDate(4));
+    }
+
+    @Test
+    public void getOccurrenceDate_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        Recurring recurring = new RecurringBuilder().withOccurrence("5").build();
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> recurring.getOccurrenceDate(-1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> recurring.getOccurrenceDate(5));
+    }
+
+    @Test
+    public void occurrenceAt_validIndex_expenseOfOccurrence() {
+        Recurring recurring = new RecurringBuilder().withName("Gym").withDate("01-01-2019").withFrequency("W")
+                .withOccurrence("3").build();
+        Expense expense = recurring.occurrenceAt(2);
+        assertEquals(new Name("Gym (Recurring)"), expense.getName());
+        assertEquals(LocalDate.of(2019, 1, 15), expense.getDate().getLocalDate());
+        assertEquals(recurring.getAmount(), expense.getAmount());
+        assertEquals(recurring.getCategory(), expense.getCategory());
+        assertEquals(expense, recurring.getRecurringListOfExpenses().get(2));
+        assertEquals(3, recurring.getRecurringListOfExpenses().size());
+    }
+
+    @Test
+    public void getOccurrencesBetween_range_occurrencesAfterStartUpToEnd() {
+        Recurring recurring = new RecurringBuilder().withDate("01-01-2019").withFrequency("D")
+                .withOccurrence("10").build();
+        List<Expense> occurrences = recurring.getOccurrencesBetween(LocalDate.of(2019, 1, 3), LocalDate.of(2019, 1, 5));
+        assertEquals(recurring.getRecurringListOfExpenses().subList(3, 5), occurrences);
+
+        // before the first occurrence up to after the last occurrence
+        assertEquals(recurring.getRecurringListOfExpenses(),
+                recurring.getOccurrencesBetween(LocalDate.of(2018, 1, 1), LocalDate.of(2020, 1, 1)));
+
+        // start not before end
+        assertTrue(recurring.getOccurrencesBetween(LocalDate.of(2019, 1, 5), LocalDate.of(2019, 1, 5)).isEmpty());
+        assertTrue(recurring.getOccurrencesBetween(LocalDate.of(2019, 1, 6), LocalDate.of(2019, 1, 3)).isEmpty());
+    }
 }
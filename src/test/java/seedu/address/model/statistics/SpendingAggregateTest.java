@@ -0,0 +1,71 @@
+package seedu.address.model.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalExpenses.CHICKEN_RICE;
+import static seedu.address.testutil.TypicalExpenses.DOCTOR;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.STOCKS;
+import static seedu.address.testutil.TypicalExpenses.TAXI;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.attributes.Category;
+import seedu.address.testutil.Assert;
+
+public class SpendingAggregateTest {
+
+    private final SpendingRollup rollup = new SpendingRollup(
+            FXCollections.observableArrayList(CHICKEN_RICE, STOCKS, DOCTOR, TAXI, DUCK_RICE));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        LocalDate date = LocalDate.of(2019, 1, 1);
+        Assert.assertThrows(NullPointerException.class, () ->
+                SpendingAggregate.of(null, Collections.emptyList(), date));
+        Assert.assertThrows(NullPointerException.class, () -> SpendingAggregate.of(rollup, null, date));
+        Assert.assertThrows(NullPointerException.class, () ->
+                SpendingAggregate.of(rollup, Collections.emptyList(), null));
+    }
+
+    @Test
+    public void of_singlePeriod_exactTotalsPerCategory() {
+        SpendingAggregate aggregate = SpendingAggregate.of(rollup,
+                Collections.singletonList(LocalDate.of(2019, 1, 1)), LocalDate.of(2019, 12, 31));
+
+        assertEquals(1, aggregate.getPeriodCount());
+        assertEquals(750, aggregate.getAmount(0, Category.FOOD.ordinal()));
+        assertEquals(2, aggregate.getCount(0, Category.FOOD.ordinal()));
+        assertEquals(0, aggregate.getAmount(0, Category.WORK.ordinal()));
+        assertEquals(0, aggregate.getCount(0, Category.WORK.ordinal()));
+        assertEquals(350 + 1720 + 3050 + 400 + 115225, aggregate.getAmount(0, SpendingAggregate.ALL));
+        assertEquals(5, aggregate.getCount(0, SpendingAggregate.ALL));
+    }
+
+    @Test
+    public void of_multiplePeriods_eachExpenseInExactlyOnePeriod() {
+        // expenses on 01-01, 05-01, 15-01 and 03-03 (twice); periods start on 01-01, 05-01 and 01-02
+        SpendingAggregate aggregate = SpendingAggregate.of(rollup, Arrays.asList(LocalDate.of(2019, 1, 1),
+                LocalDate.of(2019, 1, 5), LocalDate.of(2019, 2, 1)), LocalDate.of(2019, 3, 3));
+
+        assertEquals(3, aggregate.getPeriodCount());
+        assertEquals(1, aggregate.getCount(0, SpendingAggregate.ALL));
+        assertEquals(350, aggregate.getAmount(0, Category.FOOD.ordinal()));
+        assertEquals(2, aggregate.getCount(1, SpendingAggregate.ALL));
+        assertEquals(1720, aggregate.getAmount(1, Category.TRANSPORT.ordinal()));
+        assertEquals(3050, aggregate.getAmount(1, Category.HEALTHCARE.ordinal()));
+        assertEquals(2, aggregate.getCount(2, SpendingAggregate.ALL));
+        assertEquals(400, aggregate.getAmount(2, Category.FOOD.ordinal()));
+    }
+
+    @Test
+    public void getCategoryName() {
+        assertEquals("FOOD", SpendingAggregate.getCategoryName(Category.FOOD.ordinal()));
+        assertEquals("OTHERS", SpendingAggregate.getCategoryName(Category.OTHERS.ordinal()));
+        assertEquals("ALL", SpendingAggregate.getCategoryName(SpendingAggregate.ALL));
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.model.statistics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class SpendingRollupTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2018, 11, 20);
+    private static final int BULK_SIZE = 30000;
+
+    private final ObservableList<Expense> expenses = FXCollections.observableArrayList();
+    private SpendingRollup rollup = new SpendingRollup(expenses);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new SpendingRollup((ObservableList<Expense>) null));
+        Assert.assertThrows(NullPointerException.class, () -> new SpendingRollup((ExpenseList) null));
+    }
+
+    @Test
+    public void accumulate_startAfterEnd_nothingAdded() {
+        expenses.add(DUCK_RICE);
+        long[] amounts = new long[SpendingAggregate.ALL + 1];
+        int[] counts = new int[SpendingAggregate.ALL + 1];
+        rollup.accumulate(LocalDate.of(2019, 1, 2), LocalDate.of(2019, 1, 1), amounts, counts);
+        assertArrayEquals(new long[SpendingAggregate.ALL + 1], amounts);
+        assertArrayEquals(new int[SpendingAggregate.ALL + 1], counts);
+    }
+
+    @Test
+    public void accumulate_randomExpensesAndRanges_matchesNaiveTotals() {
+        Random random = new Random(1);
+        expenses.addAll(createRandomExpenses(random, 500));
+        // removals and edits must be rolled back out of every bucket
+        expenses.subList(0, 100).clear();
+        expenses.set(0, new ExpenseBuilder(expenses.get(0)).withDate("31-12-2019").build());
+
+        assertRandomRangesMatchNaiveTotals(random);
+    }
+
+    @Test
+    public void accumulate_bulkChanges_matchesNaiveTotals() {
+        Random random = new Random(2);
+        expenses.addAll(createRandomExpenses(random, BULK_SIZE));
+        rollup = new SpendingRollup(expenses);
+        assertRandomRangesMatchNaiveTotals(random);
+
+        // a bulk removal must be rolled back out of every bucket, dropping the ones left empty
+        expenses.subList(0, BULK_SIZE - 5000).clear();
+        assertRandomRangesMatchNaiveTotals(random);
+
+        expenses.setAll(createRandomExpenses(random, BULK_SIZE));
+        assertRandomRangesMatchNaiveTotals(random);
+    }
+
+    @Test
+    public void accumulate_expenseListScanned_matchesNaiveTotals() {
+        Random random = new Random(3);
+        ExpenseList expenseList = new ExpenseList();
+        rollup = new SpendingRollup(expenseList);
+        expenseList.addAll(createRandomExpenses(random, BULK_SIZE));
+        expenseList.remove(expenseList.asUnmodifiableObservableList().get(0));
+        expenseList.add(createRandomExpenses(random, 1).get(0));
+
+        expenses.setAll(expenseList.asUnmodifiableObservableList());
+        assertRandomRangesMatchNaiveTotals(random);
+    }
+
+    /**
+     * Returns {@code count} expenses with random dates, categories and amounts.
+     */
+    private static List<Expense> createRandomExpenses(Random random, int count) {
+        Category[] categories = Category.values();
+        List<Expense> randomExpenses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            randomExpenses.add(new ExpenseBuilder().withName("Expense " + i)
+                    .withDate(formatDate(FIRST_DATE.plusDays(random.nextInt(800))))
+                    .withCategory(categories[random.nextInt(categories.length)].toString())
+                    .withAmount((random.nextInt(10000) + 1) + ".25").build());
+        }
+        return randomExpenses;
+    }
+
+    /**
+     * Asserts that the rollup's totals over random ranges, and over a whole calendar year, are the totals of the
+     * expenses in those ranges.
+     */
+    private void assertRandomRangesMatchNaiveTotals(Random random) {
+        for (int i = 0; i < 200; i++) {
+            LocalDate startDate = FIRST_DATE.plusDays(random.nextInt(800));
+            LocalDate endDate = startDate.plusDays(random.nextInt(800));
+            assertAccumulateMatchesNaiveTotals(startDate, endDate);
+        }
+        assertAccumulateMatchesNaiveTotals(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31));
+    }
+
+    /**
+     * Asserts that the rollup's totals from {@code startDate} to {@code endDate} are the totals of the expenses in
+     * that range.
+     */
+    private void assertAccumulateMatchesNaiveTotals(LocalDate startDate, LocalDate endDate) {
+        long[] expectedAmounts = new long[SpendingAggregate.ALL + 1];
+        int[] expectedCounts = new int[SpendingAggregate.ALL + 1];
+        for (Expense expense : expenses) {
+            LocalDate date = expense.getDate().getLocalDate();
+            if (date.isBefore(startDate) || date.isAfter(endDate)) {
+                continue;
+            }
+            int category = expense.getCategory().ordinal();
+            expectedAmounts[category] += expense.getAmount().value;
+            expectedCounts[category]++;
+            expectedAmounts[SpendingAggregate.ALL] += expense.getAmount().value;
+            expectedCounts[SpendingAggregate.ALL]++;
+        }
+
+        long[] amounts = new long[SpendingAggregate.ALL + 1];
+        int[] counts = new int[SpendingAggregate.ALL + 1];
+        rollup.accumulate(startDate, endDate, amounts, counts);
+        assertArrayEquals(expectedAmounts, amounts);
+        assertArrayEquals(expectedCounts, counts);
+    }
+
+    /**
+     * Returns {@code date} in the format accepted by {@code ExpenseBuilder}.
+     */
+    private static String formatDate(LocalDate date) {
+        return String.format("%02d-%02d-%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+}
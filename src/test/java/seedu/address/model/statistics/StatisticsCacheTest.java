@@ -0,0 +1,82 @@
+package seedu.address.model.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalStatistics.BLANKTABLEHTMLSTATS;
+import static seedu.address.testutil.TypicalStatistics.DUCKRICETABLEHTMLSTATS;
+
+import org.junit.Test;
+
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Frequency;
+import seedu.address.testutil.Assert;
+
+public class StatisticsCacheTest {
+
+    private static final Date START_DATE = new Date("01-01-2018");
+    private static final Date END_DATE = new Date("01-01-2019");
+
+    private final FinanceTracker financeTracker = new FinanceTracker();
+    private final StatisticsCache cache = new StatisticsCache(financeTracker, 2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new StatisticsCache(financeTracker, 0));
+    }
+
+    @Test
+    public void calculateStats_sameQuery_cachedStatisticsCopied() {
+        Statistics first = cache.calculateStats("stats", START_DATE, END_DATE, null);
+        Statistics second = cache.calculateStats("stats", new Date("01-01-2018"), new Date("01-01-2019"), null);
+
+        assertTrue(second.getHtml().endsWith(BLANKTABLEHTMLSTATS));
+        assertNotSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void calculateStats_differentQueries_calculatedSeparately() {
+        cache.calculateStats("stats", START_DATE, END_DATE, null);
+        cache.calculateStats("trend", START_DATE, END_DATE, new Frequency("M"));
+        cache.calculateStats("trend", START_DATE, END_DATE, new Frequency("Y"));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void calculateStats_expenseAdded_statisticsRecalculated() {
+        cache.calculateStats("stats", START_DATE, END_DATE, null);
+        financeTracker.addExpense(DUCK_RICE);
+
+        Statistics statistics = cache.calculateStats("stats", START_DATE, END_DATE, null);
+        assertTrue(statistics.getHtml().endsWith(DUCKRICETABLEHTMLSTATS));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void calculateStats_capacityExceeded_leastRecentlyUsedEvicted() {
+        Frequency frequency = new Frequency("M");
+        cache.calculateStats("stats", START_DATE, END_DATE, null);
+        cache.calculateStats("trend", START_DATE, END_DATE, frequency);
+        cache.calculateStats("stats", START_DATE, END_DATE, null); // now the most recently used
+        cache.calculateStats("compare", START_DATE, END_DATE, frequency); // evicts trend
+
+        cache.calculateStats("stats", START_DATE, END_DATE, null);
+        cache.calculateStats("trend", START_DATE, END_DATE, frequency);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void calculateStats_nullDate_throwsNullPointerExceptionAndNothingCached() {
+        Assert.assertThrows(NullPointerException.class, () -> cache.calculateStats("stats", null, END_DATE, null));
+        Assert.assertThrows(NullPointerException.class, () -> cache.calculateStats("stats", null, END_DATE, null));
+        assertEquals(0, cache.getHitCount());
+    }
+}
@@ -14,20 +14,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.transformation.FilteredList;
+import seedu.address.model.FinanceTracker;
 import seedu.address.model.attributes.Date;
 import seedu.address.model.attributes.Frequency;
-import seedu.address.model.expense.Expense;
-import seedu.address.model.expense.ExpenseList;
 import seedu.address.testutil.Assert;
 
 public class StatisticsTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
-    private ExpenseList expenseList = new ExpenseList();
-    private FilteredList<Expense> statsExpenses = new FilteredList<Expense>(
-            expenseList.asUnmodifiableObservableList());
+    private FinanceTracker financeTracker = new FinanceTracker();
 
     @Test
     public void constructor_null_throwsNullPointerException() {
@@ -37,7 +33,7 @@ public class StatisticsTest {
 
     @Test
     public void basicStatsParametersNull_throwsNullPointerException() {
-        Statistics stats = new Statistics(statsExpenses);
+        Statistics stats = new Statistics(financeTracker);
         Date date = new Date("01-01-2019");
         //startDate cannot be null
         Assert.assertThrows(NullPointerException.class, () ->
@@ -49,7 +45,7 @@ public class StatisticsTest {
 
     @Test
     public void compareStatsParametersNull_throwsNullPointerException() {
-        Statistics stats = new Statistics(statsExpenses);
+        Statistics stats = new Statistics(financeTracker);
         Date date = new Date("01-01-2019");
         Frequency frequency = new Frequency("M");
         //date1 cannot be null
@@ -65,7 +61,7 @@ public class StatisticsTest {
 
     @Test
     public void trendStatsParametersNull_throwsNullPointerException() {
-        Statistics stats = new Statistics(statsExpenses);
+        Statistics stats = new Statistics(financeTracker);
         Date date = new Date("01-01-2019");
         Frequency frequency = new Frequency("M");
         //date1 cannot be null
@@ -81,7 +77,7 @@ public class StatisticsTest {
 
     @Test
     public void startDateAfterEndDateProducesEmptyTable() {
-        Statistics stats = new Statistics(statsExpenses);
+        Statistics stats = new Statistics(financeTracker);
         Date date1 = new Date("01-02-2019");
         Date date2 = new Date("01-01-2019");
         Frequency frequency = new Frequency("M");
@@ -102,12 +98,10 @@ public class StatisticsTest {
 
     @Test
     public void statsCommandCorrectResults() {
-        ExpenseList expenseListWithDuckRice = new ExpenseList();
-        expenseListWithDuckRice.add(DUCK_RICE);
-        FilteredList<Expense> statsExpensesWithDuckRice = new FilteredList<>(
-                expenseListWithDuckRice.asUnmodifiableObservableList());
+        FinanceTracker financeTrackerWithDuckRice = new FinanceTracker();
+        financeTrackerWithDuckRice.addExpense(DUCK_RICE);
 
-        Statistics stats = new Statistics(statsExpensesWithDuckRice);
+        Statistics stats = new Statistics(financeTrackerWithDuckRice);
         Date startDate = new Date("01-01-2018");
         Date endDate = new Date("02-01-2020");
 
@@ -132,12 +126,10 @@ public class StatisticsTest {
 
     @Test
     public void statsCompareCommandCorrectResults() {
-        ExpenseList expenseListWithDuckRice = new ExpenseList();
-        expenseListWithDuckRice.add(DUCK_RICE);
-        FilteredList<Expense> statsExpensesWithDuckRice = new FilteredList<>(
-                expenseListWithDuckRice.asUnmodifiableObservableList());
+        FinanceTracker financeTrackerWithDuckRice = new FinanceTracker();
+        financeTrackerWithDuckRice.addExpense(DUCK_RICE);
 
-        Statistics stats = new Statistics(statsExpensesWithDuckRice);
+        Statistics stats = new Statistics(financeTrackerWithDuckRice);
         Date date1 = new Date("01-01-2019");
         Date date2 = new Date("01-01-2019");
         Frequency frequency = new Frequency("M");
@@ -170,12 +162,10 @@ public class StatisticsTest {
 
     @Test
     public void statsTrendCommandCorrectResults() {
-        ExpenseList expenseListWithDuckRice = new ExpenseList();
-        expenseListWithDuckRice.add(DUCK_RICE);
-        FilteredList<Expense> statsExpensesWithDuckRice = new FilteredList<>(
-                expenseListWithDuckRice.asUnmodifiableObservableList());
+        FinanceTracker financeTrackerWithDuckRice = new FinanceTracker();
+        financeTrackerWithDuckRice.addExpense(DUCK_RICE);
 
-        Statistics stats = new Statistics(statsExpensesWithDuckRice);
+        Statistics stats = new Statistics(financeTrackerWithDuckRice);
         Date startDate = new Date("01-01-2019");
         Date endDate = new Date("02-01-2019");
         Frequency frequency = new Frequency("M");
@@ -201,5 +191,15 @@ public class StatisticsTest {
                 + EMPTYTABLEHTMLTREND));
     }
 
-
+    @Test
+    public void statsTrendCommand_moreThanTenPeriods_allPeriodsShown() {
+        FinanceTracker financeTrackerWithDuckRice = new FinanceTracker();
+        financeTrackerWithDuckRice.addExpense(DUCK_RICE);
+
+        Statistics stats = new Statistics(financeTrackerWithDuckRice);
+        stats.calculateStats("trend", new Date("01-01-2019"), new Date("13-01-2019"), new Frequency("D"));
+        String outputHtml = stats.getHtml();
+        assertTrue(outputHtml.contains("<th>12-01-2019 till End</th>"));
+        assertFalse(outputHtml.contains("Maximum periods"));
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.BudgetBuilder;
+
+public class BinarySnapshotFormatTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("folder").resolve("Snapshot.bin");
+    }
+
+    @Test
+    public void write_financeTracker_readBack() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        BinarySnapshotFormat.write(original, filePath, 1);
+
+        assertTrue(BinarySnapshotFormat.isBinarySnapshot(filePath));
+        assertEquals(1, BinarySnapshotFormat.readGeneration(filePath));
+        assertSameContents(original, BinarySnapshotFormat.read(filePath));
+    }
+
+    @Test
+    public void read_budgets_totalSpentDerivedFromExpenses() throws Exception {
+        FinanceTracker original = new FinanceTracker();
+        original.addExpense(DUCK_RICE);
+        original.addBudget(new BudgetBuilder().withCategory("food").withStartDate("01-01-2019")
+                .withEndDate("31-01-2019").build());
+        BinarySnapshotFormat.write(original, filePath, 1);
+
+        assertEquals(350, BinarySnapshotFormat.read(filePath).getBudgetList().get(0).getTotalSpent());
+    }
+
+    @Test
+    public void write_emptyFinanceTracker_readBack() throws Exception {
+        FinanceTracker original = new FinanceTracker();
+        BinarySnapshotFormat.write(original, filePath, 1);
+        assertSameContents(original, BinarySnapshotFormat.read(filePath));
+    }
+
+    @Test
+    public void isBinarySnapshot_jsonOrMissingFile_returnsFalse() throws Exception {
+        assertFalse(BinarySnapshotFormat.isBinarySnapshot(filePath));
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, "{ }".getBytes());
+        assertFalse(BinarySnapshotFormat.isBinarySnapshot(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIllegalValueException() throws Exception {
+        BinarySnapshotFormat.write(getTypicalFinanceTracker(), filePath, 1);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        Assert.assertThrows(IllegalValueException.class, () -> BinarySnapshotFormat.read(filePath));
+    }
+
+    @Test
+    public void read_corruptedFile_throwsIllegalValueException() throws Exception {
+        BinarySnapshotFormat.write(getTypicalFinanceTracker(), filePath, 1);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        Assert.assertThrows(IllegalValueException.class, () -> BinarySnapshotFormat.read(filePath));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        BinarySnapshotFormat.write(getTypicalFinanceTracker(), filePath, 1);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinarySnapshotFormat.VERSION + 1);
+        Files.write(filePath, bytes);
+        Assert.assertThrows(IllegalValueException.class, () -> BinarySnapshotFormat.read(filePath));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same elements, in the same order, as {@code expected} in each of its lists.
+     */
+    private void assertSameContents(ReadOnlyFinanceTracker expected, ReadOnlyFinanceTracker actual) {
+        assertEquals(expected.getExpenseList(), actual.getExpenseList());
+        assertEquals(expected.getDebtList(), actual.getDebtList());
+        assertEquals(expected.getBudgetList(), actual.getBudgetList());
+        assertEquals(expected.getRecurringList(), actual.getRecurringList());
+    }
+}
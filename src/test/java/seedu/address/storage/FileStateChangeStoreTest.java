@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBudgets.FOOD_BUDGET;
+import static seedu.address.testutil.TypicalDebts.AMY;
+import static seedu.address.testutil.TypicalDebts.GEORGE;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.JAPAN;
+import static seedu.address.testutil.TypicalExpenses.TAXI;
+import static seedu.address.testutil.TypicalRecurrings.RECURRING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ListEdit;
+import seedu.address.model.ListEdit.EditedList;
+
+public class FileStateChangeStoreTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void writeRead_allLists_sameEditsReturned() throws Exception {
+        FileStateChangeStore store = new FileStateChangeStore(testFolder.getRoot().toPath().resolve("history"));
+        List<ListEdit> first = Arrays.asList(
+                new ListEdit(EditedList.EXPENSES, 1, Collections.singletonList(TAXI), Arrays.asList(DUCK_RICE, JAPAN)),
+                new ListEdit(EditedList.DEBTS, 0, Arrays.asList(AMY, GEORGE), Collections.emptyList()));
+        List<ListEdit> second = Arrays.asList(
+                new ListEdit(EditedList.BUDGETS, 0, Collections.emptyList(), Collections.singletonList(FOOD_BUDGET)),
+                new ListEdit(EditedList.RECURRINGS, 2, Collections.singletonList(RECURRING),
+                        Collections.emptyList()));
+
+        long firstKey = store.write(first);
+        long secondKey = store.write(second);
+        assertEquals(second, store.read(secondKey));
+        assertEquals(first, store.read(firstKey));
+        store.close();
+    }
+
+    @Test
+    public void read_invalidKey_throwsIoException() throws Exception {
+        FileStateChangeStore store = new FileStateChangeStore(testFolder.getRoot().toPath().resolve("history"));
+        store.write(Collections.emptyList());
+        thrown.expect(IOException.class);
+        store.read(1);
+    }
+
+    @Test
+    public void close_temporaryFile_fileDeleted() throws Exception {
+        FileStateChangeStore store = new FileStateChangeStore();
+        store.write(Collections.emptyList());
+        Path spillFilePath = store.getSpillFilePath();
+        assertTrue(Files.exists(spillFilePath));
+
+        store.close();
+        assertFalse(Files.exists(spillFilePath));
+    }
+}
@@ -0,0 +1,423 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.storage.JournalFinanceTrackerStorage.DEFAULT_COMPACTION_THRESHOLD;
+import static seedu.address.testutil.TypicalDebts.AMY;
+import static seedu.address.testutil.TypicalDebts.GEORGE;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.JAPAN;
+import static seedu.address.testutil.TypicalExpenses.STOCKS;
+import static seedu.address.testutil.TypicalExpenses.TAXI;
+import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
+import static seedu.address.testutil.TypicalRecurrings.RECURRING;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Config.SnapshotFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.model.expense.Expense;
+import seedu.address.storage.JsonAdaptedJournalEntry.EntityList;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.DebtBuilder;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class JournalFinanceTrackerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JournalFinanceTrackerStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempFinanceTracker.json");
+        storage = new JournalFinanceTrackerStorage(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readFinanceTracker().isPresent());
+    }
+
+    @Test
+    public void save_firstSave_writesSnapshotWithoutJournal() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_subsequentChanges_appendedToJournalAndReplayed() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        String snapshot = new String(Files.readAllBytes(filePath));
+
+        original.addExpense(JAPAN);
+        original.removeExpense(DUCK_RICE);
+        original.setExpense(TAXI, STOCKS);
+        original.setDebt(AMY, new DebtBuilder(AMY).withRemarks("paid half").build());
+        original.removeDebt(GEORGE);
+        original.addRecurring(RECURRING);
+        storage.saveFinanceTracker(original);
+
+        // snapshot is left untouched, changes only go to the journal
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath)));
+        // the header, followed by one entry per change, except for the edit of a date, which moves the expense
+        assertEquals(8, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_wholeListReplaced_compactsIntoSnapshot() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.resetData(getTypicalFinanceTracker());
+        storage.saveFinanceTracker(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_oneListReplaced_onlyThatListSerializedIntoSnapshot() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        int serializedCount = storage.getSerializedSnapshotListCount();
+
+        original.setDebts(Arrays.asList(AMY, GEORGE));
+        storage.saveFinanceTracker(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(serializedCount + 1, storage.getSerializedSnapshotListCount());
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_expenseAdded_onlyItsMonthWrittenIntoSnapshot() throws Exception {
+        storage = new JournalFinanceTrackerStorage(filePath, 0);
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        int serializedCount = storage.getSerializedSnapshotListCount();
+
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+        assertEquals(serializedCount + 1, storage.getSerializedSnapshotListCount());
+        assertSameContents(original, storage.readFinanceTracker().get());
+
+        long monthCount = original.getExpenseList().stream()
+                .map(expense -> YearMonth.from(expense.getDate().getLocalDate()))
+                .distinct()
+                .count();
+        Path partitionDirectory = JsonFinanceTrackerReader.getExpensePartitionDirectory(filePath);
+        try (Stream<Path> partitionFiles = Files.list(partitionDirectory)) {
+            assertEquals(monthCount, partitionFiles.count());
+        }
+    }
+
+    @Test
+    public void read_partitionDoesNotMatchSnapshot_throwsDataConversionException() throws Exception {
+        storage.saveFinanceTracker(getTypicalFinanceTracker());
+        Path partitionDirectory = JsonFinanceTrackerReader.getExpensePartitionDirectory(filePath);
+        try (Stream<Path> partitionFiles = Files.list(partitionDirectory)) {
+            Files.write(partitionFiles.findFirst().get(), "[ ]".getBytes());
+        }
+
+        thrown.expect(DataConversionException.class);
+        storage.readFinanceTracker();
+    }
+
+    @Test
+    public void save_binarySnapshotFormat_compactsIntoBinarySnapshotAndReplayed() throws Exception {
+        storage = new JournalFinanceTrackerStorage(filePath, 1, SnapshotFormat.BINARY);
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        assertTrue(BinarySnapshotFormat.isBinarySnapshot(filePath));
+
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+
+        original.removeDebt(GEORGE);
+        storage.saveFinanceTracker(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+
+        // the snapshot is read back whichever format is being written
+        assertSameContents(original, new JournalFinanceTrackerStorage(filePath).readFinanceTracker().get());
+    }
+
+    @Test
+    public void read_corruptedBinarySnapshot_throwsDataConversionException() throws Exception {
+        storage = new JournalFinanceTrackerStorage(filePath, 1, SnapshotFormat.BINARY);
+        storage.saveFinanceTracker(getTypicalFinanceTracker());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        storage.readFinanceTracker();
+    }
+
+    @Test
+    public void save_listCleared_replayed() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+
+        original.setDebts(Collections.emptyList());
+        storage.saveFinanceTracker(original);
+        // the header, followed by the one entry
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        storage = new JournalFinanceTrackerStorage(filePath, 1);
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addExpense(STOCKS);
+        storage.saveFinanceTracker(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void save_differentFinanceTracker_writesSnapshot() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+
+        FinanceTracker other = new FinanceTracker();
+        other.addExpense(STOCKS);
+        storage.saveFinanceTracker(other);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(other, storage.readFinanceTracker().get());
+
+        // changes to the finance tracker that is no longer saved are not journalled
+        original.addExpense(DUCK_RICE);
+        other.addDebt(AMY);
+        storage.saveFinanceTracker(other);
+        assertSameContents(other, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void prepareSave_changedBeforeWritten_writesPreparedState() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        PendingSave snapshotSave = storage.prepareSave(original);
+        FinanceTracker expectedSnapshot = new FinanceTracker(original);
+        original.addExpense(JAPAN);
+        PendingSave journalSave = storage.prepareSave(original);
+        FinanceTracker expectedJournal = new FinanceTracker(original);
+        original.addExpense(STOCKS);
+
+        snapshotSave.write();
+        assertSameContents(expectedSnapshot, storage.readFinanceTracker().get());
+        journalSave.write();
+        assertSameContents(expectedJournal, storage.readFinanceTracker().get());
+        storage.prepareSave(original).write();
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void prepareSave_appendFailed_laterAppendsNotWrittenAndNextSaveCompacts() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.addExpense(JAPAN);
+        PendingSave failingSave = storage.prepareSave(original);
+        original.removeExpense(DUCK_RICE);
+        PendingSave skippedSave = storage.prepareSave(original);
+
+        // a directory in place of the journal cannot be appended to
+        Files.createDirectory(storage.getJournalFilePath());
+        Assert.assertThrows(FileSystemException.class, failingSave::write);
+        Files.delete(storage.getJournalFilePath());
+        Assert.assertThrows(IOException.class, skippedSave::write);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        storage.prepareSave(original).write();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void read_incompleteLastJournalEntry_ignored() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"ADD\",\"li".getBytes(),
+                StandardOpenOption.APPEND);
+        assertSameContents(original, new JournalFinanceTrackerStorage(filePath).readFinanceTracker().get());
+    }
+
+    @Test
+    public void read_journalDoesNotMatchSnapshot_throwsDataConversionException() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.removeExpense(DUCK_RICE);
+        storage.saveFinanceTracker(original);
+
+        // the removed expense no longer exists when its removal is replayed again
+        Path journalFilePath = storage.getJournalFilePath();
+        List<String> lines = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, Collections.singletonList(lines.get(lines.size() - 1)),
+                StandardOpenOption.APPEND);
+        thrown.expect(DataConversionException.class);
+        storage.readFinanceTracker();
+    }
+
+    @Test
+    public void read_journalOfEarlierSnapshot_ignored() throws Exception {
+        assertJournalOfEarlierSnapshotIgnored(SnapshotFormat.JSON);
+        assertJournalOfEarlierSnapshotIgnored(SnapshotFormat.BINARY);
+    }
+
+    @Test
+    public void read_journalWithoutHeaderOfSnapshotWithoutGeneration_replayed() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        new JsonFinanceTrackerStorage(filePath).saveFinanceTracker(original);
+        Files.write(storage.getJournalFilePath(), Collections.singletonList(JsonUtil.toCompactJsonString(
+                new JsonAdaptedJournalEntry(Operation.ADD, EntityList.EXPENSES, JAPAN, null))));
+
+        original.addExpense(JAPAN);
+        assertSameContents(original, storage.readFinanceTracker().get());
+    }
+
+    @Test
+    public void read_recentExpenseMonths_earlierMonthsLoadedOnDemand() throws Exception {
+        FinanceTracker original = getFinanceTrackerOverMonths();
+        storage.saveFinanceTracker(original);
+
+        storage = new JournalFinanceTrackerStorage(filePath, 0, SnapshotFormat.JSON, 2);
+        FinanceTracker readBack = new FinanceTracker(storage.readFinanceTracker().get());
+        assertEquals(original.getExpenseList().subList(0, 2), readBack.getExpenseList());
+
+        readBack.loadExpensesFrom(original.getExpenseList().get(2).getDate());
+        assertEquals(original.getExpenseList().subList(0, 3), readBack.getExpenseList());
+
+        // the snapshot written still holds the months that are archived
+        storage.saveFinanceTracker(readBack);
+        assertSameContents(original, new JournalFinanceTrackerStorage(filePath).readFinanceTracker().get());
+        readBack.loadAllExpenses();
+        assertSameContents(original, readBack);
+    }
+
+    @Test
+    public void save_expenseOfArchivedMonthRemoved_onlyRemovalJournalled() throws Exception {
+        FinanceTracker original = getFinanceTrackerOverMonths();
+        storage.saveFinanceTracker(original);
+        storage = new JournalFinanceTrackerStorage(filePath, DEFAULT_COMPACTION_THRESHOLD, SnapshotFormat.JSON, 1);
+        FinanceTracker readBack = new FinanceTracker(storage.readFinanceTracker().get());
+        storage.saveFinanceTracker(readBack);
+
+        Expense earliestExpense = original.getExpenseList().get(3);
+        readBack.removeExpense(earliestExpense);
+        storage.saveFinanceTracker(readBack);
+        // the header, and the removal
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.removeExpense(earliestExpense);
+        assertSameContents(original, readBack);
+        FinanceTracker replayed = new FinanceTracker(new JournalFinanceTrackerStorage(filePath,
+                DEFAULT_COMPACTION_THRESHOLD, SnapshotFormat.JSON, 1).readFinanceTracker().get());
+        replayed.loadAllExpenses();
+        assertSameContents(original, replayed);
+    }
+
+    /**
+     * Returns a finance tracker with an expense in this month, last month, half a year ago and two years ago.
+     */
+    private FinanceTracker getFinanceTrackerOverMonths() {
+        LocalDate today = LocalDate.now();
+        FinanceTracker financeTracker = new FinanceTracker();
+        financeTracker.addExpense(new ExpenseBuilder().withName("This month").withDate(format(today)).build());
+        financeTracker.addExpense(new ExpenseBuilder().withName("Last month")
+                .withDate(format(today.minusMonths(1))).build());
+        financeTracker.addExpense(new ExpenseBuilder().withName("Half a year ago")
+                .withDate(format(today.minusMonths(6))).build());
+        financeTracker.addExpense(new ExpenseBuilder().withName("Two years ago")
+                .withDate(format(today.minusYears(2))).build());
+        return financeTracker;
+    }
+
+    private static String format(LocalDate date) {
+        return date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+    }
+
+    /**
+     * Asserts that a journal left next to the snapshot written in {@code snapshotFormat} that compacted it, as if
+     * the compaction was interrupted before the journal was deleted, is not replayed onto that snapshot.
+     */
+    private void assertJournalOfEarlierSnapshotIgnored(SnapshotFormat snapshotFormat) throws Exception {
+        Files.deleteIfExists(storage.getJournalFilePath());
+        storage = new JournalFinanceTrackerStorage(filePath, 1, snapshotFormat);
+        FinanceTracker original = getTypicalFinanceTracker();
+        storage.saveFinanceTracker(original);
+        original.addExpense(JAPAN);
+        storage.saveFinanceTracker(original);
+        byte[] staleJournal = Files.readAllBytes(storage.getJournalFilePath());
+
+        original.addExpense(STOCKS);
+        storage.saveFinanceTracker(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        Files.write(storage.getJournalFilePath(), staleJournal);
+        storage = new JournalFinanceTrackerStorage(filePath, 1, snapshotFormat);
+        FinanceTracker readBack = new FinanceTracker(storage.readFinanceTracker().get());
+        assertSameContents(original, readBack);
+
+        // the first save after starting up compacts, so later changes are not appended to the ignored journal
+        storage.saveFinanceTracker(readBack);
+        readBack.removeExpense(DUCK_RICE);
+        storage.saveFinanceTracker(readBack);
+        assertSameContents(readBack, new JournalFinanceTrackerStorage(filePath).readFinanceTracker().get());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same elements, in the same order, as {@code expected} in each of its lists.
+     */
+    private void assertSameContents(ReadOnlyFinanceTracker expected, ReadOnlyFinanceTracker actual) {
+        assertEquals(expected.getExpenseList(), actual.getExpenseList());
+        assertEquals(expected.getDebtList(), actual.getDebtList());
+        assertEquals(expected.getBudgetList(), actual.getBudgetList());
+        assertEquals(expected.getRecurringList(), actual.getRecurringList());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.testutil.Assert;
+
+public class JsonAdaptedExpensePartitionTest {
+
+    private static final Path DIRECTORY = Paths.get("data", "expenses");
+
+    @Test
+    public void getMonth_validMonth_returnsMonth() throws Exception {
+        JsonAdaptedExpensePartition partition = new JsonAdaptedExpensePartition(YearMonth.of(2019, 3),
+                "2019-03.1.json", 2, 300);
+        assertEquals(YearMonth.of(2019, 3), partition.getMonth());
+        assertEquals(DIRECTORY.resolve("2019-03.1.json"), partition.getFile(DIRECTORY));
+    }
+
+    @Test
+    public void getMonth_invalidMonth_throwsIllegalValueException() {
+        JsonAdaptedExpensePartition nullMonth = new JsonAdaptedExpensePartition((String) null, "2019-03.1.json", 2,
+                300);
+        Assert.assertThrows(IllegalValueException.class, nullMonth::getMonth);
+        JsonAdaptedExpensePartition invalidMonth = new JsonAdaptedExpensePartition("March", "2019-03.1.json", 2, 300);
+        Assert.assertThrows(IllegalValueException.class, invalidMonth::getMonth);
+    }
+
+    @Test
+    public void getFile_fileOutsideDirectory_throwsIllegalValueException() {
+        JsonAdaptedExpensePartition partition = new JsonAdaptedExpensePartition("2019-03", "../../config.json", 2,
+                300);
+        Assert.assertThrows(IllegalValueException.class, () -> partition.getFile(DIRECTORY));
+    }
+
+    @Test
+    public void checkContents_mismatch_throwsIllegalValueException() throws Exception {
+        JsonAdaptedExpensePartition partition = new JsonAdaptedExpensePartition(YearMonth.of(2019, 3),
+                "2019-03.1.json", 2, 300);
+        partition.checkContents(2, 300);
+        Assert.assertThrows(IllegalValueException.class, () -> partition.checkContents(1, 300));
+        Assert.assertThrows(IllegalValueException.class, () -> partition.checkContents(2, 299));
+    }
+}
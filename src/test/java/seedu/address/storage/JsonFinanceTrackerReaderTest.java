@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FinanceTracker;
+import seedu.address.testutil.TypicalFinanceTracker;
+
+public class JsonFinanceTrackerReaderTest {
+
+    private static final Path TYPICAL_FINANCE_TRACKER_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableFinanceTrackerTest", "typicalFinanceTracker.json");
+    private static final String VALID_EXPENSE = "{\"name\":\"Duck Rice\",\"amount\":\"3.50\","
+            + "\"date\":\"01-01-2019\",\"category\":\"food\",\"remarks\":\"\"}";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_typicalFinanceTrackerFile_success() throws Exception {
+        FinanceTracker financeTrackerFromFile = JsonFinanceTrackerReader.read(TYPICAL_FINANCE_TRACKER_FILE);
+        FinanceTracker typicalFinanceTracker = TypicalFinanceTracker.getTypicalFinanceTracker();
+        assertEquals(typicalFinanceTracker, financeTrackerFromFile);
+    }
+
+    @Test
+    public void read_unknownAndMissingFields_ignored() throws Exception {
+        FinanceTracker financeTracker = JsonFinanceTrackerReader.read(writeTempFile("{\"_comment\":{\"a\":[1,2]},"
+                + "\"expenses\":[" + VALID_EXPENSE + "],\"debts\":null}"));
+        assertEquals(1, financeTracker.getExpenseList().size());
+        assertTrue(financeTracker.getDebtList().isEmpty());
+        assertTrue(financeTracker.getBudgetList().isEmpty());
+    }
+
+    @Test
+    public void read_listNotArray_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        JsonFinanceTrackerReader.read(writeTempFile("{\"expenses\":" + VALID_EXPENSE + "}"));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        JsonFinanceTrackerReader.read(writeTempFile("{\"expenses\":[" + VALID_EXPENSE + ","));
+    }
+
+    @Test
+    public void read_nullElement_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        JsonFinanceTrackerReader.read(writeTempFile("{\"expenses\":[" + VALID_EXPENSE + ",null]}"));
+    }
+
+    /**
+     * Writes {@code content} to a temporary file and returns its path.
+     */
+    private Path writeTempFile(String content) throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempFinanceTracker.json");
+        Files.write(filePath, content.getBytes("UTF-8"));
+        return filePath;
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBudgets.getTypicalBudgets;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.LAPTOP;
+import static seedu.address.testutil.TypicalExpenses.TV;
+import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.ReadOnlyFinanceTracker;
+import seedu.address.testutil.BudgetBuilder;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class JsonSnapshotWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final SnapshotVersions versions = new SnapshotVersions();
+    private Path filePath;
+    private JsonSnapshotWriter writer;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("folder").resolve("Snapshot.json");
+        writer = new JsonSnapshotWriter(filePath);
+        versions.changeAll();
+    }
+
+    @Test
+    public void write_financeTracker_expensesPartitionedByMonthAndReadBack() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+
+        assertSameContents(original, readBack());
+        assertEquals(1, JsonFinanceTrackerReader.readGeneration(filePath));
+        assertFalse(new String(Files.readAllBytes(filePath)).contains(DUCK_RICE.getName().toString()));
+        assertEquals(getMonths(original).size(), getPartitionFiles().size());
+        assertEquals(getMonths(original).size() + 3, writer.getSerializedSegmentCount());
+    }
+
+    @Test
+    public void write_expenseOfOneMonthEdited_onlyThatPartitionReplaced() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+        List<Path> partitionFiles = getPartitionFiles();
+        int serializedCount = writer.getSerializedSegmentCount();
+
+        YearMonth editedMonth = YearMonth.from(DUCK_RICE.getDate().getLocalDate());
+        original.setExpense(DUCK_RICE, new ExpenseBuilder(DUCK_RICE).withAmount("9.99").build());
+        versions.changeExpenseMonth(editedMonth);
+        writer.write(original, versions, 1);
+
+        assertEquals(serializedCount + 1, writer.getSerializedSegmentCount());
+        List<Path> newPartitionFiles = getPartitionFiles();
+        assertEquals(partitionFiles.size(), newPartitionFiles.size());
+        partitionFiles.removeAll(newPartitionFiles);
+        assertEquals(1, partitionFiles.size());
+        assertTrue(partitionFiles.get(0).getFileName().toString().startsWith(editedMonth.toString()));
+        assertSameContents(original, readBack());
+    }
+
+    @Test
+    public void write_versionsUnchanged_segmentsReusedByteForByte() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+        String written = new String(Files.readAllBytes(filePath));
+        int serializedCount = writer.getSerializedSegmentCount();
+
+        // the budgets are written as they were at their version, even though the list has changed since
+        original.setBudgets(getTypicalBudgets().subList(0, 1));
+        writer.write(original, versions, 1);
+        assertEquals(serializedCount, writer.getSerializedSegmentCount());
+        assertEquals(written, new String(Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void write_allExpensesRemoved_partitionFilesDeleted() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+
+        original.setExpenses(Collections.emptyList());
+        versions.changeAll();
+        writer.write(original, versions, 1);
+        assertTrue(getPartitionFiles().isEmpty());
+        assertSameContents(original, readBack());
+    }
+
+    @Test
+    public void write_expensesArchived_archivedPartitionsDescribedWithoutReading() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+
+        FinanceTracker lazilyRead = JsonFinanceTrackerReader.read(filePath, YearMonth.of(2019, 1));
+        assertFalse(lazilyRead.getExpenseList().contains(LAPTOP));
+        assertFalse(lazilyRead.getExpenseList().contains(TV));
+        assertEquals(YearMonth.of(2019, 1), lazilyRead.getExpenseArchive().get().getEnd());
+
+        // a new writer has no partitions to reuse, so it writes every month loaded, and only those
+        JsonSnapshotWriter newWriter = new JsonSnapshotWriter(filePath);
+        newWriter.write(lazilyRead, versions, 2);
+        assertEquals(1 + 3, newWriter.getSerializedSegmentCount());
+        assertEquals(getMonths(original).size(), getPartitionFiles().size());
+        assertSameContents(original, readBack());
+
+        lazilyRead.loadAllExpenses();
+        assertSameContents(original, lazilyRead);
+    }
+
+    @Test
+    public void write_expensesArchivedInAnotherDirectory_archivedExpensesWritten() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        writer.write(original, versions, 1);
+        FinanceTracker lazilyRead = JsonFinanceTrackerReader.read(filePath, YearMonth.of(2019, 1));
+
+        filePath = testFolder.getRoot().toPath().resolve("other").resolve("Snapshot.json");
+        new JsonSnapshotWriter(filePath).write(lazilyRead, versions, 2);
+        assertEquals(getMonths(original).size(), getPartitionFiles().size());
+        assertSameContents(original, readBack());
+    }
+
+    @Test
+    public void read_budgetBeforeLoadedMonths_monthsCoveredRead() throws Exception {
+        FinanceTracker original = getTypicalFinanceTracker();
+        original.addBudget(new BudgetBuilder().withCategory("work").withStartDate("01-12-2018")
+                .withEndDate("31-12-2018").build());
+        writer.write(original, versions, 1);
+
+        FinanceTracker lazilyRead = JsonFinanceTrackerReader.read(filePath, YearMonth.of(2019, 1));
+        assertTrue(lazilyRead.getExpenseList().contains(LAPTOP));
+        assertFalse(lazilyRead.getExpenseList().contains(TV));
+        assertEquals(original.getBudgetList(), lazilyRead.getBudgetList());
+    }
+
+    /**
+     * Returns the finance tracker read back from the file written.
+     */
+    private ReadOnlyFinanceTracker readBack() throws Exception {
+        return new JsonFinanceTrackerStorage(filePath).readFinanceTracker().get();
+    }
+
+    /**
+     * Returns the files in the expense partition directory of the file written.
+     */
+    private List<Path> getPartitionFiles() throws Exception {
+        try (Stream<Path> files = Files.list(JsonFinanceTrackerReader.getExpensePartitionDirectory(filePath))) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the distinct months of the expenses of {@code financeTracker}.
+     */
+    private List<YearMonth> getMonths(ReadOnlyFinanceTracker financeTracker) {
+        return financeTracker.getExpenseList().stream()
+                .map(expense -> YearMonth.from(expense.getDate().getLocalDate()))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Asserts that {@code actual} has the same elements, in the same order, as {@code expected} in each of its lists.
+     */
+    private void assertSameContents(ReadOnlyFinanceTracker expected, ReadOnlyFinanceTracker actual) {
+        assertEquals(expected.getExpenseList(), actual.getExpenseList());
+        assertEquals(expected.getDebtList(), actual.getDebtList());
+        assertEquals(expected.getBudgetList(), actual.getBudgetList());
+        assertEquals(expected.getRecurringList(), actual.getRecurringList());
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenses.CHICKEN_RICE;
+import static seedu.address.testutil.TypicalExpenses.DOCTOR;
+import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
+import static seedu.address.testutil.TypicalExpenses.JAPAN;
+import static seedu.address.testutil.TypicalExpenses.STOCKS;
+import static seedu.address.testutil.TypicalExpenses.TAXI;
+import static seedu.address.testutil.TypicalFinanceTracker.getTypicalFinanceTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.FinanceTracker;
+import seedu.address.model.VersionedFinanceTracker;
+import seedu.address.model.attributes.Amount;
+import seedu.address.model.attributes.Category;
+import seedu.address.model.attributes.Date;
+import seedu.address.model.attributes.Name;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseList;
+import seedu.address.model.expense.exceptions.ExpenseStoreFullException;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class MappedExpenseStoreTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private MappedExpenseStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        store = new MappedExpenseStore(testFolder.getRoot().toPath());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    public void modify_randomOperations_sameAsArrayList() {
+        Random random = new Random(1);
+        List<Expense> expected = new ArrayList<>();
+        // enough expenses for the files to be mapped again as they grow
+        for (int i = 0; i < 5000; i++) {
+            Expense expense = createRandomExpense(random);
+            int index = random.nextInt(expected.size() + 1);
+            expected.add(index, expense);
+            store.add(index, expense);
+        }
+        for (int i = 0; i < 500; i++) {
+            int index = random.nextInt(expected.size());
+            Expense expense = createRandomExpense(random);
+            assertEquals(expected.set(index, expense), store.set(index, expense));
+            index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), store.remove(index));
+        }
+        expected.subList(100, 2000).clear();
+        store.subList(100, 2000).clear();
+
+        assertEquals(expected, store);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getAmount().value, store.getCents(i));
+            assertEquals(expected.get(i).getDate().getLocalDate().toEpochDay(), store.getEpochDay(i));
+        }
+    }
+
+    @Test
+    public void get_expensesWithSameName_nameShared() {
+        store.add(DUCK_RICE);
+        store.add(new ExpenseBuilder(DUCK_RICE).withAmount("9.99").withRemarks("large").build());
+        assertSame(store.get(0).getName(), store.get(1).getName());
+        assertEquals(DUCK_RICE, store.get(0));
+    }
+
+    @Test
+    public void clear_thenAdd_expensesReadBack() {
+        store.addAll(Arrays.asList(DUCK_RICE, TAXI));
+        store.clear();
+        assertTrue(store.isEmpty());
+
+        store.addAll(Arrays.asList(CHICKEN_RICE, DUCK_RICE));
+        assertEquals(Arrays.asList(CHICKEN_RICE, DUCK_RICE), store);
+    }
+
+    @Test
+    public void set_sameRemarksRepeatedly_storeDoesNotGrow() throws Exception {
+        try (MappedExpenseStore smallStore = new MappedExpenseStore(testFolder.getRoot().toPath(), 4096)) {
+            String remarks = String.join("", Collections.nCopies(1000, "r"));
+            smallStore.add(new ExpenseBuilder(DUCK_RICE).withRemarks(remarks).build());
+            for (int i = 1; i <= 100; i++) {
+                smallStore.set(0, new ExpenseBuilder(DUCK_RICE).withAmount(i + ".00").withRemarks(remarks).build());
+            }
+            smallStore.set(0, new ExpenseBuilder(DUCK_RICE).withRemarks("shorter").build());
+
+            assertEquals(new ExpenseBuilder(DUCK_RICE).withRemarks("shorter").build(), smallStore.get(0));
+        }
+    }
+
+    @Test
+    public void add_storeFull_throwsExpenseStoreFullExceptionAndStoreUnchanged() throws Exception {
+        try (MappedExpenseStore smallStore = new MappedExpenseStore(testFolder.getRoot().toPath(), 4096)) {
+            // only two of these fit in the string heap
+            Expense longRemarksExpense = new ExpenseBuilder(DUCK_RICE)
+                    .withRemarks(String.join("", Collections.nCopies(1500, "r"))).build();
+            smallStore.addAll(Arrays.asList(longRemarksExpense, TAXI, longRemarksExpense));
+            List<Expense> expected = new ArrayList<>(smallStore);
+
+            Assert.assertThrows(ExpenseStoreFullException.class, () -> smallStore.add(1, longRemarksExpense));
+            assertEquals(expected, smallStore);
+            Assert.assertThrows(ExpenseStoreFullException.class, () -> smallStore.set(1, longRemarksExpense));
+            assertEquals(expected, smallStore);
+        }
+    }
+
+    @Test
+    public void scan_range_visitsFieldsInOrder() {
+        store.addAll(Arrays.asList(DUCK_RICE, TAXI, DOCTOR, STOCKS));
+        List<String> visited = new ArrayList<>();
+        store.scan(1, 3, (cents, epochDay, category) -> visited.add(cents + " " + epochDay + " " + category));
+        assertEquals(Arrays.asList(TAXI, DOCTOR).stream()
+                .map(expense -> expense.getAmount().value + " " + expense.getDate().getLocalDate().toEpochDay() + " "
+                        + expense.getCategory())
+                .collect(Collectors.toList()), visited);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> store.scan(2, 5, (cents, epochDay, category) -> {
+        }));
+    }
+
+    @Test
+    public void close_filesDeleted() throws Exception {
+        store.add(DUCK_RICE);
+        store.close();
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test
+    public void expenseList_backedByStore_sameAsOnHeap() {
+        ExpenseList mappedList = new ExpenseList(store);
+        ExpenseList heapList = new ExpenseList();
+        for (ExpenseList expenseList : Arrays.asList(mappedList, heapList)) {
+            expenseList.addAll(Arrays.asList(DUCK_RICE, TAXI, DOCTOR, CHICKEN_RICE));
+            expenseList.add(STOCKS);
+            expenseList.setExpense(DUCK_RICE, new ExpenseBuilder(DUCK_RICE).withDate("01-04-2019").build());
+            expenseList.setExpense(TAXI, new ExpenseBuilder(TAXI).withRemarks("airport").build());
+            expenseList.remove(DOCTOR);
+        }
+
+        assertEquals(heapList.asUnmodifiableObservableList(), mappedList.asUnmodifiableObservableList());
+        assertTrue(mappedList.contains(new ExpenseBuilder(STOCKS).withCategory("WORK").build()));
+        assertFalse(mappedList.contains(DOCTOR));
+        Date startDate = new Date("01-01-2019");
+        Date endDate = new Date("03-03-2019");
+        assertEquals(heapList.expensesBetween(startDate, endDate), mappedList.expensesBetween(startDate, endDate));
+        for (Category category : Category.values()) {
+            assertEquals(heapList.totalSpentBetween(category, startDate, endDate),
+                    mappedList.totalSpentBetween(category, startDate, endDate));
+        }
+    }
+
+    @Test
+    public void versionedFinanceTracker_backedByStore_undoAndRedoChanges() {
+        FinanceTracker typicalFinanceTracker = getTypicalFinanceTracker();
+        VersionedFinanceTracker financeTracker = new VersionedFinanceTracker(typicalFinanceTracker,
+                new ExpenseList(store), null, Integer.MAX_VALUE, Long.MAX_VALUE);
+        assertEquals(typicalFinanceTracker.getExpenseList(), financeTracker.getExpenseList());
+
+        financeTracker.addExpense(JAPAN);
+        financeTracker.removeExpense(TAXI);
+        financeTracker.commit();
+        List<Expense> changedExpenses = new ArrayList<>(financeTracker.getExpenseList());
+
+        financeTracker.undo();
+        assertEquals(typicalFinanceTracker.getExpenseList(), financeTracker.getExpenseList());
+        assertEquals(typicalFinanceTracker.getBudgetList(), financeTracker.getBudgetList());
+        financeTracker.redo();
+        assertEquals(changedExpenses, financeTracker.getExpenseList());
+    }
+
+    @Test
+    public void expenseList_storeNotEmpty_throwsIllegalArgumentException() {
+        store.add(DUCK_RICE);
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ExpenseList(store));
+    }
+
+    /**
+     * Returns an expense with one of a few names, and a random date, category, amount and possibly remarks.
+     */
+    private static Expense createRandomExpense(Random random) {
+        Category[] categories = Category.values();
+        LocalDate date = LocalDate.of(2019, 1, 1).plusDays(random.nextInt(800));
+        return new Expense(new Name("Expense " + random.nextInt(20)), new Amount(random.nextInt(1000000) + 1),
+                new Date(date), categories[random.nextInt(categories.length)],
+                random.nextBoolean() ? null : "remarks " + random.nextInt());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.testutil;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseArchive;
+
+/**
+ * An {@code ExpenseArchive} that holds its expenses in memory, and counts the expenses read from it.
+ */
+public class ExpenseArchiveStub implements ExpenseArchive {
+
+    private final List<Expense> expenses;
+    private final int[] readCount;
+
+    public ExpenseArchiveStub(Expense... expenses) {
+        this(Arrays.asList(expenses), new int[1]);
+    }
+
+    private ExpenseArchiveStub(List<Expense> expenses, int[] readCount) {
+        this.expenses = new ArrayList<>(expenses);
+        this.readCount = readCount;
+    }
+
+    /**
+     * Returns the number of expenses read from this archive and from the archives of its earlier months.
+     */
+    public int getReadCount() {
+        return readCount[0];
+    }
+
+    @Override
+    public YearMonth getEnd() {
+        return expenses.stream().map(ExpenseArchiveStub::getMonth).max(YearMonth::compareTo).get().plusMonths(1);
+    }
+
+    @Override
+    public List<Expense> readFrom(YearMonth month) {
+        List<Expense> read = expenses.stream()
+                .filter(expense -> !getMonth(expense).isBefore(month))
+                .collect(Collectors.toList());
+        readCount[0] += read.size();
+        return read;
+    }
+
+    @Override
+    public Optional<ExpenseArchive> before(YearMonth month) {
+        List<Expense> earlierExpenses = expenses.stream()
+                .filter(expense -> getMonth(expense).isBefore(month))
+                .collect(Collectors.toList());
+        if (earlierExpenses.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExpenseArchiveStub(earlierExpenses, readCount));
+    }
+
+    private static YearMonth getMonth(Expense expense) {
+        return YearMonth.from(expense.getDate().getLocalDate());
+    }
+
+}
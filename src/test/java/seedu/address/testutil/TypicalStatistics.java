@@ -104,13 +104,13 @@ public class TypicalStatistics {
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>FOOD</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "    <th>1</th>\n"
             + "    <th>100.00</th>\n"
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>ALL</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "    <th>1</th>\n"
             + "    <th>100.00</th>\n"
             + "  </tr>\n"
@@ -126,13 +126,13 @@ public class TypicalStatistics {
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>FOOD</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "    <th>1</th>\n"
             + "    <th>100.00</th>\n"
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>ALL</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "    <th>1</th>\n"
             + "    <th>100.00</th>\n"
             + "  </tr>\n"
@@ -146,7 +146,7 @@ public class TypicalStatistics {
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>FOOD</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>TRANSPORT</th>\n"
@@ -182,7 +182,7 @@ public class TypicalStatistics {
             + "  </tr>\n"
             + "  <tr>\n"
             + "    <th>ALL</th>\n"
-            + "    <th>3.00</th>\n"
+            + "    <th>3.50</th>\n"
             + "  </tr>\n"
             + "</table><br>Counts: <br><table style=\"width:100%\">\n"
             + "  <tr>\n"
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -21,6 +22,7 @@ public class CommandBoxTest extends GuiUnitTest {
     private ArrayList<String> defaultStyleOfCommandBox;
     private ArrayList<String> errorStyleOfCommandBox;
     private final ArrayList<String> history = new ArrayList<>();
+    private int cancelCount;
 
     private CommandBoxHandle commandBoxHandle;
 
@@ -28,11 +30,14 @@ public class CommandBoxTest extends GuiUnitTest {
     public void setUp() {
         CommandBox commandBox = new CommandBox(commandText -> {
             history.add(commandText);
+            CompletableFuture<CommandResult> result = new CompletableFuture<>();
             if (commandText.equals(COMMAND_THAT_SUCCEEDS)) {
-                return new CommandResult("Command successful");
+                result.complete(new CommandResult("Command successful"));
+            } else {
+                result.completeExceptionally(new CommandException("Command failed"));
             }
-            throw new CommandException("Command failed");
-        }, history);
+            return result;
+        }, () -> cancelCount++, history);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
         uiPartRule.setUiPart(commandBox);
@@ -66,6 +71,7 @@ public class CommandBoxTest extends GuiUnitTest {
         assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
         guiRobot.push(KeyCode.ESCAPE);
         assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
+        assertEquals(1, cancelCount);
 
         guiRobot.push(KeyCode.A);
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
@@ -27,6 +27,13 @@ public class DebtCardTest extends GuiUnitTest {
         debtCard = new DebtCard(debtWithRemarks, 2);
         uiPartRule.setUiPart(debtCard);
         assertCardDisplay(debtCard, debtWithRemarks, 2);
+
+        // rebound to another debt
+        Debt otherDebt = new DebtBuilder().withPersonOwed("Bob").withAmount("4.00").build();
+        DebtCard reboundCard = debtCard;
+        guiRobot.interact(() -> reboundCard.setDebt(otherDebt, 3));
+        assertCardDisplay(reboundCard, otherDebt, 3);
+        assertTrue(reboundCard.equals(new DebtCard(otherDebt, 3)));
     }
 
     @Test
@@ -27,6 +27,13 @@ public class ExpenseCardTest extends GuiUnitTest {
         expenseCard = new ExpenseCard(expenseWithRemarks, 2);
         uiPartRule.setUiPart(expenseCard);
         assertCardDisplay(expenseCard, expenseWithRemarks, 2);
+
+        // rebound to another expense
+        Expense otherExpense = new ExpenseBuilder().withName("Chicken Rice").withAmount("4.00").build();
+        ExpenseCard reboundCard = expenseCard;
+        guiRobot.interact(() -> reboundCard.setExpense(otherExpense, 3));
+        assertCardDisplay(reboundCard, otherExpense, 3);
+        assertTrue(reboundCard.equals(new ExpenseCard(otherExpense, 3)));
     }
 
     @Test
@@ -3,7 +3,10 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalExpenses.DUCK_RICE;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_RUNNING;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_SAVING;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
+import static seedu.address.ui.StatusBarFooter.UNDO_HISTORY_STATUS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,6 +21,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import seedu.address.model.FinanceTracker;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -30,6 +35,9 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     private StatusBarFooterHandle statusBarFooterHandle;
     private final FinanceTracker financeTracker = new FinanceTracker();
+    private final SimpleIntegerProperty undoHistorySizeInMemory = new SimpleIntegerProperty();
+    private final SimpleBooleanProperty saving = new SimpleBooleanProperty();
+    private final SimpleBooleanProperty commandRunning = new SimpleBooleanProperty();
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -45,7 +53,8 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, financeTracker);
+        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, financeTracker,
+                undoHistorySizeInMemory, saving, commandRunning);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -62,6 +71,48 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_undoHistorySizeChanged_undoHistoryStatusUpdated() {
+        assertEquals(String.format(UNDO_HISTORY_STATUS, 0), statusBarFooterHandle.getUndoHistoryStatus());
+
+        guiRobot.interact(() -> undoHistorySizeInMemory.set(3));
+        assertEquals(String.format(UNDO_HISTORY_STATUS, 3), statusBarFooterHandle.getUndoHistoryStatus());
+    }
+
+    @Test
+    public void display_savingChanged_syncStatusUpdated() {
+        String savedStatus = String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString());
+
+        guiRobot.interact(() -> saving.set(true));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_SAVING);
+
+        // updated while saving
+        guiRobot.interact(() -> financeTracker.addExpense(DUCK_RICE));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_SAVING);
+
+        guiRobot.interact(() -> saving.set(false));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), savedStatus);
+    }
+
+    @Test
+    public void display_commandRunningChanged_syncStatusUpdated() {
+        String savedStatus = String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString());
+
+        guiRobot.interact(() -> commandRunning.set(true));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_RUNNING);
+
+        // the running command takes precedence over saving
+        guiRobot.interact(() -> saving.set(true));
+        guiRobot.interact(() -> financeTracker.addExpense(DUCK_RICE));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_RUNNING);
+
+        guiRobot.interact(() -> commandRunning.set(false));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_SAVING);
+
+        guiRobot.interact(() -> saving.set(false));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), savedStatus);
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VIEW;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_RUNNING;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_SAVING;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 import static seedu.address.ui.testutil.GuiTestAssert.assertListMatching;
 
@@ -21,6 +23,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 
+import guitests.GuiRobot;
 import guitests.guihandles.BrowserPanelHandle;
 import guitests.guihandles.BudgetCardHandle;
 import guitests.guihandles.BudgetListPanelHandle;
@@ -155,6 +158,15 @@ public abstract class FinanceTrackerSystemTest {
         mainWindowHandle.getCommandBox().run(command);
 
         waitUntilBrowserLoaded(getBrowserPanel());
+        waitUntilSaved(getStatusBarFooter());
+    }
+
+    /**
+     * Waits until the last command has finished running and its changes have been saved in the background.
+     */
+    private static void waitUntilSaved(StatusBarFooterHandle statusBarFooterHandle) {
+        new GuiRobot().waitForEvent(() -> !SYNC_STATUS_RUNNING.equals(statusBarFooterHandle.getSyncStatus())
+                && !SYNC_STATUS_SAVING.equals(statusBarFooterHandle.getSyncStatus()));
     }
 
     /**